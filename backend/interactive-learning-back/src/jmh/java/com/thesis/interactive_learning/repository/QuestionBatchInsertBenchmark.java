@@ -0,0 +1,108 @@
+package com.thesis.interactive_learning.repository;
+
+import com.thesis.interactive_learning.model.Question;
+import com.thesis.interactive_learning.model.QuestionOptionsConverter;
+import com.thesis.interactive_learning.model.Quiz;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persisting a generated quiz against an embedded H2 database (MySQL mode).
+ * {@code perRowInserts} issues the same statements Hibernate does for IDENTITY ids:
+ * one insert (and generated-key read) per question.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionBatchInsertBenchmark {
+
+    @Param({"10", "50"})
+    private int questionCount;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private QuestionRepositoryCustomImpl questionRepository;
+    private Quiz quiz;
+    private final QuestionOptionsConverter optionsConverter = new QuestionOptionsConverter();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:questions;MODE=MySQL", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE quizzes (id BIGINT AUTO_INCREMENT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE questions (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "question_text TEXT NOT NULL, explanation TEXT, options_json TEXT, correct_option_index INT NOT NULL, " +
+                "source_text TEXT, source_page INT, quiz_id BIGINT, difficulty_level INT, question_type VARCHAR(50))");
+        jdbcTemplate.update("INSERT INTO quizzes () VALUES ()");
+
+        questionRepository = new QuestionRepositoryCustomImpl(jdbcTemplate);
+        quiz = new Quiz();
+        quiz.setId(1L);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE questions");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<Question> perRowInserts() {
+        List<Question> questions = buildQuestions();
+        for (Question question : questions) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(
+                        QuestionRepositoryCustomImpl.INSERT_QUESTION, new String[]{"id"});
+                ps.setString(1, question.getQuestionText());
+                ps.setString(2, question.getExplanation());
+                ps.setString(3, optionsConverter.convertToDatabaseColumn(question.getOptions()));
+                ps.setInt(4, question.getCorrectOptionIndex());
+                ps.setString(5, question.getSourceText());
+                ps.setObject(6, question.getSourcePage());
+                ps.setLong(7, quiz.getId());
+                ps.setObject(8, question.getDifficultyLevel());
+                ps.setString(9, question.getQuestionType());
+                return ps;
+            }, keyHolder);
+            question.setId(keyHolder.getKey().longValue());
+        }
+        return questions;
+    }
+
+    @Benchmark
+    public List<Question> batchInsert() {
+        return questionRepository.insertAllInBatch(buildQuestions());
+    }
+
+    private List<Question> buildQuestions() {
+        List<Question> questions = new ArrayList<>(questionCount);
+        for (int i = 0; i < questionCount; i++) {
+            Question question = new Question();
+            question.setQuestionText("What is the role of organelle " + i + " in the cell?");
+            question.setExplanation("Organelle " + i + " is described in section " + i + ".");
+            question.setOptions(List.of("Energy production", "Protein synthesis", "Lipid storage", "Cell division"));
+            question.setCorrectOptionIndex(i % 4);
+            question.setDifficultyLevel(2);
+            question.setQuestionType("MULTIPLE_CHOICE");
+            question.setQuiz(quiz);
+            questions.add(question);
+        }
+        return questions;
+    }
+}
@@ -0,0 +1,34 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.model.Question;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AIResponseParsingBenchmark {
+
+    // Clean JSON, markdown-fenced JSON with trailing commas, and a truncated reply that hits the regex fallback
+    @Param({"ai-response.json", "ai-response-markdown.txt", "ai-response-truncated.txt"})
+    private String response;
+
+    private AIQuizServiceImpl aiQuizService;
+    private String responseText;
+
+    @Setup
+    public void setUp() {
+        aiQuizService = new AIQuizServiceImpl();
+        responseText = BenchmarkCorpora.load(response);
+    }
+
+    @Benchmark
+    public List<Question> parseAIResponse() {
+        return aiQuizService.parseAIResponse(responseText);
+    }
+}
@@ -0,0 +1,36 @@
+package com.thesis.interactive_learning.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Loads the synthetic corpora committed under src/jmh/resources/corpora.
+ */
+final class BenchmarkCorpora {
+
+    private BenchmarkCorpora() {
+    }
+
+    static String load(String name) {
+        try (InputStream in = BenchmarkCorpora.class.getResourceAsStream("/corpora/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Unknown corpus: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Repeat a corpus to simulate longer documents without committing large files
+    static String load(String name, int copies) {
+        String text = load(name);
+        StringBuilder builder = new StringBuilder(text.length() * copies + copies);
+        for (int i = 0; i < copies; i++) {
+            builder.append(text).append('\n');
+        }
+        return builder.toString();
+    }
+}
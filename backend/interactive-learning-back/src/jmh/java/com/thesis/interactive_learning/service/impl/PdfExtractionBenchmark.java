@@ -0,0 +1,113 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.model.Document;
+import com.thesis.interactive_learning.repository.DocumentRepository;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PdfExtractionBenchmark {
+
+    private static final int LINES_PER_PAGE = 45;
+    private static final int CHARS_PER_LINE = 90;
+
+    @Param({"1", "10"})
+    private int copies;
+
+    private DocumentServiceImpl documentService;
+    private Path pdfFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        pdfFile = Files.createTempFile("jmh-corpus-", ".pdf");
+        writePdf(BenchmarkCorpora.load("lecture-notes.txt", copies), pdfFile);
+
+        Document document = new Document();
+        document.setId(1L);
+        document.setFilePath(pdfFile.toString());
+
+        DocumentRepository documentRepository = mock(DocumentRepository.class);
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
+
+        documentService = new DocumentServiceImpl(documentRepository, null, null, null, new TextAnalysisServiceImpl(),
+                null, null, null, null);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(pdfFile);
+    }
+
+    @Benchmark
+    public String extractTextFromPdf() throws IOException {
+        return documentService.extractTextFromPdf(1L);
+    }
+
+    @Benchmark
+    public Map<String, Object> extractStructuredTextFromPdf() throws IOException {
+        return documentService.extractStructuredTextFromPdf(1L);
+    }
+
+    private static void writePdf(String text, Path target) throws IOException {
+        List<String> lines = wrap(text);
+
+        try (PDDocument pdf = new PDDocument()) {
+            for (int start = 0; start < lines.size(); start += LINES_PER_PAGE) {
+                PDPage page = new PDPage();
+                pdf.addPage(page);
+
+                try (PDPageContentStream content = new PDPageContentStream(pdf, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 10);
+                    content.setLeading(14);
+                    content.newLineAtOffset(50, 740);
+                    for (String line : lines.subList(start, Math.min(start + LINES_PER_PAGE, lines.size()))) {
+                        content.showText(line);
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            pdf.save(target.toFile());
+        }
+    }
+
+    private static List<String> wrap(String text) {
+        List<String> lines = new ArrayList<>();
+        for (String paragraph : text.split("\n")) {
+            StringBuilder line = new StringBuilder();
+            for (String word : paragraph.split("\\s+")) {
+                if (line.length() + word.length() + 1 > CHARS_PER_LINE) {
+                    lines.add(line.toString());
+                    line.setLength(0);
+                }
+                if (line.length() > 0) {
+                    line.append(' ');
+                }
+                line.append(word);
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,38 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.model.Question;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionGenerationBenchmark {
+
+    @Param({"MULTIPLE_CHOICE", "TRUE_FALSE", "MIXED"})
+    private String questionType;
+
+    @Param({"1", "25"})
+    private int copies;
+
+    private QuestionGenerationServiceImpl questionGenerationService;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        // Basic generation only touches text analysis; persistence and AI collaborators stay unset
+        questionGenerationService = new QuestionGenerationServiceImpl(
+                null, new TextAnalysisServiceImpl(), null, null, null, null, null);
+        text = BenchmarkCorpora.load("lecture-notes.txt", copies);
+    }
+
+    @Benchmark
+    public List<Question> generateBasicQuestions() {
+        return questionGenerationService.generateQuestionsFromText(text, 10, questionType, 2, false, false);
+    }
+}
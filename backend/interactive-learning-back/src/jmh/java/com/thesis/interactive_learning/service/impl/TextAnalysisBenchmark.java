@@ -0,0 +1,51 @@
+package com.thesis.interactive_learning.service.impl;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextAnalysisBenchmark {
+
+    @Param({"lecture-notes.txt", "scanned-unpunctuated.txt"})
+    private String corpus;
+
+    @Param({"1", "25"})
+    private int copies;
+
+    private TextAnalysisServiceImpl textAnalysisService;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        textAnalysisService = new TextAnalysisServiceImpl();
+        text = BenchmarkCorpora.load(corpus, copies);
+    }
+
+    @Benchmark
+    public List<String> extractSentences() {
+        return textAnalysisService.extractSentences(text);
+    }
+
+    @Benchmark
+    public Map<String, Double> extractKeyTerms() {
+        return textAnalysisService.extractKeyTerms(text, 30);
+    }
+
+    @Benchmark
+    public Map<String, String> extractDefinitions() {
+        return textAnalysisService.extractDefinitions(text);
+    }
+
+    @Benchmark
+    public Map<String, Integer> calculateWordFrequency() {
+        return textAnalysisService.calculateWordFrequency(text);
+    }
+}
@@ -0,0 +1,159 @@
+package com.thesis.interactive_learning.config;
+
+import com.thesis.interactive_learning.model.QuestionOptionsConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.*;
+
+/**
+ * Copies options from the legacy question_options table into questions.options_json. It runs
+ * once all beans are created, before the web server accepts requests, so no quiz is served
+ * (or cached) without its options. Questions are copied in batches, each in its own
+ * transaction; a restart resumes with the questions whose options_json is still empty.
+ * <p>
+ * The legacy rows are kept unless {@code app.question-options.drop-legacy-table} is set. Until
+ * then the old foreign key still blocks deleting migrated questions; once set, the next start
+ * deletes the rows that were copied and drops the table if nothing else is left in it.
+ */
+@Component
+public class QuestionOptionsMigration implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionOptionsMigration.class);
+
+    static final String LEGACY_TABLE = "question_options";
+
+    private static final int BATCH_SIZE = 500;
+    private static final String SELECT_PENDING_QUESTIONS = "SELECT DISTINCT o.question_id FROM question_options o " +
+            "JOIN questions q ON q.id = o.question_id WHERE q.options_json IS NULL AND o.question_id > ? " +
+            "ORDER BY o.question_id LIMIT ?";
+    // The legacy table has no order column or key to sort by. Read through the question_id index,
+    // the rows of each question come back in the order they were inserted, which is the order
+    // the application always showed them and the one correctOptionIndex refers to.
+    private static final String SELECT_OPTIONS = "SELECT question_id, option_text FROM question_options " +
+            "WHERE question_id IN (%s) ORDER BY question_id";
+    private static final String UPDATE_OPTIONS = "UPDATE questions SET options_json = ? WHERE id = ?";
+    private static final String DELETE_MIGRATED_OPTIONS = "DELETE FROM question_options WHERE question_id IN " +
+            "(SELECT id FROM questions WHERE options_json IS NOT NULL)";
+    private static final String COUNT_LEGACY_OPTIONS = "SELECT COUNT(*) FROM question_options";
+    private static final String DROP_LEGACY_TABLE = "DROP TABLE question_options";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean dropLegacyTable;
+    private final int batchSize;
+    private final QuestionOptionsConverter optionsConverter = new QuestionOptionsConverter();
+
+    @Autowired
+    public QuestionOptionsMigration(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                    @Value("${app.question-options.drop-legacy-table:false}") boolean dropLegacyTable) {
+        this(jdbcTemplate, transactionManager, dropLegacyTable, BATCH_SIZE);
+    }
+
+    QuestionOptionsMigration(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             boolean dropLegacyTable, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dropLegacyTable = dropLegacyTable;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    void migrate() {
+        if (!legacyTableExists()) {
+            return;
+        }
+
+        int migrated = copyLegacyOptions();
+        if (migrated > 0) {
+            logger.info("Migrated options of {} questions to the options_json column", migrated);
+        }
+
+        if (dropLegacyTable) {
+            removeLegacyTable();
+        } else {
+            logger.info("Keeping the legacy {} table; set app.question-options.drop-legacy-table=true to remove it",
+                    LEGACY_TABLE);
+        }
+    }
+
+    private int copyLegacyOptions() {
+        int migrated = 0;
+        long lastQuestionId = 0;
+        while (true) {
+            long after = lastQuestionId;
+            List<Long> questionIds = transactionTemplate.execute(status -> copyBatch(after));
+            if (questionIds == null || questionIds.isEmpty()) {
+                return migrated;
+            }
+            migrated += questionIds.size();
+            lastQuestionId = questionIds.get(questionIds.size() - 1);
+        }
+    }
+
+    private List<Long> copyBatch(long afterQuestionId) {
+        List<Long> questionIds = jdbcTemplate.queryForList(SELECT_PENDING_QUESTIONS, Long.class,
+                afterQuestionId, batchSize);
+        if (questionIds.isEmpty()) {
+            return questionIds;
+        }
+
+        Map<Long, List<String>> options = new LinkedHashMap<>();
+        String placeholders = String.join(",", Collections.nCopies(questionIds.size(), "?"));
+        jdbcTemplate.query(String.format(SELECT_OPTIONS, placeholders), row -> {
+            options.computeIfAbsent(row.getLong("question_id"), id -> new ArrayList<>())
+                    .add(row.getString("option_text"));
+        }, questionIds.toArray());
+
+        List<Object[]> updates = new ArrayList<>(options.size());
+        options.forEach((questionId, texts) ->
+                updates.add(new Object[]{optionsConverter.convertToDatabaseColumn(texts), questionId}));
+        jdbcTemplate.batchUpdate(UPDATE_OPTIONS, updates);
+        return questionIds;
+    }
+
+    private void removeLegacyTable() {
+        Integer deleted = transactionTemplate.execute(status -> jdbcTemplate.update(DELETE_MIGRATED_OPTIONS));
+        logger.info("Deleted {} migrated rows from the legacy {} table", deleted, LEGACY_TABLE);
+
+        Long remaining = jdbcTemplate.queryForObject(COUNT_LEGACY_OPTIONS, Long.class);
+        if (remaining != null && remaining > 0) {
+            logger.warn("Not dropping the legacy {} table: {} rows were not migrated", LEGACY_TABLE, remaining);
+            return;
+        }
+
+        // Outside the transaction: DDL commits implicitly on MariaDB
+        try {
+            jdbcTemplate.execute(DROP_LEGACY_TABLE);
+            logger.info("Dropped the legacy {} table", LEGACY_TABLE);
+        } catch (DataAccessException e) {
+            logger.warn("Could not drop the empty legacy {} table: {}", LEGACY_TABLE, e.getMessage());
+        }
+    }
+
+    boolean legacyTableExists() {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String table = metaData.storesUpperCaseIdentifiers() ? LEGACY_TABLE.toUpperCase() : LEGACY_TABLE;
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, table, new String[]{"TABLE"})) {
+                return tables.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
@@ -1,15 +1,28 @@
 package com.thesis.interactive_learning.controllers;
 
+import com.thesis.interactive_learning.dto.AuditLogExportFormat;
 import com.thesis.interactive_learning.model.AuditLog;
 import com.thesis.interactive_learning.security.UserContext;
 import com.thesis.interactive_learning.service.AdminService;
 import com.thesis.interactive_learning.service.AuditLogService;
 import com.thesis.interactive_learning.security.SecurityMonitoringService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -173,6 +186,60 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/logs/export")
+    public ResponseEntity<StreamingResponseBody> exportLogs(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        try {
+            validateAdminAccess();
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(403).build();
+        }
+
+        AuditLogExportFormat exportFormat;
+        try {
+            exportFormat = AuditLogExportFormat.fromParameter(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (to.isBefore(from)) {
+            return ResponseEntity.badRequest().build();
+        }
+        auditLogService.logAdminAction(AuditLog.LogAction.ADMIN_ACCESS,
+                "Admin exported audit logs from " + from + " to " + to + " as " + exportFormat);
+
+        // Covers archived months as well as the live table; "to" is inclusive
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+            auditLogService.exportLogs(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), exportFormat, writer);
+            writer.flush();
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+        };
+
+        String filename = "audit-logs-" + from + "_" + to + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()))
+                .body(body);
+    }
+
+    @GetMapping("/logs/archives")
+    public ResponseEntity<?> getLogArchives() {
+        try {
+            validateAdminAccess();
+            return ResponseEntity.ok(auditLogService.getArchives());
+        } catch (IOException e) {
+            return ResponseEntity.status(500).body(Map.of("error", "Failed to list archives: " + e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(403).body(Map.of("error", e.getMessage()));
+        }
+    }
+
 
     @GetMapping("/security/dashboard")
     public ResponseEntity<?> getSecurityDashboard() {
@@ -239,8 +306,7 @@ public class AdminController {
     }
 
     private void validateAdminAccess() {
-        var currentUser = userContext.getCurrentUser();
-        if (currentUser.getRole() == null || !currentUser.getRole().toString().equals("ADMIN")) {
+        if (!userContext.isCurrentUserAdmin()) {
             throw new RuntimeException("Admin access required");
         }
     }
@@ -8,29 +8,21 @@ import com.thesis.interactive_learning.service.UserService;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
 
-    @Autowired
-    private AuthenticationManager authenticationManager;
-
-    @Autowired
-    private UserDetailsService userDetailsService;
-
     @Autowired
     private JwtTokenUtil jwtTokenUtil;
 
@@ -85,11 +77,8 @@ public class AuthController {
                 return new ResponseEntity<>("Too many failed attempts. Please try again later.", HttpStatus.TOO_MANY_REQUESTS);
             }
 
-            try {
-                authenticationManager.authenticate(
-                        new UsernamePasswordAuthenticationToken(authRequest.getUsername(), authRequest.getPassword())
-                );
-            } catch (BadCredentialsException e) {
+            // Checked against the row loaded above instead of having the authentication manager load it again
+            if (!passwordEncoder.matches(authRequest.getPassword(), user.getPassword())) {
                 // Increment failed login attempts
                 user.incrementFailedLoginAttempts();
                 userService.saveUser(user);
@@ -117,12 +106,13 @@ public class AuthController {
             );
 
             // Generate JWT token
-            final UserDetails userDetails = userDetailsService.loadUserByUsername(authRequest.getUsername());
-            final String jwt = jwtTokenUtil.generateToken(userDetails);
+            final String jwt = jwtTokenUtil.generateToken(user);
 
             // FIXED: Return both token AND user data
             return ResponseEntity.ok(new AuthResponse(jwt, new UserDto(user)));
 
+        } catch (RejectedExecutionException e) {
+            return passwordHashingBusy();
         } catch (Exception e) {
             auditLogService.logError("Login error for user: " + authRequest.getUsername() + " - " + e.getMessage());
             return new ResponseEntity<>("Internal server error", HttpStatus.INTERNAL_SERVER_ERROR);
@@ -161,18 +151,26 @@ public class AuthController {
                     savedUser.getUsername()
             );
 
-            final UserDetails userDetails = userDetailsService.loadUserByUsername(user.getUsername());
-            final String jwt = jwtTokenUtil.generateToken(userDetails);
+            final String jwt = jwtTokenUtil.generateToken(savedUser);
 
             // FIXED: Return both token AND user data for registration too
             return new ResponseEntity<>(new AuthResponse(jwt, new UserDto(savedUser)), HttpStatus.CREATED);
 
+        } catch (RejectedExecutionException e) {
+            return passwordHashingBusy();
         } catch (Exception e) {
             auditLogService.logError("Registration error for user: " + user.getUsername() + " - " + e.getMessage());
             return new ResponseEntity<>("Registration failed", HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    // Password hashing is saturated (login storm): ask the client to retry instead of queueing further
+    private ResponseEntity<String> passwordHashingBusy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "2")
+                .body("Server is busy, please try again shortly");
+    }
+
     private String getClientIp() {
         return "unknown";
     }
@@ -1,11 +1,13 @@
 package com.thesis.interactive_learning.controllers;
 
 import com.thesis.interactive_learning.dto.BulkCollectionUpdateRequest;
+import com.thesis.interactive_learning.dto.BulkCollectionUpdateResult;
+import com.thesis.interactive_learning.dto.KeysetPage;
+import com.thesis.interactive_learning.dto.TextAnalysisResult;
 import com.thesis.interactive_learning.model.Document;
-import com.thesis.interactive_learning.model.Quiz;
 import com.thesis.interactive_learning.security.UserContext;
 import com.thesis.interactive_learning.service.DocumentService;
-import com.thesis.interactive_learning.repository.QuizRepository;
+import com.thesis.interactive_learning.service.TextAnalysisService;
 import com.thesis.interactive_learning.service.AuditLogService;
 import com.thesis.interactive_learning.model.AuditLog;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,9 +17,11 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/documents")
@@ -27,13 +31,14 @@ public class DocumentController {
     private AuditLogService auditLogService;
 
     private final DocumentService documentService;
-    private final QuizRepository quizRepository;
+    private final TextAnalysisService textAnalysisService;
     private final UserContext userContext;
 
     @Autowired
-    public DocumentController(DocumentService documentService, QuizRepository quizRepository, UserContext userContext) {
+    public DocumentController(DocumentService documentService, TextAnalysisService textAnalysisService,
+                              UserContext userContext) {
         this.documentService = documentService;
-        this.quizRepository = quizRepository;
+        this.textAnalysisService = textAnalysisService;
         this.userContext = userContext;
     }
 
@@ -86,6 +91,18 @@ public class DocumentController {
         return ResponseEntity.ok(documents);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<?> getDocumentsPage(@RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer limit) {
+        try {
+            Long currentUserId = userContext.getCurrentUserId();
+            KeysetPage<Document> page = documentService.getDocumentsPageByUserId(currentUserId, cursor, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<?> getDocumentsByUserId(@PathVariable Long userId) {
         try {
@@ -151,6 +168,30 @@ public class DocumentController {
         }
     }
 
+    @GetMapping("/{id}/analysis")
+    public ResponseEntity<?> analyzeDocument(@PathVariable Long id,
+                                             @RequestParam(defaultValue = "30") int maxTerms) {
+        try {
+            // Validate document ownership first
+            Document document = documentService.getDocumentById(id)
+                    .orElseThrow(() -> new RuntimeException("Document not found"));
+            userContext.validateDocumentOwnership(document);
+
+            // Pages are analyzed as they are extracted instead of materializing the full text
+            try (Stream<String> pages = documentService.streamPageTexts(id)) {
+                TextAnalysisResult analysis = textAnalysisService.analyzePages(
+                        pages.iterator(), maxTerms, document.getLanguage());
+                return ResponseEntity.ok(analysis);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to analyze document: " + e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteDocument(@PathVariable Long id) {
         try {
@@ -188,15 +229,14 @@ public class DocumentController {
                 // For now, we'll validate in the service layer
             }
 
-            Document updatedDocument = documentService.updateDocumentCollection(id, collectionId);
-
-            // Get updated quiz count for response
-            List<Quiz> updatedQuizzes = quizRepository.findByDocumentId(id);
+            BulkCollectionUpdateResult result = documentService.moveDocumentsToCollection(
+                    List.of(id), collectionId, document.getUser().getId());
+            Document updatedDocument = documentService.getDocumentById(id).orElse(document);
 
             Map<String, Object> response = new HashMap<>();
             response.put("document", updatedDocument);
-            response.put("updatedQuizzesCount", updatedQuizzes.size());
-            response.put("message", "Document and " + updatedQuizzes.size() + " associated quizzes updated successfully");
+            response.put("updatedQuizzesCount", result.getQuizzesUpdated());
+            response.put("message", "Document and " + result.getQuizzesUpdated() + " associated quizzes updated successfully");
 
             return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
@@ -233,23 +273,16 @@ public class DocumentController {
     public ResponseEntity<?> bulkUpdateDocumentCollection(
             @RequestBody BulkCollectionUpdateRequest request) {
         try {
-            int documentsUpdated = 0;
-            int quizzesUpdated = 0;
-
-            for (Long documentId : request.getDocumentIds()) {
-                // Validate ownership of each document
-                Document document = documentService.getDocumentById(documentId)
-                        .orElseThrow(() -> new RuntimeException("Document not found: " + documentId));
-                userContext.validateDocumentOwnership(document);
-
-                Document updatedDoc = documentService.updateDocumentCollection(documentId, request.getCollectionId());
-                documentsUpdated++;
-
-                // Count associated quizzes that were also moved
-                List<Quiz> documentQuizzes = quizRepository.findByDocumentId(documentId);
-                quizzesUpdated += documentQuizzes.size();
+            if (request.getDocumentIds() == null) {
+                throw new RuntimeException("No documents specified");
             }
 
+            // Ownership of every document is checked in one query; all move or none do
+            BulkCollectionUpdateResult result = documentService.moveDocumentsToCollection(
+                    request.getDocumentIds(), request.getCollectionId(), userContext.getCurrentUserId());
+            int documentsUpdated = result.getDocumentsUpdated();
+            int quizzesUpdated = result.getQuizzesUpdated();
+
             Map<String, Object> response = new HashMap<>();
             response.put("documentsUpdated", documentsUpdated);
             response.put("quizzesUpdated", quizzesUpdated);
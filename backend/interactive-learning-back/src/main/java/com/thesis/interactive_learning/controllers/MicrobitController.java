@@ -181,7 +181,7 @@ public class MicrobitController {
         // Get and validate quiz
         Quiz quiz;
         try {
-            quiz = quizService.getQuizById(quizId)
+            quiz = quizService.getQuizWithQuestions(quizId)
                     .orElseThrow(() -> new RuntimeException("Quiz not found"));
             logger.info("✅ Quiz found: '{}'", quiz.getTitle());
         } catch (Exception e) {
@@ -1,11 +1,14 @@
 package com.thesis.interactive_learning.controllers;
 
+import com.thesis.interactive_learning.dto.KeysetPage;
+import com.thesis.interactive_learning.dto.QuizView;
 import com.thesis.interactive_learning.model.AuditLog;
 import com.thesis.interactive_learning.model.Quiz;
 import com.thesis.interactive_learning.security.UserContext;
 import com.thesis.interactive_learning.service.AuditLogService;
 import com.thesis.interactive_learning.service.QuizService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -58,22 +61,20 @@ public class QuizController {
     @GetMapping("/{id}")
     public ResponseEntity<?> getQuizById(@PathVariable Long id) {
         try {
-            Quiz quiz = quizService.getQuizById(id)
+            QuizView quiz = quizService.getQuizView(id)
                     .orElseThrow(() -> new RuntimeException("Quiz not found"));
 
-            // Validate user can access this quiz (through document ownership)
-            if (quiz.getDocument() != null) {
-                userContext.validateDocumentOwnership(quiz.getDocument());
-            } else {
-                // If no document, check collection ownership
-                if (quiz.getStudyCollection() != null) {
-                    userContext.validateCollectionOwnership(quiz.getStudyCollection());
-                } else {
-                    throw new RuntimeException("Quiz has no associated document or collection");
-                }
+            // Validate user can access this quiz (through document or collection ownership)
+            if (quiz.getOwnerUserId() == null) {
+                throw new RuntimeException("Quiz has no associated document or collection");
             }
+            userContext.validateCurrentUserOwnership(quiz.getOwnerUserId());
 
-            return ResponseEntity.ok(quiz);
+            // Spring answers 304 Not Modified itself when If-None-Match matches the ETag
+            return ResponseEntity.ok()
+                    .eTag(quiz.getEtag())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(quiz);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", e.getMessage()));
@@ -88,6 +89,18 @@ public class QuizController {
         return ResponseEntity.ok(quizzes);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<?> getQuizzesPage(@RequestParam(required = false) String cursor,
+                                            @RequestParam(required = false) Integer limit) {
+        try {
+            Long currentUserId = userContext.getCurrentUserId();
+            KeysetPage<Quiz> page = quizService.getQuizzesPageByUserId(currentUserId, cursor, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/collection/{collectionId}")
     public ResponseEntity<?> getQuizzesByCollectionId(@PathVariable Long collectionId) {
         try {
@@ -210,19 +223,19 @@ public class QuizController {
     @GetMapping("/{id}/questions")
     public ResponseEntity<?> getQuizQuestions(@PathVariable Long id) {
         try {
-            Quiz quiz = quizService.getQuizById(id)
+            QuizView quiz = quizService.getQuizView(id)
                     .orElseThrow(() -> new RuntimeException("Quiz not found"));
 
             // Validate user can access this quiz
-            if (quiz.getDocument() != null) {
-                userContext.validateDocumentOwnership(quiz.getDocument());
-            } else if (quiz.getStudyCollection() != null) {
-                userContext.validateCollectionOwnership(quiz.getStudyCollection());
-            } else {
+            if (quiz.getOwnerUserId() == null) {
                 throw new RuntimeException("Cannot determine quiz ownership");
             }
+            userContext.validateCurrentUserOwnership(quiz.getOwnerUserId());
 
-            return ResponseEntity.ok(quiz.getQuestions());
+            return ResponseEntity.ok()
+                    .eTag(quiz.getQuestionsEtag())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(quiz.getQuestions());
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", e.getMessage()));
@@ -1,5 +1,6 @@
 package com.thesis.interactive_learning.controllers;
 
+import com.thesis.interactive_learning.dto.KeysetPage;
 import com.thesis.interactive_learning.model.User;
 import com.thesis.interactive_learning.model.UserProgress;
 import com.thesis.interactive_learning.security.UserContext;
@@ -97,6 +98,22 @@ public class UserProgressController {
         }
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<?> getUserProgressPage(@RequestParam(required = false) String cursor,
+                                                 @RequestParam(required = false) Integer limit) {
+        try {
+            Long currentUserId = userContext.getCurrentUserId();
+            KeysetPage<UserProgressDTO> page = userProgressService.getUserProgressPage(currentUserId, cursor, limit)
+                    .map(UserProgressDTO::new);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<?> getUserProgressByUserId(@PathVariable Long userId) {
         try {
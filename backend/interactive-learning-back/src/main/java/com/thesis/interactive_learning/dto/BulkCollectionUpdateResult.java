@@ -0,0 +1,23 @@
+package com.thesis.interactive_learning.dto;
+
+import lombok.Getter;
+
+@Getter
+public class BulkCollectionUpdateResult {
+
+    private final int documentsUpdated;
+    private final int quizzesUpdated;
+
+    public BulkCollectionUpdateResult(int documentsUpdated, int quizzesUpdated) {
+        this.documentsUpdated = documentsUpdated;
+        this.quizzesUpdated = quizzesUpdated;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkCollectionUpdateResult{" +
+                "documentsUpdated=" + documentsUpdated +
+                ", quizzesUpdated=" + quizzesUpdated +
+                '}';
+    }
+}
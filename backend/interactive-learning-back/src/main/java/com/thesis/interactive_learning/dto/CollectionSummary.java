@@ -0,0 +1,37 @@
+package com.thesis.interactive_learning.dto;
+
+import lombok.Getter;
+
+/**
+ * Item counts and document totals for one study collection, computed by a single query.
+ */
+@Getter
+public class CollectionSummary {
+
+    private final Long collectionId;
+    private final int documentCount;
+    private final int quizCount;
+    private final long totalFileSize;
+    private final int totalPages;
+
+    public CollectionSummary(Long collectionId, Long documentCount, Long quizCount, Long totalFileSize, Long totalPages) {
+        this.collectionId = collectionId;
+        this.documentCount = documentCount != null ? documentCount.intValue() : 0;
+        this.quizCount = quizCount != null ? quizCount.intValue() : 0;
+        this.totalFileSize = totalFileSize != null ? totalFileSize : 0L;
+        this.totalPages = totalPages != null ? totalPages.intValue() : 0;
+    }
+
+    public static CollectionSummary empty(Long collectionId) {
+        return new CollectionSummary(collectionId, 0L, 0L, 0L, 0L);
+    }
+
+    @Override
+    public String toString() {
+        return "CollectionSummary{" +
+                "collectionId=" + collectionId +
+                ", documentCount=" + documentCount +
+                ", quizCount=" + quizCount +
+                '}';
+    }
+}
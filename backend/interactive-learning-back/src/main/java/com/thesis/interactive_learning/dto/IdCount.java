@@ -0,0 +1,38 @@
+package com.thesis.interactive_learning.dto;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One row of a GROUP BY count, keyed by the grouped entity id.
+ */
+@Getter
+public class IdCount {
+
+    private final Long id;
+    private final long count;
+
+    public IdCount(Long id, Long count) {
+        this.id = id;
+        this.count = count != null ? count : 0L;
+    }
+
+    public static Map<Long, Long> toMap(List<IdCount> counts) {
+        Map<Long, Long> result = new HashMap<>();
+        for (IdCount count : counts) {
+            result.put(count.getId(), count.getCount());
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "IdCount{" +
+                "id=" + id +
+                ", count=" + count +
+                '}';
+    }
+}
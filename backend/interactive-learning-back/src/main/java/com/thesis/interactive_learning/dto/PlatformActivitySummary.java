@@ -0,0 +1,23 @@
+package com.thesis.interactive_learning.dto;
+
+import lombok.Getter;
+
+@Getter
+public class PlatformActivitySummary {
+
+    private final long attempts;
+    private final long activeUsers;
+
+    public PlatformActivitySummary(Long attempts, Long activeUsers) {
+        this.attempts = attempts != null ? attempts : 0L;
+        this.activeUsers = activeUsers != null ? activeUsers : 0L;
+    }
+
+    @Override
+    public String toString() {
+        return "PlatformActivitySummary{" +
+                "attempts=" + attempts +
+                ", activeUsers=" + activeUsers +
+                '}';
+    }
+}
@@ -0,0 +1,39 @@
+package com.thesis.interactive_learning.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Attempts and average accuracy for one day ("yyyy-MM-dd") or month ("yyyy-MM").
+ */
+@Getter
+public class ProgressBucket {
+
+    private final String period;
+    private final long attempts;
+    private final double averageAccuracy;
+
+    public ProgressBucket(LocalDate day, Long attempts, Double averageAccuracy) {
+        this(day.toString(), attempts, averageAccuracy);
+    }
+
+    public ProgressBucket(Integer year, Integer month, Long attempts, Double averageAccuracy) {
+        this(String.format("%04d-%02d", year, month), attempts, averageAccuracy);
+    }
+
+    public ProgressBucket(String period, Long attempts, Double averageAccuracy) {
+        this.period = period;
+        this.attempts = attempts != null ? attempts : 0L;
+        this.averageAccuracy = averageAccuracy != null ? averageAccuracy : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return "ProgressBucket{" +
+                "period='" + period + '\'' +
+                ", attempts=" + attempts +
+                ", averageAccuracy=" + averageAccuracy +
+                '}';
+    }
+}
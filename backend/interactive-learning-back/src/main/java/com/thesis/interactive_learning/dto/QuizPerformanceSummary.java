@@ -0,0 +1,27 @@
+package com.thesis.interactive_learning.dto;
+
+import lombok.Getter;
+
+@Getter
+public class QuizPerformanceSummary {
+
+    private final String quizTitle;
+    private final long attempts;
+    private final double bestScore;
+    private final double averageScore;
+
+    public QuizPerformanceSummary(String quizTitle, Long attempts, Double bestScore, Double averageScore) {
+        this.quizTitle = quizTitle;
+        this.attempts = attempts != null ? attempts : 0L;
+        this.bestScore = bestScore != null ? bestScore : 0.0;
+        this.averageScore = averageScore != null ? averageScore : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return "QuizPerformanceSummary{" +
+                "quizTitle='" + quizTitle + '\'' +
+                ", attempts=" + attempts +
+                '}';
+    }
+}
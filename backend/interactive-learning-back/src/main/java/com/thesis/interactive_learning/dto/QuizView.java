@@ -0,0 +1,139 @@
+package com.thesis.interactive_learning.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.thesis.interactive_learning.model.Question;
+import com.thesis.interactive_learning.model.Quiz;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Immutable read model of a quiz with its questions ordered by id. Built once from a
+ * single fetch-join query and cached; the ETag is derived from the content so clients
+ * can revalidate with If-None-Match.
+ */
+@Getter
+public class QuizView {
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final boolean microbitCompatible;
+    private final LocalDateTime createdAt;
+    private final Long documentId;
+    private final String documentTitle;
+    private final Long collectionId;
+    private final String collectionName;
+    private final List<QuestionView> questions;
+
+    // Owner of the quiz's document, or of its collection when there is no document
+    @JsonIgnore
+    private final Long ownerUserId;
+    @JsonIgnore
+    private final String etag;
+
+    private QuizView(Quiz quiz, List<QuestionView> questions) {
+        this.id = quiz.getId();
+        this.title = quiz.getTitle();
+        this.description = quiz.getDescription();
+        this.microbitCompatible = quiz.isMicrobitCompatible();
+        this.createdAt = quiz.getCreatedAt();
+        this.documentId = quiz.getDocument() != null ? quiz.getDocument().getId() : null;
+        this.documentTitle = quiz.getDocument() != null ? quiz.getDocument().getTitle() : null;
+        this.collectionId = quiz.getStudyCollection() != null ? quiz.getStudyCollection().getId() : null;
+        this.collectionName = quiz.getStudyCollection() != null ? quiz.getStudyCollection().getName() : null;
+        this.questions = questions;
+
+        if (quiz.getDocument() != null) {
+            this.ownerUserId = quiz.getDocument().getUser().getId();
+        } else if (quiz.getStudyCollection() != null) {
+            this.ownerUserId = quiz.getStudyCollection().getUser().getId();
+        } else {
+            this.ownerUserId = null;
+        }
+
+        this.etag = computeEtag();
+    }
+
+    public static QuizView from(Quiz quiz) {
+        List<QuestionView> questions = quiz.getQuestions().stream()
+                .sorted(Comparator.comparing(Question::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(QuestionView::new)
+                .toList();
+        return new QuizView(quiz, questions);
+    }
+
+    /**
+     * ETag for the question list alone, which is a different representation than the full view.
+     */
+    @JsonIgnore
+    public String getQuestionsEtag() {
+        return etag.substring(0, etag.length() - 1) + "-questions\"";
+    }
+
+    private String computeEtag() {
+        StringBuilder content = new StringBuilder()
+                .append(id).append('\0').append(title).append('\0').append(description).append('\0')
+                .append(microbitCompatible).append('\0').append(createdAt).append('\0')
+                .append(documentId).append('\0').append(documentTitle).append('\0')
+                .append(collectionId).append('\0').append(collectionName);
+        for (QuestionView question : questions) {
+            content.append('\u0001').append(question.getId()).append('\0').append(question.getQuestionText())
+                    .append('\0').append(question.getExplanation()).append('\0').append(question.getOptions())
+                    .append('\0').append(question.getCorrectOptionIndex()).append('\0').append(question.getSourceText())
+                    .append('\0').append(question.getSourcePage()).append('\0').append(question.getDifficultyLevel())
+                    .append('\0').append(question.getQuestionType());
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "QuizView{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", questions=" + questions.size() +
+                '}';
+    }
+
+    @Getter
+    public static class QuestionView {
+
+        private final Long id;
+        private final String questionText;
+        private final String explanation;
+        private final List<String> options;
+        private final Integer correctOptionIndex;
+        private final String sourceText;
+        private final Integer sourcePage;
+        private final Integer difficultyLevel;
+        private final String questionType;
+
+        private QuestionView(Question question) {
+            this.id = question.getId();
+            this.questionText = question.getQuestionText();
+            this.explanation = question.getExplanation();
+            this.options = question.getOptions() != null
+                    ? Collections.unmodifiableList(new ArrayList<>(question.getOptions())) : List.of();
+            this.correctOptionIndex = question.getCorrectOptionIndex();
+            this.sourceText = question.getSourceText();
+            this.sourcePage = question.getSourcePage();
+            this.difficultyLevel = question.getDifficultyLevel();
+            this.questionType = question.getQuestionType();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.thesis.interactive_learning.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class TextAnalysisResult {
+
+    private final int pageCount;
+    private final List<String> sentences;
+    private final Map<String, Double> keyTerms;
+    private final Map<String, String> definitions;
+    private final Map<String, Integer> wordFrequency;
+
+    public TextAnalysisResult(int pageCount, List<String> sentences, Map<String, Double> keyTerms,
+                              Map<String, String> definitions, Map<String, Integer> wordFrequency) {
+        this.pageCount = pageCount;
+        this.sentences = sentences;
+        this.keyTerms = keyTerms;
+        this.definitions = definitions;
+        this.wordFrequency = wordFrequency;
+    }
+
+    @Override
+    public String toString() {
+        return "TextAnalysisResult{" +
+                "pageCount=" + pageCount +
+                ", sentences=" + sentences.size() +
+                ", keyTerms=" + keyTerms.size() +
+                ", definitions=" + definitions.size() +
+                '}';
+    }
+}
@@ -0,0 +1,58 @@
+package com.thesis.interactive_learning.dto;
+
+import lombok.Getter;
+
+/**
+ * Aggregate of a user's quiz attempts, computed by a single aggregate SQL query.
+ * Null accuracies count as 0, and completion-time figures only include attempts with a positive time.
+ */
+@Getter
+public class UserProgressSummary {
+
+    private final long attempts;
+    private final double averageAccuracy;
+    private final double minimumAccuracy;
+    private final double bestAccuracy;
+    private final long totalQuestions;
+    private final long totalCorrect;
+    private final Double averageCompletionTime;
+    private final Long fastestCompletionTime;
+    private final Long slowestCompletionTime;
+    private final long excellentScores;
+    private final long goodScores;
+    private final long averageScores;
+    private final long belowAverageScores;
+    private final long recentAttempts;
+    private final long uniqueQuizzes;
+
+    public UserProgressSummary(Long attempts, Double averageAccuracy, Double minimumAccuracy, Double bestAccuracy,
+                               Long totalQuestions, Long totalCorrect, Double averageCompletionTime,
+                               Long fastestCompletionTime, Long slowestCompletionTime,
+                               Long excellentScores, Long goodScores, Long averageScores, Long belowAverageScores,
+                               Long recentAttempts, Long uniqueQuizzes) {
+        this.attempts = attempts != null ? attempts : 0L;
+        this.averageAccuracy = averageAccuracy != null ? averageAccuracy : 0.0;
+        this.minimumAccuracy = minimumAccuracy != null ? minimumAccuracy : 0.0;
+        this.bestAccuracy = bestAccuracy != null ? bestAccuracy : 0.0;
+        this.totalQuestions = totalQuestions != null ? totalQuestions : 0L;
+        this.totalCorrect = totalCorrect != null ? totalCorrect : 0L;
+        this.averageCompletionTime = averageCompletionTime;
+        this.fastestCompletionTime = fastestCompletionTime;
+        this.slowestCompletionTime = slowestCompletionTime;
+        this.excellentScores = excellentScores != null ? excellentScores : 0L;
+        this.goodScores = goodScores != null ? goodScores : 0L;
+        this.averageScores = averageScores != null ? averageScores : 0L;
+        this.belowAverageScores = belowAverageScores != null ? belowAverageScores : 0L;
+        this.recentAttempts = recentAttempts != null ? recentAttempts : 0L;
+        this.uniqueQuizzes = uniqueQuizzes != null ? uniqueQuizzes : 0L;
+    }
+
+    @Override
+    public String toString() {
+        return "UserProgressSummary{" +
+                "attempts=" + attempts +
+                ", averageAccuracy=" + averageAccuracy +
+                ", bestAccuracy=" + bestAccuracy +
+                '}';
+    }
+}
@@ -0,0 +1,33 @@
+package com.thesis.interactive_learning.dto;
+
+import com.thesis.interactive_learning.model.User;
+import lombok.Getter;
+
+/**
+ * The parts of a user that decide whether an already issued token is still accepted.
+ */
+@Getter
+public class UserStatusVersion {
+
+    private final Long id;
+    private final User.UserStatus status;
+    private final User.Role role;
+    private final long statusVersion;
+
+    public UserStatusVersion(Long id, User.UserStatus status, User.Role role, Long statusVersion) {
+        this.id = id;
+        this.status = status;
+        this.role = role;
+        this.statusVersion = statusVersion != null ? statusVersion : 0L;
+    }
+
+    @Override
+    public String toString() {
+        return "UserStatusVersion{" +
+                "id=" + id +
+                ", status=" + status +
+                ", role=" + role +
+                ", statusVersion=" + statusVersion +
+                '}';
+    }
+}
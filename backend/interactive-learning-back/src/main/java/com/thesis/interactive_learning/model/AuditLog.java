@@ -8,7 +8,12 @@ import lombok.Builder;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "audit_logs")
+@Table(name = "audit_logs", indexes = {
+        @Index(name = "idx_audit_logs_timestamp", columnList = "timestamp"),
+        @Index(name = "idx_audit_logs_action_timestamp", columnList = "action, timestamp"),
+        @Index(name = "idx_audit_logs_level_timestamp", columnList = "level, timestamp"),
+        @Index(name = "idx_audit_logs_user_timestamp", columnList = "user_id, timestamp")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
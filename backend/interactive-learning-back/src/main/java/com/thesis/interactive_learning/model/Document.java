@@ -12,7 +12,9 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "documents")
+@Table(name = "documents", indexes = {
+        @Index(name = "idx_documents_user_uploaded", columnList = "user_id, upload_date")
+})
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
@@ -43,6 +45,10 @@ public class Document {
     @Column
     private Integer pageCount;
 
+    // ISO 639-1 code detected once at upload, e.g. "en" or "sq"
+    @Column(length = 8)
+    private String language;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @JsonIgnore
@@ -27,9 +27,9 @@ public class Question {
     @Column(columnDefinition = "TEXT")
     private String explanation;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "question_options", joinColumns = @JoinColumn(name = "question_id"))
-    @Column(name = "option_text", length = 1000)
+    // Serialized JSON array; rows from the old question_options table are copied in by QuestionOptionsMigration
+    @Convert(converter = QuestionOptionsConverter.class)
+    @Column(name = "options_json", columnDefinition = "TEXT")
     private List<String> options = new ArrayList<>();
 
     @Column(nullable = false)
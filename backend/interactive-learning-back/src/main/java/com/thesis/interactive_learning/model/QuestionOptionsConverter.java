@@ -0,0 +1,42 @@
+package com.thesis.interactive_learning.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores question options as a JSON array in a single column, so questions load
+ * without a second query (or join) per question for their options.
+ */
+@Converter
+public class QuestionOptionsConverter implements AttributeConverter<List<String>, String> {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeReference<List<String>> OPTIONS_TYPE = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(List<String> options) {
+        try {
+            return objectMapper.writeValueAsString(options != null ? options : List.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize question options", e);
+        }
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String json) {
+        if (json == null || json.isBlank()) {
+            return new ArrayList<>();
+        }
+        try {
+            return new ArrayList<>(objectMapper.readValue(json, OPTIONS_TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not read question options", e);
+        }
+    }
+}
@@ -12,7 +12,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "quizzes")
+// Serves the join from a user's documents for the quiz pages; see QuizRepository.findPageByDocumentUserId
+@Table(name = "quizzes", indexes = {
+        @Index(name = "idx_quizzes_document_created", columnList = "document_id, created_at")
+})
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
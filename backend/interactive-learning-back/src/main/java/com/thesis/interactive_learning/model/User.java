@@ -12,7 +12,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_account_locked_until", columnList = "account_locked_until"),
+        @Index(name = "idx_users_status", columnList = "status")
+})
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
@@ -60,6 +63,10 @@ public class User {
     @Column(length = 255)
     private String statusChangeReason;
 
+    // Copied into every JWT; bumped on each status, role or password change so older tokens stop being accepted
+    @Column
+    private Long statusVersion = 0L;
+
     @Column
     private LocalDateTime lastLoginAt;
 
@@ -122,6 +129,12 @@ public class User {
         this.lastStatusChange = LocalDateTime.now();
         this.statusChangedBy = changedBy;
         this.statusChangeReason = reason;
+        this.statusVersion = getStatusVersionOrZero() + 1;
+    }
+
+    public long getStatusVersionOrZero() {
+        // Rows created before the column existed hold null
+        return statusVersion != null ? statusVersion : 0L;
     }
 
     public boolean canLogin() {
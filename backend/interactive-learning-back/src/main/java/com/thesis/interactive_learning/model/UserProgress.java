@@ -7,7 +7,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_progress")
+@Table(name = "user_progress", indexes = {
+        @Index(name = "idx_user_progress_user_completed", columnList = "user_id, completed_at"),
+        @Index(name = "idx_user_progress_completed", columnList = "completed_at")
+})
 @Data
 @NoArgsConstructor
 public class UserProgress {
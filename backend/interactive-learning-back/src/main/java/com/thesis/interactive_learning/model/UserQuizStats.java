@@ -0,0 +1,66 @@
+package com.thesis.interactive_learning.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-user, per-quiz attempts and scores, part of the user_stats rollup.
+ * The quiz is referenced by id only so deleting a quiz is never blocked by its stats.
+ */
+@Entity
+@Table(name = "user_quiz_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_quiz_stats", columnNames = {"user_id", "quiz_id"})
+})
+@Data
+@NoArgsConstructor
+public class UserQuizStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    private long attempts;
+
+    private double bestScore;
+
+    private double sumScore;
+
+    public UserQuizStats(Long userId, Long quizId) {
+        this.userId = userId;
+        this.quizId = quizId;
+    }
+
+    // Used by the rebuild query (constructor expression over user_progress)
+    public UserQuizStats(Long userId, Long quizId, Long attempts, Double bestScore, Double sumScore) {
+        this(userId, quizId);
+        this.attempts = attempts != null ? attempts : 0L;
+        this.bestScore = bestScore != null ? bestScore : 0.0;
+        this.sumScore = sumScore != null ? sumScore : 0.0;
+    }
+
+    public void apply(double score) {
+        attempts++;
+        bestScore = attempts == 1 ? score : Math.max(bestScore, score);
+        sumScore += score;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UserQuizStats)) return false;
+        UserQuizStats that = (UserQuizStats) o;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id != null ? id.hashCode() : 0;
+    }
+}
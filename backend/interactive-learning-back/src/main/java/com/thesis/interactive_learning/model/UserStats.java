@@ -0,0 +1,130 @@
+package com.thesis.interactive_learning.model;
+
+import com.thesis.interactive_learning.dto.UserProgressSummary;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-user rollup of all quiz attempts, kept up to date as progress is saved so
+ * dashboards never have to aggregate the raw user_progress history.
+ */
+@Entity
+@Table(name = "user_stats")
+@Data
+@NoArgsConstructor
+public class UserStats {
+
+    @Id
+    private Long userId;
+
+    private long totalAttempts;
+    private long totalQuestions;
+    private long totalCorrect;
+
+    // Accuracy sums treat a missing accuracy as 0, like the dashboard always has
+    private double sumAccuracy;
+    private Double minAccuracy;
+    private Double maxAccuracy;
+
+    // Only attempts with a positive completion time
+    private long timedAttempts;
+    private long sumCompletionTime;
+    private Long minCompletionTime;
+    private Long maxCompletionTime;
+
+    private long excellentScores;
+    private long goodScores;
+    private long averageScores;
+    private long belowAverageScores;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public UserStats(Long userId) {
+        this.userId = userId;
+    }
+
+    // Used by the rebuild query (constructor expression over user_progress)
+    public UserStats(Long userId, Long totalAttempts, Long totalQuestions, Long totalCorrect,
+                     Double sumAccuracy, Double minAccuracy, Double maxAccuracy,
+                     Long timedAttempts, Long sumCompletionTime, Long minCompletionTime, Long maxCompletionTime,
+                     Long excellentScores, Long goodScores, Long averageScores, Long belowAverageScores) {
+        this.userId = userId;
+        this.totalAttempts = valueOf(totalAttempts);
+        this.totalQuestions = valueOf(totalQuestions);
+        this.totalCorrect = valueOf(totalCorrect);
+        this.sumAccuracy = sumAccuracy != null ? sumAccuracy : 0.0;
+        this.minAccuracy = minAccuracy;
+        this.maxAccuracy = maxAccuracy;
+        this.timedAttempts = valueOf(timedAttempts);
+        this.sumCompletionTime = valueOf(sumCompletionTime);
+        this.minCompletionTime = minCompletionTime;
+        this.maxCompletionTime = maxCompletionTime;
+        this.excellentScores = valueOf(excellentScores);
+        this.goodScores = valueOf(goodScores);
+        this.averageScores = valueOf(averageScores);
+        this.belowAverageScores = valueOf(belowAverageScores);
+    }
+
+    /**
+     * Fold one new attempt into the rollup.
+     */
+    public void apply(UserProgress progress) {
+        Double accuracyPercentage = progress.getAccuracyPercentage();
+        double accuracy = accuracyPercentage != null ? accuracyPercentage : 0.0;
+
+        totalAttempts++;
+        totalQuestions += progress.getTotalQuestions() != null ? progress.getTotalQuestions() : 0;
+        totalCorrect += progress.getCorrectAnswers() != null ? progress.getCorrectAnswers() : 0;
+        sumAccuracy += accuracy;
+        minAccuracy = minAccuracy == null ? accuracy : Math.min(minAccuracy, accuracy);
+        maxAccuracy = maxAccuracy == null ? accuracy : Math.max(maxAccuracy, accuracy);
+
+        Long time = progress.getCompletionTimeSeconds();
+        if (time != null && time > 0) {
+            timedAttempts++;
+            sumCompletionTime += time;
+            minCompletionTime = minCompletionTime == null ? time : Math.min(minCompletionTime, time);
+            maxCompletionTime = maxCompletionTime == null ? time : Math.max(maxCompletionTime, time);
+        }
+
+        if (accuracyPercentage != null) {
+            if (accuracyPercentage >= 90) excellentScores++;
+            else if (accuracyPercentage >= 70) goodScores++;
+            else if (accuracyPercentage >= 50) averageScores++;
+            else belowAverageScores++;
+        }
+
+        updatedAt = LocalDateTime.now();
+    }
+
+    public UserProgressSummary toSummary(long recentAttempts, long uniqueQuizzes) {
+        return new UserProgressSummary(totalAttempts,
+                totalAttempts > 0 ? sumAccuracy / totalAttempts : 0.0,
+                minAccuracy, maxAccuracy, totalQuestions, totalCorrect,
+                timedAttempts > 0 ? (double) sumCompletionTime / timedAttempts : null,
+                minCompletionTime, maxCompletionTime,
+                excellentScores, goodScores, averageScores, belowAverageScores,
+                recentAttempts, uniqueQuizzes);
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UserStats)) return false;
+        UserStats that = (UserStats) o;
+        return userId != null && userId.equals(that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return userId != null ? userId.hashCode() : 0;
+    }
+}
@@ -0,0 +1,73 @@
+package com.thesis.interactive_learning.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Attempts per user per day ("yyyy-MM-dd") or month ("yyyy-MM"), part of the user_stats rollup.
+ */
+@Entity
+@Table(name = "user_stats_buckets", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_stats_bucket", columnNames = {"user_id", "granularity", "period"})
+})
+@Data
+@NoArgsConstructor
+public class UserStatsBucket {
+
+    public enum Granularity {
+        DAY, MONTH
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Granularity granularity;
+
+    @Column(nullable = false, length = 10)
+    private String period;
+
+    private long attempts;
+
+    private double sumAccuracy;
+
+    public UserStatsBucket(Long userId, Granularity granularity, String period) {
+        this.userId = userId;
+        this.granularity = granularity;
+        this.period = period;
+    }
+
+    // Used by the rebuild queries (constructor expressions over user_progress)
+    public UserStatsBucket(Long userId, LocalDate day, Long attempts, Double sumAccuracy) {
+        this(userId, Granularity.DAY, day.toString());
+        this.attempts = attempts != null ? attempts : 0L;
+        this.sumAccuracy = sumAccuracy != null ? sumAccuracy : 0.0;
+    }
+
+    public UserStatsBucket(Long userId, Integer year, Integer month, Long attempts, Double sumAccuracy) {
+        this(userId, Granularity.MONTH, String.format("%04d-%02d", year, month));
+        this.attempts = attempts != null ? attempts : 0L;
+        this.sumAccuracy = sumAccuracy != null ? sumAccuracy : 0.0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UserStatsBucket)) return false;
+        UserStatsBucket that = (UserStatsBucket) o;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id != null ? id.hashCode() : 0;
+    }
+}
@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, AuditLogRepositoryCustom {
 
     Page<AuditLog> findByOrderByTimestampDesc(Pageable pageable);
     Page<AuditLog> findByUserIdOrderByTimestampDesc(Long userId, Pageable pageable);
@@ -27,20 +27,31 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
             "ORDER BY a.timestamp DESC")
     Page<AuditLog> findSecurityLogs(Pageable pageable);
 
+    // Same rows as findSecurityLogs, but a List skips the total COUNT over the whole table
+    @Query("SELECT a FROM AuditLog a WHERE a.level = 'SECURITY' OR " +
+            "a.action IN ('LOGIN_FAILED', 'USER_STATUS_CHANGED') " +
+            "ORDER BY a.timestamp DESC")
+    List<AuditLog> findRecentSecurityLogs(Pageable pageable);
+
+    @Query("SELECT COUNT(a) FROM AuditLog a WHERE (a.level = 'SECURITY' OR " +
+            "a.action IN ('LOGIN_FAILED', 'USER_STATUS_CHANGED')) AND a.timestamp > :since")
+    long countSecurityLogsSince(@Param("since") LocalDateTime since);
+
+    long countByActionAndTimestampAfter(AuditLog.LogAction action, LocalDateTime since);
+
     // Admin action logs
     @Query("SELECT a FROM AuditLog a WHERE a.action IN " +
             "('ADMIN_ACCESS', 'USER_STATUS_CHANGED', 'CONTENT_MODERATION') " +
             "ORDER BY a.timestamp DESC")
     Page<AuditLog> findAdminActionLogs(Pageable pageable);
 
-    // Count failed login attempts (for security monitoring)
-    @Query("SELECT COUNT(a) FROM AuditLog a WHERE a.action = 'LOGIN_FAILED' " +
-            "AND a.ipAddress = :ipAddress AND a.timestamp > :since")
-    long countFailedLoginsByIp(@Param("ipAddress") String ipAddress, @Param("since") LocalDateTime since);
+    // Failed logins (timestamp, ipAddress, username) used to rebuild the in-memory login windows
+    @Query("SELECT a.timestamp, a.ipAddress, a.username FROM AuditLog a " +
+            "WHERE a.action = 'LOGIN_FAILED' AND a.timestamp > :since ORDER BY a.timestamp")
+    List<Object[]> findFailedLoginsSince(@Param("since") LocalDateTime since);
 
-    @Query("SELECT COUNT(a) FROM AuditLog a WHERE a.action = 'LOGIN_FAILED' " +
-            "AND a.username = :username AND a.timestamp > :since")
-    long countFailedLoginsByUsername(@Param("username") String username, @Param("since") LocalDateTime since);
+    // Retention: oldest rows past the cutoff, archived and deleted chunk by chunk
+    List<AuditLog> findByTimestampBeforeOrderByIdAsc(LocalDateTime cutoff, Pageable pageable);
 
     // Basic statistics for admin dashboard
     @Query("SELECT a.action as action, COUNT(a) as count FROM AuditLog a " +
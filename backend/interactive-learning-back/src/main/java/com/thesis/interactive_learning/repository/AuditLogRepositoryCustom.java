@@ -0,0 +1,22 @@
+package com.thesis.interactive_learning.repository;
+
+import com.thesis.interactive_learning.model.AuditLog;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AuditLogRepositoryCustom {
+
+    /**
+     * Insert audit entries as a single JDBC batch instead of one identity insert per entry.
+     * Generated ids are not read back; audit entries are never updated after insert.
+     */
+    void insertAllInBatch(List<AuditLog> logs);
+
+    /**
+     * Next {@code limit} entries after ({@code afterTimestamp}, {@code afterId}) and before
+     * {@code to}, ordered by (timestamp, id). Rows are mapped straight from JDBC, so long
+     * exports never accumulate entities in a persistence context.
+     */
+    List<AuditLog> findExportChunk(LocalDateTime afterTimestamp, long afterId, LocalDateTime to, int limit);
+}
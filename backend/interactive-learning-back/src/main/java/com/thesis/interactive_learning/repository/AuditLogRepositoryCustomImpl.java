@@ -0,0 +1,90 @@
+package com.thesis.interactive_learning.repository;
+
+import com.thesis.interactive_learning.model.AuditLog;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC access behind {@link AuditLogRepositoryCustom}: batch inserts for the background
+ * audit writer and detached keyset chunks for exports.
+ */
+public class AuditLogRepositoryCustomImpl implements AuditLogRepositoryCustom {
+
+    static final String INSERT_AUDIT_LOG = "INSERT INTO audit_logs (timestamp, level, action, description, " +
+            "user_id, username, ip_address, entity_type, entity_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final String SELECT_EXPORT_CHUNK = "SELECT id, timestamp, level, action, description, user_id, username, " +
+            "ip_address, entity_type, entity_id FROM audit_logs " +
+            "WHERE (timestamp > ? OR (timestamp = ? AND id > ?)) AND timestamp < ? " +
+            "ORDER BY timestamp, id LIMIT ?";
+
+    private static final RowMapper<AuditLog> AUDIT_LOG_ROW_MAPPER = (rs, rowNum) -> AuditLog.builder()
+            .id(rs.getLong("id"))
+            .timestamp(rs.getTimestamp("timestamp").toLocalDateTime())
+            .level(AuditLog.LogLevel.valueOf(rs.getString("level")))
+            .action(AuditLog.LogAction.valueOf(rs.getString("action")))
+            .description(rs.getString("description"))
+            .userId(rs.getObject("user_id", Long.class))
+            .username(rs.getString("username"))
+            .ipAddress(rs.getString("ip_address"))
+            .entityType(rs.getString("entity_type"))
+            .entityId(rs.getObject("entity_id", Long.class))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditLogRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void insertAllInBatch(List<AuditLog> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_AUDIT_LOG, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AuditLog log = logs.get(i);
+                LocalDateTime timestamp = log.getTimestamp() != null ? log.getTimestamp() : LocalDateTime.now();
+                ps.setTimestamp(1, Timestamp.valueOf(timestamp));
+                ps.setString(2, log.getLevel().name());
+                ps.setString(3, log.getAction().name());
+                ps.setString(4, truncate(log.getDescription(), 500));
+                ps.setObject(5, log.getUserId(), Types.BIGINT);
+                ps.setString(6, truncate(log.getUsername(), 100));
+                ps.setString(7, truncate(log.getIpAddress(), 45));
+                ps.setString(8, truncate(log.getEntityType(), 50));
+                ps.setObject(9, log.getEntityId(), Types.BIGINT);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return logs.size();
+            }
+        });
+    }
+
+    @Override
+    public List<AuditLog> findExportChunk(LocalDateTime afterTimestamp, long afterId, LocalDateTime to, int limit) {
+        Timestamp after = Timestamp.valueOf(afterTimestamp);
+        return jdbcTemplate.query(SELECT_EXPORT_CHUNK, AUDIT_LOG_ROW_MAPPER,
+                after, after, afterId, Timestamp.valueOf(to), limit);
+    }
+
+    // One oversized value would otherwise fail the whole batch, so clip to the column lengths
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
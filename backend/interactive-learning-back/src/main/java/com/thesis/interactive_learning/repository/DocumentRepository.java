@@ -1,10 +1,19 @@
 package com.thesis.interactive_learning.repository;
 
+import com.thesis.interactive_learning.dto.IdCount;
 import com.thesis.interactive_learning.model.Document;
+import com.thesis.interactive_learning.model.StudyCollection;
 import com.thesis.interactive_learning.model.User;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +25,33 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
 
     List<Document> findByUserAndStudyCollectionId(User user, Long collectionId);
     List<Document> findByUserAndStudyCollectionIsNull(User user);
+
+    @Query("SELECT d FROM Document d WHERE d.user.id = :userId ORDER BY d.uploadDate DESC, d.id DESC")
+    List<Document> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT d FROM Document d WHERE d.user.id = :userId " +
+            "AND (d.uploadDate < :uploadDate OR (d.uploadDate = :uploadDate AND d.id < :id)) " +
+            "ORDER BY d.uploadDate DESC, d.id DESC")
+    List<Document> findPageByUserIdBefore(@Param("userId") Long userId, @Param("uploadDate") LocalDateTime uploadDate,
+                                          @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT new com.thesis.interactive_learning.dto.IdCount(d.user.id, COUNT(d)) " +
+            "FROM Document d WHERE d.user.id IN :userIds GROUP BY d.user.id")
+    List<IdCount> countByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT d.id FROM Document d WHERE d.id IN :ids AND d.user.id = :userId")
+    List<Long> findIdsByIdInAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT d.studyCollection.id FROM Document d WHERE d.id IN :ids AND d.studyCollection IS NOT NULL")
+    List<Long> findCollectionIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Document d SET d.studyCollection = :collection WHERE d.id IN :ids")
+    int updateCollectionByIdIn(@Param("ids") Collection<Long> ids, @Param("collection") StudyCollection collection);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Document d SET d.studyCollection = null WHERE d.studyCollection.id = :collectionId")
+    int clearCollection(@Param("collectionId") Long collectionId);
 }
\ No newline at end of file
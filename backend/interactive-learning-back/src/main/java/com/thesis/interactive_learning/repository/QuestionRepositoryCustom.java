@@ -0,0 +1,20 @@
+package com.thesis.interactive_learning.repository;
+
+import com.thesis.interactive_learning.model.Question;
+
+import java.util.List;
+
+public interface QuestionRepositoryCustom {
+
+    /**
+     * Insert new questions (and their options) using JDBC batches instead of one
+     * persist per question. Each question must already reference a saved quiz;
+     * generated ids are written back to the given instances.
+     * <p>
+     * The rows never pass through the persistence context: no JPA lifecycle callbacks or
+     * Hibernate event listeners run, so {@code QuizViewCache} is not evicted for them. That
+     * is safe for a quiz created in the same transaction, which has no cached view yet;
+     * callers adding questions to an existing quiz must evict its view themselves.
+     */
+    List<Question> insertAllInBatch(List<Question> questions);
+}
@@ -0,0 +1,73 @@
+package com.thesis.interactive_learning.repository;
+
+import com.thesis.interactive_learning.model.Question;
+import com.thesis.interactive_learning.model.QuestionOptionsConverter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC batch writer behind {@link QuestionRepositoryCustom}.
+ * Question ids are IDENTITY columns, which stops Hibernate from batching inserts, so a
+ * generated quiz is written as a single batch of question rows (options included).
+ */
+public class QuestionRepositoryCustomImpl implements QuestionRepositoryCustom {
+
+    static final String INSERT_QUESTION = "INSERT INTO questions (question_text, explanation, options_json, " +
+            "correct_option_index, source_text, source_page, quiz_id, difficulty_level, question_type) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final QuestionOptionsConverter OPTIONS_CONVERTER = new QuestionOptionsConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public QuestionRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public List<Question> insertAllInBatch(List<Question> questions) {
+        if (questions.isEmpty()) {
+            return questions;
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_QUESTION, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Question question = questions.get(i);
+                        ps.setString(1, question.getQuestionText());
+                        ps.setString(2, question.getExplanation());
+                        ps.setString(3, OPTIONS_CONVERTER.convertToDatabaseColumn(question.getOptions()));
+                        ps.setInt(4, question.getCorrectOptionIndex());
+                        ps.setString(5, question.getSourceText());
+                        ps.setObject(6, question.getSourcePage(), Types.INTEGER);
+                        ps.setObject(7, question.getQuiz() != null ? question.getQuiz().getId() : null, Types.BIGINT);
+                        ps.setObject(8, question.getDifficultyLevel(), Types.INTEGER);
+                        ps.setString(9, question.getQuestionType());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return questions.size();
+                    }
+                }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < questions.size(); i++) {
+            questions.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+
+        return questions;
+    }
+}
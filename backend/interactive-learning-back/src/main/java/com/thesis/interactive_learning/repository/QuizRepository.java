@@ -1,14 +1,19 @@
 package com.thesis.interactive_learning.repository;
 
 import com.thesis.interactive_learning.model.Quiz;
+import com.thesis.interactive_learning.model.StudyCollection;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
@@ -20,6 +25,22 @@ public interface QuizRepository extends JpaRepository<Quiz, Long> {
     @Query("SELECT q FROM Quiz q WHERE q.document.user.id = :userId")
     List<Quiz> findByDocumentUserId(@Param("userId") Long userId);
 
+    // Quizzes carry no user_id, so unlike the document and progress pages these cannot read the
+    // page straight off an index: the user's documents are joined to their quizzes (through
+    // idx_quizzes_document_created) and the matches are sorted before the limit. The sort is
+    // bounded by the quiz count of one user, which stays small for a single learner's documents.
+    @Query("SELECT q FROM Quiz q WHERE q.document.user.id = :userId ORDER BY q.createdAt DESC, q.id DESC")
+    List<Quiz> findPageByDocumentUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT q FROM Quiz q WHERE q.document.user.id = :userId " +
+            "AND (q.createdAt < :createdAt OR (q.createdAt = :createdAt AND q.id < :id)) " +
+            "ORDER BY q.createdAt DESC, q.id DESC")
+    List<Quiz> findPageByDocumentUserIdBefore(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT COUNT(q) FROM Quiz q WHERE q.document.user.id = :userId")
+    long countByDocumentUserId(@Param("userId") Long userId);
+
     @Query("SELECT q FROM Quiz q WHERE q.studyCollection.id = :collectionId AND q.document.user.id = :userId")
     List<Quiz> findByStudyCollectionIdAndDocumentUserId(@Param("collectionId") Long collectionId, @Param("userId") Long userId);
 
@@ -29,6 +50,33 @@ public interface QuizRepository extends JpaRepository<Quiz, Long> {
     @Query("SELECT q FROM Quiz q WHERE q.document.user.id = :userId AND q.microbitCompatible = :microbitCompatible")
     List<Quiz> findByDocumentUserIdAndMicrobitCompatible(@Param("userId") Long userId, @Param("microbitCompatible") boolean microbitCompatible);
 
+    @Query("SELECT DISTINCT q FROM Quiz q LEFT JOIN FETCH q.questions WHERE q.id = :id")
+    Optional<Quiz> findByIdWithQuestions(@Param("id") Long id);
+
+    @Query("SELECT DISTINCT q FROM Quiz q LEFT JOIN FETCH q.questions LEFT JOIN FETCH q.document " +
+            "LEFT JOIN FETCH q.studyCollection WHERE q.id = :id")
+    Optional<Quiz> findViewSourceById(@Param("id") Long id);
+
+    @Query("SELECT q.id FROM Quiz q WHERE q.document.id IN :documentIds")
+    List<Long> findIdsByDocumentIdIn(@Param("documentIds") Collection<Long> documentIds);
+
+    @Query("SELECT DISTINCT q.studyCollection.id FROM Quiz q WHERE q.document.id IN :documentIds AND q.studyCollection IS NOT NULL")
+    List<Long> findCollectionIdsByDocumentIdIn(@Param("documentIds") Collection<Long> documentIds);
+
+    @Query("SELECT q.id FROM Quiz q WHERE q.studyCollection.id = :collectionId")
+    List<Long> findIdsByStudyCollectionId(@Param("collectionId") Long collectionId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Quiz q SET q.studyCollection = :collection WHERE q.document.id IN :documentIds")
+    int updateCollectionByDocumentIdIn(@Param("documentIds") Collection<Long> documentIds,
+                                       @Param("collection") StudyCollection collection);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Quiz q SET q.studyCollection = null WHERE q.studyCollection.id = :collectionId")
+    int clearCollection(@Param("collectionId") Long collectionId);
+
     @Modifying
     @Transactional
     @Query("DELETE FROM Question q WHERE q.quiz.id = :quizId")
@@ -1,12 +1,32 @@
 package com.thesis.interactive_learning.repository;
 
+import com.thesis.interactive_learning.dto.CollectionSummary;
+import com.thesis.interactive_learning.dto.IdCount;
 import com.thesis.interactive_learning.model.StudyCollection;
 import com.thesis.interactive_learning.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface StudyCollectionRepository extends JpaRepository<StudyCollection, Long> {
     List<StudyCollection> findByUser(User user);
+
+    @Query("SELECT sc FROM StudyCollection sc WHERE sc.user.id = :userId")
+    List<StudyCollection> findByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.thesis.interactive_learning.dto.IdCount(sc.user.id, COUNT(sc)) " +
+            "FROM StudyCollection sc WHERE sc.user.id IN :userIds GROUP BY sc.user.id")
+    List<IdCount> countByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT new com.thesis.interactive_learning.dto.CollectionSummary(sc.id, " +
+            "(SELECT COUNT(d) FROM Document d WHERE d.studyCollection.id = sc.id), " +
+            "(SELECT COUNT(q) FROM Quiz q WHERE q.studyCollection.id = sc.id), " +
+            "(SELECT SUM(d.fileSize) FROM Document d WHERE d.studyCollection.id = sc.id), " +
+            "(SELECT SUM(d.pageCount) FROM Document d WHERE d.studyCollection.id = sc.id)) " +
+            "FROM StudyCollection sc WHERE sc.id IN :ids")
+    List<CollectionSummary> summarizeByIds(@Param("ids") Collection<Long> ids);
 }
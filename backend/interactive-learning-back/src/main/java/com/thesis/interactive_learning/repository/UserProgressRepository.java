@@ -1,13 +1,21 @@
 package com.thesis.interactive_learning.repository;
 
+import com.thesis.interactive_learning.dto.IdCount;
+import com.thesis.interactive_learning.dto.PlatformActivitySummary;
+import com.thesis.interactive_learning.dto.ProgressBucket;
+import com.thesis.interactive_learning.dto.QuizPerformanceSummary;
+import com.thesis.interactive_learning.dto.UserProgressSummary;
 import com.thesis.interactive_learning.model.UserProgress;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -22,9 +30,23 @@ public interface UserProgressRepository extends JpaRepository<UserProgress, Long
     @Query("SELECT up FROM UserProgress up WHERE up.user.id = :userId ORDER BY up.completedAt DESC")
     List<UserProgress> findByUserIdOrderByCompletedAtDesc(@Param("userId") Long userId);
 
+    @Query("SELECT up FROM UserProgress up JOIN FETCH up.quiz WHERE up.user.id = :userId " +
+            "ORDER BY up.completedAt DESC, up.id DESC")
+    List<UserProgress> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT up FROM UserProgress up JOIN FETCH up.quiz WHERE up.user.id = :userId " +
+            "AND (up.completedAt < :completedAt OR (up.completedAt = :completedAt AND up.id < :id)) " +
+            "ORDER BY up.completedAt DESC, up.id DESC")
+    List<UserProgress> findPageByUserIdBefore(@Param("userId") Long userId, @Param("completedAt") LocalDateTime completedAt,
+                                              @Param("id") Long id, Pageable pageable);
+
     @Query("SELECT COUNT(up) FROM UserProgress up WHERE up.user.id = :userId")
     Long countByUserId(@Param("userId") Long userId);
 
+    @Query("SELECT new com.thesis.interactive_learning.dto.IdCount(up.user.id, COUNT(up)) " +
+            "FROM UserProgress up WHERE up.user.id IN :userIds GROUP BY up.user.id")
+    List<IdCount> countByUserIds(@Param("userIds") Collection<Long> userIds);
+
     @Query("SELECT AVG(up.accuracyPercentage) FROM UserProgress up WHERE up.user.id = :userId")
     Double getAverageAccuracyByUserId(@Param("userId") Long userId);
 
@@ -32,7 +54,55 @@ public interface UserProgressRepository extends JpaRepository<UserProgress, Long
     Double getMaxAccuracyByUserId(@Param("userId") Long userId);
 
     @Query("SELECT up FROM UserProgress up WHERE up.user.id = :userId AND up.completedAt >= :startDate")
-    List<UserProgress> findByUserIdAndCompletedAtAfter(@Param("userId") Long userId, @Param("startDate") java.time.LocalDateTime startDate);
+    List<UserProgress> findByUserIdAndCompletedAtAfter(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate);
+
+    @Query("SELECT new com.thesis.interactive_learning.dto.UserProgressSummary(" +
+            "COUNT(up), AVG(COALESCE(up.accuracyPercentage, 0.0)), MIN(COALESCE(up.accuracyPercentage, 0.0)), " +
+            "MAX(COALESCE(up.accuracyPercentage, 0.0)), SUM(up.totalQuestions), SUM(up.correctAnswers), " +
+            "AVG(CASE WHEN up.completionTimeSeconds > 0 THEN up.completionTimeSeconds END), " +
+            "MIN(CASE WHEN up.completionTimeSeconds > 0 THEN up.completionTimeSeconds END), " +
+            "MAX(CASE WHEN up.completionTimeSeconds > 0 THEN up.completionTimeSeconds END), " +
+            "SUM(CASE WHEN up.accuracyPercentage >= 90 THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN up.accuracyPercentage >= 70 AND up.accuracyPercentage < 90 THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN up.accuracyPercentage >= 50 AND up.accuracyPercentage < 70 THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN up.accuracyPercentage < 50 THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN up.completedAt > :recentSince THEN 1L ELSE 0L END), " +
+            "COUNT(DISTINCT up.quiz.id)) " +
+            "FROM UserProgress up WHERE up.user.id = :userId")
+    UserProgressSummary summarizeByUserId(@Param("userId") Long userId, @Param("recentSince") LocalDateTime recentSince);
+
+    @Query("SELECT new com.thesis.interactive_learning.dto.ProgressBucket(" +
+            "CAST(up.completedAt AS LocalDate), COUNT(up), AVG(COALESCE(up.accuracyPercentage, 0.0))) " +
+            "FROM UserProgress up WHERE up.user.id = :userId AND up.completedAt > :since " +
+            "GROUP BY CAST(up.completedAt AS LocalDate)")
+    List<ProgressBucket> countDailyActivity(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    @Query("SELECT new com.thesis.interactive_learning.dto.ProgressBucket(" +
+            "YEAR(up.completedAt), MONTH(up.completedAt), COUNT(up), AVG(COALESCE(up.accuracyPercentage, 0.0))) " +
+            "FROM UserProgress up WHERE up.user.id = :userId AND up.completedAt >= :since " +
+            "GROUP BY YEAR(up.completedAt), MONTH(up.completedAt)")
+    List<ProgressBucket> summarizeMonthlyProgress(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    @Query("SELECT new com.thesis.interactive_learning.dto.QuizPerformanceSummary(" +
+            "q.title, COUNT(up), MAX(COALESCE(up.accuracyPercentage, 0.0)), AVG(COALESCE(up.accuracyPercentage, 0.0))) " +
+            "FROM UserProgress up JOIN up.quiz q WHERE up.user.id = :userId GROUP BY q.title")
+    List<QuizPerformanceSummary> summarizeByQuiz(@Param("userId") Long userId);
+
+    @Query("SELECT new com.thesis.interactive_learning.dto.PlatformActivitySummary(COUNT(up), COUNT(DISTINCT up.user.id)) " +
+            "FROM UserProgress up WHERE up.completedAt > :since")
+    PlatformActivitySummary summarizePlatformActivity(@Param("since") LocalDateTime since);
+
+    @Query("SELECT AVG(up.accuracyPercentage) FROM UserProgress up")
+    Double getPlatformAverageAccuracy();
+
+    @Query("SELECT DISTINCT up.user.id FROM UserProgress up WHERE up.quiz.id = :quizId")
+    List<Long> findUserIdsByQuizId(@Param("quizId") Long quizId);
+
+    @Query("SELECT DISTINCT up.user.id FROM UserProgress up WHERE up.quiz.document.id = :documentId")
+    List<Long> findUserIdsByDocumentId(@Param("documentId") Long documentId);
+
+    @Query("SELECT DISTINCT up.user.id FROM UserProgress up WHERE up.quiz.id IN :quizIds")
+    List<Long> findUserIdsByQuizIds(@Param("quizIds") List<Long> quizIds);
 
     @Modifying
     @Transactional
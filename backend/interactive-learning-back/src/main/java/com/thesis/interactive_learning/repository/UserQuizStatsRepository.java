@@ -0,0 +1,43 @@
+package com.thesis.interactive_learning.repository;
+
+import com.thesis.interactive_learning.dto.QuizPerformanceSummary;
+import com.thesis.interactive_learning.model.UserQuizStats;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserQuizStatsRepository extends JpaRepository<UserQuizStats, Long> {
+
+    Optional<UserQuizStats> findByUserIdAndQuizId(Long userId, Long quizId);
+
+    // Joined on quiz id so stats of deleted quizzes drop out, as their progress rows do
+    @Query("SELECT new com.thesis.interactive_learning.dto.QuizPerformanceSummary(q.title, SUM(s.attempts), " +
+            "MAX(s.bestScore), SUM(s.sumScore) / SUM(s.attempts)) " +
+            "FROM UserQuizStats s JOIN Quiz q ON q.id = s.quizId WHERE s.userId = :userId GROUP BY q.title")
+    List<QuizPerformanceSummary> summarizeByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(s) FROM UserQuizStats s JOIN Quiz q ON q.id = s.quizId WHERE s.userId = :userId")
+    long countQuizzesByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.thesis.interactive_learning.model.UserQuizStats(up.user.id, up.quiz.id, COUNT(up), " +
+            "MAX(COALESCE(up.accuracyPercentage, 0.0)), SUM(COALESCE(up.accuracyPercentage, 0.0))) " +
+            "FROM UserProgress up WHERE up.user.id = :userId GROUP BY up.user.id, up.quiz.id")
+    List<UserQuizStats> computeFromHistory(@Param("userId") Long userId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserQuizStats s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserQuizStats s WHERE s.userId NOT IN (SELECT u.id FROM User u)")
+    int deleteOrphans();
+}
@@ -1,10 +1,15 @@
 package com.thesis.interactive_learning.repository;
 
 
+import com.thesis.interactive_learning.dto.UserStatusVersion;
 import com.thesis.interactive_learning.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +18,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    // Security dashboard (served by idx_users_account_locked_until and idx_users_status)
+    long countByAccountLockedUntilAfter(LocalDateTime now);
+    long countByStatus(User.UserStatus status);
+    List<User> findByAccountLockedUntilAfterOrderByAccountLockedUntilDesc(LocalDateTime now);
+
+    // Token revocation check: only the columns JwtRequestFilter needs, by primary key
+    @Query("SELECT new com.thesis.interactive_learning.dto.UserStatusVersion(u.id, u.status, u.role, u.statusVersion) " +
+            "FROM User u WHERE u.id = :id")
+    Optional<UserStatusVersion> findStatusVersionById(@Param("id") Long id);
+
+    // Stored hash, compared on save to tell whether an update changed the password
+    @Query("SELECT u.password FROM User u WHERE u.id = :id")
+    Optional<String> findPasswordById(@Param("id") Long id);
 }
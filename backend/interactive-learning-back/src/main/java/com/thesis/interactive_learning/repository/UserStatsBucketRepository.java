@@ -0,0 +1,55 @@
+package com.thesis.interactive_learning.repository;
+
+import com.thesis.interactive_learning.model.UserStatsBucket;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserStatsBucketRepository extends JpaRepository<UserStatsBucket, Long> {
+
+    Optional<UserStatsBucket> findByUserIdAndGranularityAndPeriod(Long userId, UserStatsBucket.Granularity granularity,
+                                                                  String period);
+
+    // Periods are zero-padded ISO strings, so string order is chronological order
+    @Query("SELECT b FROM UserStatsBucket b WHERE b.userId = :userId AND b.granularity = :granularity " +
+            "AND b.period >= :fromPeriod ORDER BY b.period")
+    List<UserStatsBucket> findRecent(@Param("userId") Long userId,
+                                     @Param("granularity") UserStatsBucket.Granularity granularity,
+                                     @Param("fromPeriod") String fromPeriod);
+
+    @Query("SELECT new com.thesis.interactive_learning.model.UserStatsBucket(up.user.id, " +
+            "CAST(up.completedAt AS LocalDate), COUNT(up), SUM(COALESCE(up.accuracyPercentage, 0.0))) " +
+            "FROM UserProgress up WHERE up.user.id = :userId AND up.completedAt >= :since " +
+            "GROUP BY up.user.id, CAST(up.completedAt AS LocalDate)")
+    List<UserStatsBucket> computeDailyFromHistory(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    @Query("SELECT new com.thesis.interactive_learning.model.UserStatsBucket(up.user.id, " +
+            "YEAR(up.completedAt), MONTH(up.completedAt), COUNT(up), SUM(COALESCE(up.accuracyPercentage, 0.0))) " +
+            "FROM UserProgress up WHERE up.user.id = :userId " +
+            "GROUP BY up.user.id, YEAR(up.completedAt), MONTH(up.completedAt)")
+    List<UserStatsBucket> computeMonthlyFromHistory(@Param("userId") Long userId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserStatsBucket b WHERE b.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserStatsBucket b WHERE b.granularity = :granularity AND b.period < :beforePeriod")
+    int deleteOlderThan(@Param("granularity") UserStatsBucket.Granularity granularity,
+                        @Param("beforePeriod") String beforePeriod);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserStatsBucket b WHERE b.userId NOT IN (SELECT u.id FROM User u)")
+    int deleteOrphans();
+}
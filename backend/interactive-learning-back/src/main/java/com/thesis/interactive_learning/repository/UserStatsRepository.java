@@ -0,0 +1,59 @@
+package com.thesis.interactive_learning.repository;
+
+import com.thesis.interactive_learning.model.UserStats;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    // Serializes rollup updates per user
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserStats s WHERE s.userId = :userId")
+    Optional<UserStats> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    @Query("SELECT new com.thesis.interactive_learning.model.UserStats(up.user.id, " +
+            "COUNT(up), SUM(up.totalQuestions), SUM(up.correctAnswers), SUM(COALESCE(up.accuracyPercentage, 0.0)), " +
+            "MIN(COALESCE(up.accuracyPercentage, 0.0)), MAX(COALESCE(up.accuracyPercentage, 0.0)), " +
+            "SUM(CASE WHEN up.completionTimeSeconds > 0 THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN up.completionTimeSeconds > 0 THEN up.completionTimeSeconds ELSE 0L END), " +
+            "MIN(CASE WHEN up.completionTimeSeconds > 0 THEN up.completionTimeSeconds END), " +
+            "MAX(CASE WHEN up.completionTimeSeconds > 0 THEN up.completionTimeSeconds END), " +
+            "SUM(CASE WHEN up.accuracyPercentage >= 90 THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN up.accuracyPercentage >= 70 AND up.accuracyPercentage < 90 THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN up.accuracyPercentage >= 50 AND up.accuracyPercentage < 70 THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN up.accuracyPercentage < 50 THEN 1L ELSE 0L END)) " +
+            "FROM UserProgress up WHERE up.user.id = :userId GROUP BY up.user.id")
+    Optional<UserStats> computeFromHistory(@Param("userId") Long userId);
+
+    // Mean accuracy over every attempt, from one row per user instead of the whole history
+    @Query("SELECT CASE WHEN SUM(s.totalAttempts) > 0 THEN SUM(s.sumAccuracy) / SUM(s.totalAttempts) END " +
+            "FROM UserStats s")
+    Double getPlatformAverageAccuracy();
+
+    @Query("SELECT DISTINCT up.user.id FROM UserProgress up")
+    List<Long> findUserIdsWithProgress();
+
+    @Query("SELECT s.userId FROM UserStats s WHERE s.userId IN (SELECT u.id FROM User u)")
+    List<Long> findUserIdsOfExistingUsers();
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserStats s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // Rollups of users deleted since they were written
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserStats s WHERE s.userId NOT IN (SELECT u.id FROM User u)")
+    int deleteOrphans();
+}
@@ -0,0 +1,80 @@
+package com.thesis.interactive_learning.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal built from the signed claims of a JWT. It carries everything the request needs
+ * to know about the caller, so authenticating a request does not load the user row.
+ */
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    private final String role;
+    private final long statusVersion;
+    private final List<GrantedAuthority> authorities;
+
+    public AuthenticatedUser(Long id, String username, String role, long statusVersion) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+        this.statusVersion = statusVersion;
+        this.authorities = List.of(new SimpleGrantedAuthority(role));
+    }
+
+    /**
+     * @return the principal, or null for tokens issued without the user claims
+     */
+    static AuthenticatedUser fromClaims(Claims claims) {
+        Long id = claims.get(JwtTokenUtil.CLAIM_USER_ID, Long.class);
+        String role = claims.get(JwtTokenUtil.CLAIM_ROLE, String.class);
+        Long statusVersion = claims.get(JwtTokenUtil.CLAIM_STATUS_VERSION, Long.class);
+        if (id == null || role == null || statusVersion == null || claims.getSubject() == null) {
+            return null;
+        }
+        return new AuthenticatedUser(id, claims.getSubject(), role, statusVersion);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public long getStatusVersion() {
+        return statusVersion;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{" +
+                "id=" + id +
+                ", username='" + username + '\'' +
+                ", role='" + role + '\'' +
+                ", statusVersion=" + statusVersion +
+                '}';
+    }
+}
@@ -1,88 +1,76 @@
 package com.thesis.interactive_learning.security;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * Authenticates requests from the signed claims of the bearer token. The token is parsed
+ * once; the only per-user state consulted is {@link UserStatusCache}, which rejects tokens
+ * of users disabled since the token was issued, or whose role or password has changed since.
+ */
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
 
-    @Autowired
-    private UserDetailsServiceImpl userDetailsService;
+    private static final Logger logger = LoggerFactory.getLogger(JwtRequestFilter.class);
+
+    private final JwtTokenUtil jwtTokenUtil;
+    private final UserStatusCache userStatusCache;
 
     @Autowired
-    private JwtTokenUtil jwtTokenUtil;
+    public JwtRequestFilter(JwtTokenUtil jwtTokenUtil, UserStatusCache userStatusCache) {
+        this.jwtTokenUtil = jwtTokenUtil;
+        this.userStatusCache = userStatusCache;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
 
-        final String requestURI = request.getRequestURI();
         final String authorizationHeader = request.getHeader("Authorization");
 
-        // Debug logging
-        System.out.println("=== JWT FILTER DEBUG ===");
-        System.out.println("Request URI: " + requestURI);
-        System.out.println("Authorization header present: " + (authorizationHeader != null));
-        System.out.println("Authorization header: " + authorizationHeader);
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            authenticate(authorizationHeader.substring(7), request);
+        }
 
-        String username = null;
-        String jwt = null;
+        chain.doFilter(request, response);
+    }
 
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            System.out.println("JWT token extracted: " + jwt.substring(0, Math.min(20, jwt.length())) + "...");
-            try {
-                username = jwtTokenUtil.extractUsername(jwt);
-                System.out.println("Username extracted: " + username);
-            } catch (Exception e) {
-                System.out.println("Error extracting username from token: " + e.getMessage());
-                e.printStackTrace();
-            }
-        } else {
-            System.out.println("No valid Authorization header found");
+    private void authenticate(String jwt, HttpServletRequest request) {
+        AuthenticatedUser user;
+        try {
+            user = AuthenticatedUser.fromClaims(jwtTokenUtil.parseToken(jwt));
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.debug("Rejected token on {}: {}", request.getRequestURI(), e.getMessage());
+            return;
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            System.out.println("Loading user details for username: " + username);
-            try {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-                System.out.println("User details loaded: " + userDetails.getUsername());
-
-                if (jwtTokenUtil.validateToken(jwt, userDetails)) {
-                    System.out.println("Token validation successful");
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                    System.out.println("Authentication set in SecurityContext");
-                } else {
-                    System.out.println("Token validation failed");
-                }
-            } catch (Exception e) {
-                System.out.println("Error loading user details: " + e.getMessage());
-                e.printStackTrace();
-            }
-        } else {
-            if (username == null) {
-                System.out.println("Username is null");
-            }
-            if (SecurityContextHolder.getContext().getAuthentication() != null) {
-                System.out.println("Authentication already exists");
-            }
+        if (user == null) {
+            // Issued before tokens carried user claims; the client has to log in again
+            logger.debug("Rejected token without user claims on {}", request.getRequestURI());
+            return;
+        }
+        if (!userStatusCache.isTokenCurrent(user.getId(), user.getStatusVersion())) {
+            logger.debug("Rejected revoked token of user {} on {}", user.getUsername(), request.getRequestURI());
+            return;
         }
 
-        System.out.println("=== END JWT FILTER DEBUG ===");
-        chain.doFilter(request, response);
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                user, null, user.getAuthorities());
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,131 @@
+package com.thesis.interactive_learning.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password hashing on a fixed pool sized to the CPU, so a burst of logins at the start
+ * of a class cannot put every request thread onto BCrypt at once. Only {@code threads} hashes
+ * run concurrently and at most {@code queueCapacity} wait; a request beyond that fails at once
+ * with a {@link RejectedExecutionException} that the controllers turn into a 503. A caller that
+ * does get a slot still blocks its request thread in {@link Future#get} until the hash is done,
+ * for up to {@code timeoutMillis}, after which it is rejected the same way.
+ * <p>
+ * Metrics: {@code auth.password.hashing} (hash time, by operation),
+ * {@code auth.password.hashing.wait} (time queued), {@code auth.password.hashing.queue} and
+ * {@code auth.password.hashing.active} (gauges) and {@code auth.password.hashing.rejected}.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Map<String, Timer> hashTimers;
+    private final Timer waitTimer;
+    private final Counter rejectedSaturated;
+    private final Counter rejectedTimeout;
+
+    @Autowired
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${app.security.hashing-threads:0}") int threads,
+                                   @Value("${app.security.hashing-queue-capacity:64}") int queueCapacity,
+                                   @Value("${app.security.hashing-timeout-ms:5000}") long timeoutMillis) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+
+        this.hashTimers = Map.of(
+                "encode", hashTimer(meterRegistry, "encode"),
+                "matches", hashTimer(meterRegistry, "matches"));
+
+        this.waitTimer = Timer.builder("auth.password.hashing.wait")
+                .description("Time password hashing requests spend queued")
+                .register(meterRegistry);
+        this.rejectedSaturated = Counter.builder("auth.password.hashing.rejected")
+                .tag("reason", "saturated")
+                .register(meterRegistry);
+        this.rejectedTimeout = Counter.builder("auth.password.hashing.rejected")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.queue", executor, pool -> pool.getQueue().size())
+                .description("Password hashing requests waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hashing")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run {@code task} on the hashing pool and wait for its result.
+     *
+     * @param operation metric tag, "encode" or "matches"
+     * @throws RejectedExecutionException if the pool is saturated or the result takes too long
+     */
+    public <T> T execute(String operation, Callable<T> task) {
+        Timer hashTimer = hashTimers.get(operation);
+        if (hashTimer == null) {
+            throw new IllegalArgumentException("Unknown password hashing operation: " + operation);
+        }
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedSaturated.increment();
+            throw new RejectedExecutionException("Password hashing is saturated", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedTimeout.increment();
+            throw new RejectedExecutionException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,135 @@
+package com.thesis.interactive_learning.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate limits /api requests with a token bucket per caller: the user id for token-
+ * authenticated requests, the remote address otherwise. Every request costs one token
+ * unless it matches one of the configured cost rules, which price the CPU-heavy endpoints
+ * (quiz generation, uploads, text extraction) higher. Runs after {@link JwtRequestFilter}
+ * so the user is already known.
+ * <p>
+ * Rules are configured as {@code METHOD /ant/pattern=cost}, comma separated; the first
+ * matching rule wins. Rejections are counted in {@code api.rate-limit.rejected}.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String DEFAULT_ENDPOINT = "default";
+
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final List<CostRule> costRules;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Autowired
+    public RateLimitFilter(RateLimiter rateLimiter,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${app.rate-limit.costs:}") String costs) {
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.costRules = parseCostRules(costs);
+
+        Gauge.builder("api.rate-limit.keys", rateLimiter, RateLimiter::trackedKeys)
+                .description("Callers with a rate limit bucket in memory")
+                .register(meterRegistry);
+    }
+
+    static List<CostRule> parseCostRules(String costs) {
+        List<CostRule> rules = new ArrayList<>();
+        if (costs == null || costs.isBlank()) {
+            return rules;
+        }
+        for (String entry : costs.split(",")) {
+            String rule = entry.trim();
+            int equals = rule.lastIndexOf('=');
+            int space = rule.indexOf(' ');
+            if (equals < 0 || space < 0 || space > equals) {
+                throw new IllegalArgumentException("Invalid rate limit cost rule: " + rule);
+            }
+            rules.add(new CostRule(
+                    rule.substring(0, space).trim().toUpperCase(),
+                    rule.substring(space + 1, equals).trim(),
+                    Integer.parseInt(rule.substring(equals + 1).trim())));
+        }
+        return rules;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !path(request).startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        String path = path(request);
+        CostRule rule = findRule(request.getMethod(), path);
+        int cost = rule != null ? rule.cost() : 1;
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean isUser = authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser;
+        // The remote address, not X-Forwarded-For, which any client can set; behind a proxy
+        // enable server.forward-headers-strategy so this is the real client
+        String key = isUser
+                ? "user:" + ((AuthenticatedUser) authentication.getPrincipal()).getId()
+                : "ip:" + request.getRemoteAddr();
+
+        long retryAfterMillis = rateLimiter.tryAcquire(key, cost);
+        if (retryAfterMillis > 0) {
+            Counter.builder("api.rate-limit.rejected")
+                    .tag("endpoint", rule != null ? rule.pattern() : DEFAULT_ENDPOINT)
+                    .tag("client", isUser ? "user" : "ip")
+                    .register(meterRegistry)
+                    .increment();
+
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfterMillis + 999) / 1000));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Too many requests, please slow down\"}");
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    private CostRule findRule(String method, String path) {
+        for (CostRule rule : costRules) {
+            if (rule.method().equals(method) && pathMatcher.match(rule.pattern(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    record CostRule(String method, String pattern, int cost) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.thesis.interactive_learning.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory token buckets, one per client key, holding up to {@code capacity} tokens and
+ * refilling at {@code refillPerMinute}. Each bucket is a single {@link AtomicLong} (the
+ * generic cell rate algorithm: the time at which the bucket will be full again), updated
+ * with compare-and-set, so concurrent requests never take a lock.
+ * <p>
+ * At most {@link #MAX_KEYS} buckets are tracked. Once the map is full, keys without a bucket
+ * share a single overflow bucket until {@link #evictIdle()} frees room, so a flood from many
+ * addresses is throttled as a whole and never scans the map on the request path.
+ */
+@Component
+public class RateLimiter {
+
+    static final int MAX_KEYS = 100_000;
+
+    private final int capacity;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final Clock clock;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow = new AtomicLong();
+    private final int maxKeys;
+
+    @Autowired
+    public RateLimiter(@Value("${app.rate-limit.capacity:120}") int capacity,
+                       @Value("${app.rate-limit.refill-per-minute:120}") int refillPerMinute) {
+        this(capacity, refillPerMinute, Clock.systemDefaultZone());
+    }
+
+    RateLimiter(int capacity, int refillPerMinute, Clock clock) {
+        this(capacity, refillPerMinute, clock, MAX_KEYS);
+    }
+
+    RateLimiter(int capacity, int refillPerMinute, Clock clock, int maxKeys) {
+        this.maxKeys = maxKeys;
+        this.capacity = capacity;
+        this.intervalNanos = 60_000_000_000L / refillPerMinute;
+        this.burstNanos = capacity * intervalNanos;
+        this.clock = clock;
+    }
+
+    /**
+     * Take {@code cost} tokens from the bucket of {@code key}.
+     *
+     * @return 0 if the tokens were taken, otherwise how long (in ms) until they would be
+     */
+    public long tryAcquire(String key, int cost) {
+        long now = nowNanos();
+        long required = Math.min(cost, capacity) * intervalNanos;
+        AtomicLong bucket = bucket(key);
+
+        while (true) {
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt, now) + required;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return Math.max(1, excess / 1_000_000);
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    int trackedKeys() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucket(String key) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            return overflow;
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    /**
+     * Drop buckets that have refilled completely; they are equivalent to a new one.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    void evictIdle() {
+        long now = nowNanos();
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+    }
+
+    private long nowNanos() {
+        return clock.millis() * 1_000_000L;
+    }
+}
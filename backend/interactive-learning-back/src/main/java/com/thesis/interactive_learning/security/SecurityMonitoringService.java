@@ -5,7 +5,9 @@ import com.thesis.interactive_learning.model.User;
 import com.thesis.interactive_learning.repository.AuditLogRepository;
 import com.thesis.interactive_learning.repository.UserRepository;
 import com.thesis.interactive_learning.service.AuditLogService;
+import com.thesis.interactive_learning.service.impl.FailedLoginTracker;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -19,21 +21,24 @@ public class SecurityMonitoringService {
     private final AuditLogRepository auditLogRepository;
     private final UserRepository userRepository;
     private final AuditLogService auditLogService;
+    private final FailedLoginTracker failedLoginTracker;
+
+    private volatile Map<String, Object> dashboardSnapshot;
 
     @Autowired
     public SecurityMonitoringService(AuditLogRepository auditLogRepository,
                                      UserRepository userRepository,
-                                     AuditLogService auditLogService) {
+                                     AuditLogService auditLogService,
+                                     FailedLoginTracker failedLoginTracker) {
         this.auditLogRepository = auditLogRepository;
         this.userRepository = userRepository;
         this.auditLogService = auditLogService;
+        this.failedLoginTracker = failedLoginTracker;
     }
 
     public boolean shouldBlockLogin(String username, String ipAddress) {
-        LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-
-        long failedIpAttempts = auditLogRepository.countFailedLoginsByIp(ipAddress, oneHourAgo);
-        long failedUsernameAttempts = auditLogRepository.countFailedLoginsByUsername(username, oneHourAgo);
+        long failedIpAttempts = failedLoginTracker.countByIp(ipAddress);
+        long failedUsernameAttempts = failedLoginTracker.countByUsername(username);
 
         // Block if too many failures from IP or username
         if (failedIpAttempts >= 5) {
@@ -60,6 +65,7 @@ public class SecurityMonitoringService {
 
             // Check if account should be locked
             if (user.isAccountLocked()) {
+                dashboardSnapshot = null;
                 auditLogService.logSecurityEvent(AuditLog.LogAction.USER_STATUS_CHANGED,
                         "Account temporarily locked due to failed login attempts: " + username);
             }
@@ -81,39 +87,48 @@ public class SecurityMonitoringService {
                 "Successful login for user: " + username);
     }
 
+    /**
+     * Served from a snapshot that is rebuilt on a schedule (and after lock changes made here),
+     * so opening the dashboard never runs its count queries on the request thread.
+     */
     public Map<String, Object> getSecurityDashboard() {
+        Map<String, Object> snapshot = dashboardSnapshot;
+        if (snapshot == null) {
+            snapshot = buildSecurityDashboard();
+            dashboardSnapshot = snapshot;
+        }
+        return new HashMap<>(snapshot);
+    }
+
+    /**
+     * Drop the snapshot after a change to the counts it shows, such as an admin status change.
+     */
+    public void invalidateDashboard() {
+        dashboardSnapshot = null;
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.dashboard-refresh-ms:60000}")
+    public void refreshSecurityDashboard() {
+        dashboardSnapshot = buildSecurityDashboard();
+    }
+
+    private Map<String, Object> buildSecurityDashboard() {
         Map<String, Object> dashboard = new HashMap<>();
-        LocalDateTime last24Hours = LocalDateTime.now().minusHours(24);
-        LocalDateTime lastWeek = LocalDateTime.now().minusDays(7);
+        LocalDateTime now = LocalDateTime.now();
 
         // Failed login attempts in last 24 hours
-        List<Object[]> actionStats = auditLogRepository.getActionStatistics(last24Hours);
-        long failedLogins24h = actionStats.stream()
-                .filter(stat -> "LOGIN_FAILED".equals(stat[0].toString()))
-                .mapToLong(stat -> (Long) stat[1])
-                .sum();
-
-        dashboard.put("failedLogins24h", failedLogins24h);
+        dashboard.put("failedLogins24h",
+                auditLogRepository.countByActionAndTimestampAfter(AuditLog.LogAction.LOGIN_FAILED, now.minusHours(24)));
 
         // Security events in last week
-        long securityEvents = auditLogRepository.findSecurityLogs(
-                org.springframework.data.domain.PageRequest.of(0, 1000)).getTotalElements();
-        dashboard.put("securityEventsWeek", securityEvents);
-
-        // Locked accounts
-        long lockedAccounts = userRepository.findAll().stream()
-                .filter(User::isAccountLocked)
-                .count();
-        dashboard.put("lockedAccounts", lockedAccounts);
-
-        // Disabled accounts
-        long disabledAccounts = userRepository.findAll().stream()
-                .filter(User::isDisabled)
-                .count();
-        dashboard.put("disabledAccounts", disabledAccounts);
+        dashboard.put("securityEventsWeek", auditLogRepository.countSecurityLogsSince(now.minusDays(7)));
+
+        dashboard.put("lockedAccounts", userRepository.countByAccountLockedUntilAfter(now));
+        dashboard.put("disabledAccounts", userRepository.countByStatus(User.UserStatus.DISABLED));
 
         // Recent security events
-        dashboard.put("recentSecurityEvents", auditLogService.getSecurityLogs(0, 10));
+        dashboard.put("recentSecurityEvents", auditLogService.getRecentSecurityLogs(10));
+        dashboard.put("generatedAt", now);
 
         return dashboard;
     }
@@ -147,6 +162,7 @@ public class SecurityMonitoringService {
         if (user.isAccountLocked()) {
             user.resetFailedLoginAttempts();
             userRepository.save(user);
+            dashboardSnapshot = null;
 
             auditLogService.logAdminAction(AuditLog.LogAction.USER_STATUS_CHANGED,
                     "Admin manually unlocked account for user: " + user.getUsername() + " - Reason: " + reason);
@@ -159,14 +175,14 @@ public class SecurityMonitoringService {
 
         user.resetFailedLoginAttempts();
         userRepository.save(user);
+        dashboardSnapshot = null;
 
         auditLogService.logAdminAction(AuditLog.LogAction.USER_STATUS_CHANGED,
                 "Admin reset failed login attempts for user: " + user.getUsername());
     }
 
     public List<Map<String, Object>> getLockedAccounts() {
-        return userRepository.findAll().stream()
-                .filter(User::isAccountLocked)
+        return userRepository.findByAccountLockedUntilAfterOrderByAccountLockedUntilDesc(LocalDateTime.now()).stream()
                 .map(user -> {
                     Map<String, Object> lockedUser = new HashMap<>();
                     lockedUser.put("id", user.getId());
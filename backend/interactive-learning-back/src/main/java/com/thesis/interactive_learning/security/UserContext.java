@@ -7,19 +7,44 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Service
 public class UserContext {
 
+    // Request attribute holding the User loaded by getCurrentUser(), so it is queried once per request
+    private static final String CURRENT_USER_ATTRIBUTE = UserContext.class.getName() + ".currentUser";
+
     @Autowired
     private UserRepository userRepository;
 
     /**
-     * Get the current authenticated user from the security context
+     * Get the current authenticated user from the security context. The user is loaded once
+     * per request; prefer {@link #getCurrentUserId()} when only the id is needed.
      * @return Current authenticated user
      * @throws RuntimeException if user is not authenticated or not found
      */
     public User getCurrentUser() {
+        String username = getCurrentUserDetails().getUsername();
+
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            Object cached = request.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof User user && username.equals(user.getUsername())) {
+                return user;
+            }
+        }
+
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found: " + username));
+        if (request != null) {
+            request.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    private UserDetails getCurrentUserDetails() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -31,11 +56,7 @@ public class UserContext {
             throw new RuntimeException("Invalid authentication principal");
         }
 
-        UserDetails userDetails = (UserDetails) principal;
-        String username = userDetails.getUsername();
-
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found: " + username));
+        return (UserDetails) principal;
     }
 
     /**
@@ -43,9 +64,24 @@ public class UserContext {
      * @return Current user ID
      */
     public Long getCurrentUserId() {
+        // Token-authenticated requests carry the id in the principal; no lookup needed
+        if (getCurrentUserDetails() instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
         return getCurrentUser().getId();
     }
 
+    /**
+     * Check if the current user has the ADMIN role
+     * @return true if current user is an admin
+     */
+    public boolean isCurrentUserAdmin() {
+        if (getCurrentUserDetails() instanceof AuthenticatedUser user) {
+            return User.Role.ADMIN.toString().equals(user.getRole());
+        }
+        return getCurrentUser().getRole() == User.Role.ADMIN;
+    }
+
     /**
      * Get the current authenticated username
      * @return Current username
@@ -0,0 +1,91 @@
+package com.thesis.interactive_learning.security;
+
+import com.thesis.interactive_learning.dto.UserStatusVersion;
+import com.thesis.interactive_learning.model.User;
+import com.thesis.interactive_learning.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived cache of each user's status and status version, used to reject tokens of
+ * users who were disabled (or re-enabled), or whose role or password changed, after the token
+ * was issued. A user's row is read
+ * at most once per {@code ttlMillis} instead of on every request.
+ * <p>
+ * Changes made through this instance take effect immediately via {@link #invalidate}; on
+ * other instances they take effect within the TTL.
+ */
+@Component
+public class UserStatusCache {
+
+    static final int MAX_ENTRIES = 10_000;
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UserStatusCache(UserRepository userRepository,
+                           @Value("${app.security.status-cache-ttl-ms:30000}") long ttlMillis) {
+        this(userRepository, ttlMillis, Clock.systemDefaultZone());
+    }
+
+    UserStatusCache(UserRepository userRepository, long ttlMillis, Clock clock) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * @return true if the user still exists, is enabled, and has not changed status since
+     * the token carrying {@code tokenStatusVersion} was issued
+     */
+    public boolean isTokenCurrent(Long userId, long tokenStatusVersion) {
+        long now = clock.millis();
+        Entry entry = entries.get(userId);
+        if (entry == null || entry.expiresAt <= now) {
+            entry = load(userId, now);
+        }
+        return entry.enabled && entry.statusVersion == tokenStatusVersion;
+    }
+
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            entries.remove(userId);
+        }
+    }
+
+    private Entry load(Long userId, long now) {
+        Entry entry = userRepository.findStatusVersionById(userId)
+                .map(user -> new Entry(user.getStatus() == User.UserStatus.ENABLED, user.getStatusVersion(),
+                        now + ttlMillis))
+                // Deleted users: cache the rejection too, so a stale token cannot hammer the table
+                .orElseGet(() -> new Entry(false, -1, now + ttlMillis));
+
+        if (entries.size() >= MAX_ENTRIES) {
+            evict(now);
+        }
+        entries.put(userId, entry);
+        return entry;
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() >= MAX_ENTRIES && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Entry(boolean enabled, long statusVersion, long expiresAt) {
+    }
+}
@@ -17,6 +17,20 @@ public interface AIQuizService {
     List<Question> generateAIQuestions(String documentText, int numberOfQuestions,
                                        String questionType, int difficulty, boolean microbitCompatible);
 
+    /**
+     * Generate quiz questions in the document's own language
+     * @param documentText The text content from the PDF
+     * @param numberOfQuestions Number of questions to generate
+     * @param questionType Either "MULTIPLE_CHOICE" or "TRUE_FALSE"
+     * @param difficulty Difficulty level (1-3: Easy, Medium, Hard)
+     * @param microbitCompatible Whether questions should be Micro:bit compatible
+     * @param language ISO 639-1 code of the document language (unsupported codes fall back to English)
+     * @return List of AI-generated questions
+     */
+    List<Question> generateAIQuestions(String documentText, int numberOfQuestions,
+                                       String questionType, int difficulty, boolean microbitCompatible,
+                                       String language);
+
     /**
      * Generate questions for a specific topic within the document
      * @param documentText The full document text
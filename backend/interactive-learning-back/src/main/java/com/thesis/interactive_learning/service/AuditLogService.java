@@ -1,7 +1,12 @@
 package com.thesis.interactive_learning.service;
 
+import com.thesis.interactive_learning.dto.AuditLogExportFormat;
 import com.thesis.interactive_learning.model.AuditLog;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 public interface AuditLogService {
@@ -34,10 +39,17 @@ public interface AuditLogService {
 
     Map<String, Object> getSecurityLogs(int page, int size);
 
+    List<Map<String, Object>> getRecentSecurityLogs(int limit);
+
     Map<String, Object> getAdminActionLogs(int page, int size);
 
     Map<String, Object> getUserLogs(Long userId, int page, int size);
 
+    // Export and archives (entries older than the retention period live in monthly archive files)
+    void exportLogs(LocalDateTime from, LocalDateTime to, AuditLogExportFormat format, Writer out) throws IOException;
+
+    List<Map<String, Object>> getArchives() throws IOException;
+
     // Basic security monitoring
     boolean checkSuspiciousActivity(String ipAddress, String username);
 }
\ No newline at end of file
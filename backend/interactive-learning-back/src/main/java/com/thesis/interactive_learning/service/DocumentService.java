@@ -1,12 +1,16 @@
 package com.thesis.interactive_learning.service;
 
+import com.thesis.interactive_learning.dto.BulkCollectionUpdateResult;
+import com.thesis.interactive_learning.dto.KeysetPage;
 import com.thesis.interactive_learning.model.Document;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface DocumentService {
     Document saveDocument(Document document);
@@ -15,6 +19,11 @@ public interface DocumentService {
 
     List<Document> getAllDocuments();
     List<Document> getDocumentsByUserId(Long userId);
+
+    /**
+     * Newest-first page of a user's documents, continuing after {@code cursor}.
+     */
+    KeysetPage<Document> getDocumentsPageByUserId(Long userId, String cursor, Integer limit);
     List<Document> getDocumentsByCollectionId(Long collectionId);
 
     List<Document> getDocumentsByCollectionIdAndUserId(Long collectionId, Long userId);
@@ -23,7 +32,14 @@ public interface DocumentService {
     void deleteDocument(Long id);
     String extractTextFromPdf(Long documentId) throws IOException;
     Map<String, Object> extractStructuredTextFromPdf(Long documentId) throws IOException;
+    Stream<String> streamPageTexts(Long documentId) throws IOException;
     Map<String, Object> extractDocumentMetadata(Long documentId) throws IOException;
-    Document updateDocumentCollection(Long documentId, Long collectionId);
     Document removeDocumentFromCollection(Long documentId);
+
+    /**
+     * Move documents, and every quiz generated from them, into a collection (or out of any
+     * collection when {@code collectionId} is null) with set-based updates in one transaction.
+     * All documents must belong to {@code ownerUserId}; otherwise nothing is changed.
+     */
+    BulkCollectionUpdateResult moveDocumentsToCollection(Collection<Long> documentIds, Long collectionId, Long ownerUserId);
 }
\ No newline at end of file
@@ -37,6 +37,21 @@ public interface QuestionGenerationService {
     List<Question> generateQuestionsFromText(String text, int numberOfQuestions, String questionType,
                                              int difficulty, boolean microbitCompatible, boolean useAI);
 
+    /**
+     * Creates questions from text whose language is already known
+     * @param text The input text
+     * @param language ISO 639-1 language code of the text (e.g. "en", "sq")
+     * @param numberOfQuestions The number of questions to generate
+     * @param questionType The type of questions ("MULTIPLE_CHOICE" or "TRUE_FALSE")
+     * @param difficulty Difficulty level (1-3: Easy, Medium, Hard)
+     * @param microbitCompatible Whether questions should be compatible with Micro:bit interaction
+     * @param useAI Whether to use AI for question generation
+     * @return List of generated questions
+     */
+    List<Question> generateQuestionsFromText(String text, String language, int numberOfQuestions,
+                                             String questionType, int difficulty,
+                                             boolean microbitCompatible, boolean useAI);
+
     /**
      * Legacy method for backward compatibility - uses basic generation
      * @deprecated Use the new method with AI support instead
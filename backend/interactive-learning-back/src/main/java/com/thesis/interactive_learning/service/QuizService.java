@@ -1,5 +1,7 @@
 package com.thesis.interactive_learning.service;
 
+import com.thesis.interactive_learning.dto.KeysetPage;
+import com.thesis.interactive_learning.dto.QuizView;
 import com.thesis.interactive_learning.model.Quiz;
 import java.util.List;
 import java.util.Map;
@@ -8,12 +10,19 @@ import java.util.Optional;
 public interface QuizService {
     Quiz saveQuiz(Quiz quiz);
     Optional<Quiz> getQuizById(Long id);
+    Optional<Quiz> getQuizWithQuestions(Long id);
+    Optional<QuizView> getQuizView(Long id);
     List<Quiz> getAllQuizzes();
     List<Quiz> getQuizzesByCollectionId(Long collectionId);
     List<Quiz> getQuizzesByDocumentId(Long documentId);
     void deleteQuiz(Long id);
 
     List<Quiz> getQuizzesByUserId(Long userId);
+
+    /**
+     * Newest-first page of the quizzes on a user's documents, continuing after {@code cursor}.
+     */
+    KeysetPage<Quiz> getQuizzesPageByUserId(Long userId, String cursor, Integer limit);
     List<Quiz> getQuizzesByCollectionIdAndUserId(Long collectionId, Long userId);
     List<Quiz> getQuizzesByDocumentIdAndUserId(Long documentId, Long userId);
     List<Quiz> getMicrobitCompatibleQuizzesByUserId(Long userId);
@@ -1,7 +1,11 @@
 package com.thesis.interactive_learning.service;
 
+import com.thesis.interactive_learning.dto.TextAnalysisResult;
+
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 public interface TextAnalysisService {
 
@@ -13,12 +17,28 @@ public interface TextAnalysisService {
 
     Map<String, Double> extractKeyTerms(String text, int maxTerms);
 
+//      Extract key terms using the stop words of the given language (ISO 639-1 code)
+
+    Map<String, Double> extractKeyTerms(String text, int maxTerms, String language);
+
 //      Extract potential definitions
 
     Map<String, String> extractDefinitions(String text);
 
+//      Extract potential definitions, handing each one to the consumer as soon as its sentence ends
+
+    void extractDefinitions(String text, BiConsumer<String, String> consumer);
+
 //      Calculate word frequencies
 
     Map<String, Integer> calculateWordFrequency(String text);
 
+//      Analyze a document page by page, keeping only the unfinished sentence between pages
+
+    TextAnalysisResult analyzePages(Iterator<String> pages, int maxTerms, String language);
+
+//      Detect the language (ISO 639-1 code) of a text from a sample of its beginning
+
+    String detectLanguage(String text);
+
 }
@@ -0,0 +1,28 @@
+package com.thesis.interactive_learning.service;
+
+import com.thesis.interactive_learning.model.UserProgress;
+import lombok.Getter;
+
+/**
+ * Published when a user's progress history changes. Carries the new attempt when it can
+ * be folded into the stats rollup incrementally, or none when the rollup must be rebuilt.
+ */
+@Getter
+public class UserProgressChangedEvent {
+
+    private final Long userId;
+    private final UserProgress newAttempt;
+
+    private UserProgressChangedEvent(Long userId, UserProgress newAttempt) {
+        this.userId = userId;
+        this.newAttempt = newAttempt;
+    }
+
+    public static UserProgressChangedEvent attemptAdded(UserProgress progress) {
+        return new UserProgressChangedEvent(progress.getUser().getId(), progress);
+    }
+
+    public static UserProgressChangedEvent historyChanged(Long userId) {
+        return new UserProgressChangedEvent(userId, null);
+    }
+}
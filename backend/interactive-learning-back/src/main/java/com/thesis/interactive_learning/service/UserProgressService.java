@@ -1,5 +1,6 @@
 package com.thesis.interactive_learning.service;
 
+import com.thesis.interactive_learning.dto.KeysetPage;
 import com.thesis.interactive_learning.model.UserProgress;
 import java.util.List;
 import java.util.Map;
@@ -10,6 +11,11 @@ public interface UserProgressService {
     Optional<UserProgress> getUserProgressById(Long id);
     List<UserProgress> getAllUserProgress();
     List<UserProgress> getUserProgressByUserId(Long userId);
+
+    /**
+     * Newest-first page of a user's attempts, continuing after {@code cursor} (null for the first page).
+     */
+    KeysetPage<UserProgress> getUserProgressPage(Long userId, String cursor, Integer limit);
     List<UserProgress> getUserProgressByQuizId(Long quizId);
     List<UserProgress> getUserProgressByUserIdAndQuizId(Long userId, Long quizId);
     void deleteUserProgress(Long id);
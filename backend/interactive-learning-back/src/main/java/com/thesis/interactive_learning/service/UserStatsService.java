@@ -0,0 +1,35 @@
+package com.thesis.interactive_learning.service;
+
+import com.thesis.interactive_learning.dto.ProgressBucket;
+import com.thesis.interactive_learning.dto.QuizPerformanceSummary;
+import com.thesis.interactive_learning.dto.UserProgressSummary;
+import com.thesis.interactive_learning.model.UserProgress;
+import com.thesis.interactive_learning.model.UserStats;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+public interface UserStatsService {
+
+    // Rollup maintenance
+    void recordAttempt(UserProgress progress);
+
+    UserStats rebuildUserStats(Long userId);
+
+    // Recompute every rollup from history; returns how many had drifted
+    int rebuildAll();
+
+    // Reads for dashboards
+    UserProgressSummary getSummary(Long userId, LocalDateTime recentSince);
+
+    List<ProgressBucket> getDailyActivity(Long userId, LocalDate fromDay);
+
+    List<ProgressBucket> getMonthlyProgress(Long userId, YearMonth fromMonth);
+
+    List<QuizPerformanceSummary> getQuizPerformance(Long userId);
+
+    // Null when nobody has attempted a quiz yet
+    Double getPlatformAverageAccuracy();
+}
@@ -47,9 +47,21 @@ public class AIQuizServiceImpl implements AIQuizService {
     @Override
     public List<Question> generateAIQuestions(String documentText, int numberOfQuestions,
                                               String questionType, int difficulty, boolean microbitCompatible) {
+        return generateAIQuestions(documentText, numberOfQuestions, questionType, difficulty,
+                microbitCompatible, LanguageResources.DEFAULT_LANGUAGE);
+    }
+
+    @Override
+    public List<Question> generateAIQuestions(String documentText, int numberOfQuestions,
+                                              String questionType, int difficulty, boolean microbitCompatible,
+                                              String language) {
+
+        if (!LanguageResources.isSupported(language)) {
+            language = LanguageResources.DEFAULT_LANGUAGE;
+        }
 
-        logger.info("Starting AI question generation: {} {} questions, difficulty: {}",
-                numberOfQuestions, questionType, difficulty);
+        logger.info("Starting AI question generation: {} {} questions, difficulty: {}, language: {}",
+                numberOfQuestions, questionType, difficulty, language);
 
         if (documentText == null || documentText.trim().length() < 100) {
             throw new RuntimeException("Document text is too short for question generation");
@@ -69,10 +81,10 @@ public class AIQuizServiceImpl implements AIQuizService {
                         attempts, MAX_RETRIES, questionsToRequest, questionsNeeded);
 
                 List<Question> newQuestions = generateQuestionsWithOpenAI(
-                        documentText, questionsToRequest, questionType, difficulty, attempts
+                        documentText, questionsToRequest, questionType, difficulty, attempts, language
                 );
 
-                List<Question> validatedQuestions = validateAndFilterQuestions(newQuestions, questionType);
+                List<Question> validatedQuestions = validateAndFilterQuestions(newQuestions, questionType, language);
                 validQuestions.addAll(validatedQuestions);
 
                 logger.info("Attempt {}: Generated {} valid questions. Total valid: {}",
@@ -150,12 +162,13 @@ public class AIQuizServiceImpl implements AIQuizService {
     // ========== CORE GENERATION METHODS ==========
 
     private List<Question> generateQuestionsWithOpenAI(String documentText, int numberOfQuestions,
-                                                       String questionType, int difficulty, int attempt) {
+                                                       String questionType, int difficulty, int attempt,
+                                                       String language) {
         try {
             OpenAiService service = createOpenAiService();
 
-            String systemPrompt = getSystemPrompt();
-            String userPrompt = buildUserPrompt(documentText, numberOfQuestions, questionType, difficulty);
+            String systemPrompt = getSystemPrompt(language);
+            String userPrompt = buildUserPrompt(documentText, numberOfQuestions, questionType, difficulty, language);
 
             int maxTokens = Math.max(1500 - (attempt * 200), 800);
 
@@ -189,13 +202,13 @@ public class AIQuizServiceImpl implements AIQuizService {
 
     // ========== PROMPT ENGINEERING ==========
 
-    private String getSystemPrompt() {
+    private String getSystemPrompt(String language) {
         return """
             You are an expert educational quiz creator. Your task is to generate high-quality quiz questions 
             that test understanding and knowledge comprehension.
 
             CRITICAL REQUIREMENTS:
-            - ALL questions and answers MUST be in ENGLISH only
+            - ALL questions and answers MUST be in %1$s only
             - Focus on key concepts and important information
             - Questions should test understanding, not memorization
             - Use clear, professional language
@@ -212,25 +225,26 @@ public class AIQuizServiceImpl implements AIQuizService {
             ❌ Questions starting with "According to the text"
             ❌ Trivial details or obscure facts
             ❌ Obvious or implausible answer choices
-            ❌ Any non-English text
+            ❌ Any text that is not in %2$s
             ❌ Overly complex or confusing language
-            """;
+            """.formatted(LanguageResources.displayName(language).toUpperCase(), LanguageResources.displayName(language));
     }
 
-    private String buildUserPrompt(String documentText, int numberOfQuestions, String questionType, int difficulty) {
+    private String buildUserPrompt(String documentText, int numberOfQuestions, String questionType, int difficulty,
+                                   String language) {
         String preprocessedText = preprocessText(documentText);
         String truncatedText = truncateText(preprocessedText, MAX_TEXT_LENGTH);
 
         if ("MULTIPLE_CHOICE".equals(questionType)) {
-            return buildMultipleChoicePrompt(truncatedText, numberOfQuestions);
+            return buildMultipleChoicePrompt(truncatedText, numberOfQuestions, language);
         } else if ("TRUE_FALSE".equals(questionType)) {
-            return buildTrueFalsePrompt(truncatedText, numberOfQuestions);
+            return buildTrueFalsePrompt(truncatedText, numberOfQuestions, language);
         }
 
-        return buildMultipleChoicePrompt(truncatedText, numberOfQuestions);
+        return buildMultipleChoicePrompt(truncatedText, numberOfQuestions, language);
     }
 
-    private String buildMultipleChoicePrompt(String documentText, int numberOfQuestions) {
+    private String buildMultipleChoicePrompt(String documentText, int numberOfQuestions, String language) {
         return String.format("""
             Create exactly %d high-quality multiple-choice questions based on this document:
             
@@ -238,7 +252,7 @@ public class AIQuizServiceImpl implements AIQuizService {
             %s
             
             REQUIREMENTS:
-            - Questions in perfect English only
+            - Questions in perfect %s only
             - Test understanding of key concepts
             - Each question has exactly 4 options (A, B, C, D)
             - One clearly correct answer
@@ -259,10 +273,11 @@ public class AIQuizServiceImpl implements AIQuizService {
             ]
             
             IMPORTANT: Return ONLY the JSON array, no markdown, no extra text.
-            """, numberOfQuestions, truncateText(documentText, 2500));
+            """, numberOfQuestions, truncateText(documentText, 2500), LanguageResources.displayName(language));
     }
 
-    private String buildTrueFalsePrompt(String documentText, int numberOfQuestions) {
+    private String buildTrueFalsePrompt(String documentText, int numberOfQuestions, String language) {
+        List<String> trueFalse = LanguageResources.trueFalseOptions(language);
         return String.format("""
             Create exactly %d high-quality true/false questions based on this document:
             
@@ -270,7 +285,7 @@ public class AIQuizServiceImpl implements AIQuizService {
             %s
             
             REQUIREMENTS:
-            - Statements in perfect English only
+            - Statements in perfect %s only
             - Test understanding of key facts and concepts
             - Clear true or false answers
             - Focus on important information
@@ -280,7 +295,7 @@ public class AIQuizServiceImpl implements AIQuizService {
               {
                 "questionText": "The main principle states that...",
                 "questionType": "TRUE_FALSE",
-                "options": ["True", "False"],
+                "options": ["%s", "%s"],
                 "correctOptionIndex": 0,
                 "explanation": "Brief explanation",
                 "difficultyLevel": 2,
@@ -289,7 +304,8 @@ public class AIQuizServiceImpl implements AIQuizService {
             ]
             
             IMPORTANT: Return ONLY the JSON array, no markdown, no extra text.
-            """, numberOfQuestions, truncateText(documentText, 2500));
+            """, numberOfQuestions, truncateText(documentText, 2500), LanguageResources.displayName(language),
+                trueFalse.get(0), trueFalse.get(1));
     }
 
     private String getImprovementSystemPrompt() {
@@ -335,7 +351,8 @@ public class AIQuizServiceImpl implements AIQuizService {
 
     // ========== RESPONSE PARSING ==========
 
-    private List<Question> parseAIResponse(String response) {
+    // Package-private so the JMH parsing benchmark can drive it directly
+    List<Question> parseAIResponse(String response) {
         try {
             if (response == null || response.trim().isEmpty()) {
                 logger.warn("Empty AI response received");
@@ -488,20 +505,20 @@ public class AIQuizServiceImpl implements AIQuizService {
 
     // ========== VALIDATION METHODS ==========
 
-    private List<Question> validateAndFilterQuestions(List<Question> questions, String expectedType) {
+    private List<Question> validateAndFilterQuestions(List<Question> questions, String expectedType, String language) {
         return questions.stream()
-                .filter(q -> isValidQuestion(q, expectedType))
+                .filter(q -> isValidQuestion(q, expectedType, language))
                 .collect(Collectors.toList());
     }
 
-    private boolean isValidQuestion(Question question, String expectedType) {
+    private boolean isValidQuestion(Question question, String expectedType, String language) {
         if (question == null || question.getQuestionText() == null) {
             return false;
         }
 
         // Basic validation
-        if (!isEnglishText(question.getQuestionText())) {
-            logger.debug("Question rejected - not English: {}", question.getQuestionText());
+        if (!isInLanguage(question.getQuestionText(), language)) {
+            logger.debug("Question rejected - not {}: {}", LanguageResources.displayName(language), question.getQuestionText());
             return false;
         }
 
@@ -514,15 +531,15 @@ public class AIQuizServiceImpl implements AIQuizService {
 
         // Type-specific validation
         if ("MULTIPLE_CHOICE".equals(expectedType)) {
-            return validateMultipleChoice(question);
+            return validateMultipleChoice(question, language);
         } else if ("TRUE_FALSE".equals(expectedType)) {
-            return validateTrueFalse(question);
+            return validateTrueFalse(question, language);
         }
 
         return true;
     }
 
-    private boolean validateMultipleChoice(Question question) {
+    private boolean validateMultipleChoice(Question question, String language) {
         // Must have 4 options
         if (question.getOptions() == null || question.getOptions().size() != 4) {
             logger.debug("Multiple choice rejected - wrong option count: {}",
@@ -530,10 +547,10 @@ public class AIQuizServiceImpl implements AIQuizService {
             return false;
         }
 
-        // All options should be in English
+        // All options should be in the document language
         for (String option : question.getOptions()) {
-            if (!isEnglishText(option)) {
-                logger.debug("Multiple choice rejected - non-English option: {}", option);
+            if (!isInLanguage(option, language)) {
+                logger.debug("Multiple choice rejected - option not in {}: {}", LanguageResources.displayName(language), option);
                 return false;
             }
         }
@@ -541,14 +558,25 @@ public class AIQuizServiceImpl implements AIQuizService {
         return true;
     }
 
-    private boolean validateTrueFalse(Question question) {
+    private boolean validateTrueFalse(Question question, String language) {
         List<String> options = question.getOptions();
         if (options == null || options.size() != 2) {
             return false;
         }
 
-        return (options.get(0).equalsIgnoreCase("True") && options.get(1).equalsIgnoreCase("False")) ||
-                (options.get(0).equalsIgnoreCase("False") && options.get(1).equalsIgnoreCase("True"));
+        String trueLabel = LanguageResources.trueFalseOptions(language).get(0);
+        String falseLabel = LanguageResources.trueFalseOptions(language).get(1);
+        return (options.get(0).equalsIgnoreCase(trueLabel) && options.get(1).equalsIgnoreCase(falseLabel)) ||
+                (options.get(0).equalsIgnoreCase(falseLabel) && options.get(1).equalsIgnoreCase(trueLabel));
+    }
+
+    private boolean isInLanguage(String text, String language) {
+        if (LanguageResources.DEFAULT_LANGUAGE.equals(language)) {
+            return isEnglishText(text);
+        }
+
+        // No word list for other languages; require real words rather than symbols
+        return text != null && text.trim().length() > 5 && text.codePoints().anyMatch(Character::isLetter);
     }
 
     private boolean isEnglishText(String text) {
@@ -588,7 +616,7 @@ public class AIQuizServiceImpl implements AIQuizService {
         }
 
         return rawText.replaceAll("\\s+", " ")
-                .replaceAll("[^\u0000-\u007F]+", " ") // Remove non-ASCII characters
+                .replaceAll("[^\\p{L}\\p{N}\\p{P}\\p{Zs}]+", " ") // Remove symbols, keep letters of any alphabet
                 .trim();
     }
 
@@ -1,17 +1,23 @@
 package com.thesis.interactive_learning.service.impl;
 
+import com.thesis.interactive_learning.dto.IdCount;
+import com.thesis.interactive_learning.dto.PlatformActivitySummary;
 import com.thesis.interactive_learning.model.*;
 import com.thesis.interactive_learning.repository.*;
+import com.thesis.interactive_learning.security.SecurityMonitoringService;
 import com.thesis.interactive_learning.security.UserContext;
+import com.thesis.interactive_learning.security.UserStatusCache;
 import com.thesis.interactive_learning.service.AdminService;
 import com.thesis.interactive_learning.service.AuditLogService;
 import com.thesis.interactive_learning.service.DocumentService;
 import com.thesis.interactive_learning.service.QuizService;
+import com.thesis.interactive_learning.service.UserStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -30,6 +36,11 @@ public class AdminServiceImpl implements AdminService {
     private final QuizService quizService;
     private final AuditLogService auditLogService;
     private final UserContext userContext;
+    private final UserStatusCache userStatusCache;
+    private final SecurityMonitoringService securityMonitoringService;
+    private final UserStatsService userStatsService;
+
+    private volatile Map<String, Object> dashboardSnapshot;
 
     @Autowired
     public AdminServiceImpl(UserRepository userRepository,
@@ -40,7 +51,10 @@ public class AdminServiceImpl implements AdminService {
                             DocumentService documentService,
                             QuizService quizService,
                             AuditLogService auditLogService,
-                            UserContext userContext) {
+                            UserContext userContext,
+                            UserStatusCache userStatusCache,
+                            SecurityMonitoringService securityMonitoringService,
+                            UserStatsService userStatsService) {
         this.userRepository = userRepository;
         this.documentRepository = documentRepository;
         this.quizRepository = quizRepository;
@@ -50,10 +64,31 @@ public class AdminServiceImpl implements AdminService {
         this.quizService = quizService;
         this.auditLogService = auditLogService;
         this.userContext = userContext;
+        this.userStatusCache = userStatusCache;
+        this.securityMonitoringService = securityMonitoringService;
+        this.userStatsService = userStatsService;
     }
 
+    /**
+     * Served from a snapshot that is rebuilt on a schedule, so admin requests never run the
+     * platform-wide counts themselves; only the first request after startup builds it.
+     */
     @Override
     public Map<String, Object> getAdminDashboard() {
+        Map<String, Object> snapshot = dashboardSnapshot;
+        if (snapshot == null) {
+            snapshot = buildAdminDashboard();
+            dashboardSnapshot = snapshot;
+        }
+        return new HashMap<>(snapshot);
+    }
+
+    @Scheduled(fixedDelayString = "${app.admin.dashboard-refresh-ms:60000}")
+    public void refreshAdminDashboard() {
+        dashboardSnapshot = buildAdminDashboard();
+    }
+
+    private Map<String, Object> buildAdminDashboard() {
         Map<String, Object> dashboard = new HashMap<>();
 
         long totalUsers = userRepository.count();
@@ -70,23 +105,12 @@ public class AdminServiceImpl implements AdminService {
 
         LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
 
-        long recentQuizAttempts = userProgressRepository.findAll().stream()
-                .filter(progress -> progress.getCompletedAt().isAfter(thirtyDaysAgo))
-                .count();
-        dashboard.put("recentQuizAttempts", recentQuizAttempts);
-
-        Set<Long> activeUserIds = userProgressRepository.findAll().stream()
-                .filter(progress -> progress.getCompletedAt().isAfter(thirtyDaysAgo))
-                .map(progress -> progress.getUser().getId())
-                .collect(Collectors.toSet());
-        dashboard.put("activeUsersLast30Days", activeUserIds.size());
+        PlatformActivitySummary recentActivity = userProgressRepository.summarizePlatformActivity(thirtyDaysAgo);
+        dashboard.put("recentQuizAttempts", recentActivity.getAttempts());
+        dashboard.put("activeUsersLast30Days", recentActivity.getActiveUsers());
 
-        double avgAccuracy = userProgressRepository.findAll().stream()
-                .filter(progress -> progress.getAccuracyPercentage() != null)
-                .mapToDouble(UserProgress::getAccuracyPercentage)
-                .average()
-                .orElse(0.0);
-        dashboard.put("platformAverageAccuracy", Math.round(avgAccuracy * 100.0) / 100.0);
+        Double avgAccuracy = userStatsService.getPlatformAverageAccuracy();
+        dashboard.put("platformAverageAccuracy", avgAccuracy != null ? Math.round(avgAccuracy * 100.0) / 100.0 : 0.0);
 
         return dashboard;
     }
@@ -96,10 +120,28 @@ public class AdminServiceImpl implements AdminService {
         Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
         Page<User> userPage = userRepository.findAll(pageable);
 
+        // One GROUP BY query per count for the whole page instead of three list loads per user
+        List<Long> userIds = userPage.getContent().stream().map(User::getId).collect(Collectors.toList());
+        Map<Long, Long> documentCounts = Collections.emptyMap();
+        Map<Long, Long> collectionCounts = Collections.emptyMap();
+        Map<Long, Long> attemptCounts = Collections.emptyMap();
+        if (!userIds.isEmpty()) {
+            documentCounts = IdCount.toMap(documentRepository.countByUserIds(userIds));
+            collectionCounts = IdCount.toMap(studyCollectionRepository.countByUserIds(userIds));
+            attemptCounts = IdCount.toMap(userProgressRepository.countByUserIds(userIds));
+        }
+
+        List<Map<String, Object>> users = new ArrayList<>(userIds.size());
+        for (User user : userPage.getContent()) {
+            Map<String, Object> userMap = mapUserToAdminView(user);
+            userMap.put("documentCount", documentCounts.getOrDefault(user.getId(), 0L).intValue());
+            userMap.put("collectionCount", collectionCounts.getOrDefault(user.getId(), 0L).intValue());
+            userMap.put("quizAttempts", attemptCounts.getOrDefault(user.getId(), 0L).intValue());
+            users.add(userMap);
+        }
+
         Map<String, Object> response = new HashMap<>();
-        response.put("users", userPage.getContent().stream()
-                .map(this::mapUserToAdminView)
-                .collect(Collectors.toList()));
+        response.put("users", users);
         response.put("totalElements", userPage.getTotalElements());
         response.put("totalPages", userPage.getTotalPages());
         response.put("currentPage", page);
@@ -188,6 +230,8 @@ public class AdminServiceImpl implements AdminService {
 
         user.updateStatus(newStatus, adminUserId, reason);
         userRepository.save(user);
+        userStatusCache.invalidate(userId);
+        securityMonitoringService.invalidateDashboard();
 
         auditLogService.log(
                 AuditLog.LogLevel.INFO,
@@ -298,10 +342,6 @@ public class AdminServiceImpl implements AdminService {
         userMap.put("isAccountLocked", user.isAccountLocked());
         userMap.put("failedLoginAttempts", user.getFailedLoginAttempts());
 
-        userMap.put("documentCount", documentRepository.findByUser(user).size());
-        userMap.put("collectionCount", studyCollectionRepository.findByUser(user).size());
-        userMap.put("quizAttempts", userProgressRepository.findByUserId(user.getId()).size());
-
         return userMap;
     }
-}
\ No newline at end of file
+}
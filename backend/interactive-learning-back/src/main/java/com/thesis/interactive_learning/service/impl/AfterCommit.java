@@ -0,0 +1,28 @@
+package com.thesis.interactive_learning.service.impl;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers cache evictions for bulk JPQL updates, which the caches' Hibernate listeners never
+ * see, until the surrounding transaction commits (or runs them at once outside one), so a
+ * concurrent reader cannot re-cache the pre-commit state.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,236 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.thesis.interactive_learning.dto.AuditLogExportFormat;
+import com.thesis.interactive_learning.model.AuditLog;
+import com.thesis.interactive_learning.repository.AuditLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Retention and archival for audit_logs. The table only keeps the last
+ * {@code retentionDays} days; a nightly job moves older rows, oldest first, into one
+ * gzip-compressed NDJSON file per month ({@code audit-2025-01.ndjson.gz}) and deletes them
+ * from the table. Each run appends a new gzip member, which readers see as one stream.
+ * <p>
+ * Rows are written and synced to disk before they are deleted, so a crash in between can
+ * only repeat rows in an archive, never lose them.
+ */
+@Component
+public class AuditLogArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogArchiver.class);
+
+    static final int CHUNK_SIZE = 5_000;
+    private static final String FILE_PREFIX = "audit-";
+    private static final String FILE_SUFFIX = ".ndjson.gz";
+
+    static final ObjectMapper JSON = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final AuditLogRepository auditLogRepository;
+    private final Path archiveDirectory;
+    private final int retentionDays;
+    private final int archiveRetentionMonths;
+    private final Clock clock;
+
+    @Autowired
+    public AuditLogArchiver(AuditLogRepository auditLogRepository,
+                            @Value("${app.audit.archive-directory:./audit/archive}") String archiveDirectory,
+                            @Value("${app.audit.retention-days:90}") int retentionDays,
+                            @Value("${app.audit.archive-retention-months:0}") int archiveRetentionMonths) {
+        this(auditLogRepository, Paths.get(archiveDirectory), retentionDays, archiveRetentionMonths,
+                Clock.systemDefaultZone());
+    }
+
+    AuditLogArchiver(AuditLogRepository auditLogRepository, Path archiveDirectory, int retentionDays,
+                     int archiveRetentionMonths, Clock clock) {
+        this.auditLogRepository = auditLogRepository;
+        this.archiveDirectory = archiveDirectory.toAbsolutePath();
+        this.retentionDays = retentionDays;
+        this.archiveRetentionMonths = archiveRetentionMonths;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${app.audit.archive-cron:0 15 2 * * *}")
+    public void applyRetention() {
+        try {
+            int archived = archiveExpired();
+            int deletedFiles = deleteExpiredArchives();
+            if (archived > 0 || deletedFiles > 0) {
+                logger.info("Archived {} audit entries, removed {} expired archive files", archived, deletedFiles);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Audit log retention run failed", e);
+        }
+    }
+
+    /**
+     * Move every row older than the retention cutoff into the monthly archives.
+     *
+     * @return the number of rows archived
+     */
+    int archiveExpired() throws IOException {
+        LocalDateTime cutoff = LocalDate.now(clock).minusDays(retentionDays).atStartOfDay();
+        int archived = 0;
+
+        List<AuditLog> chunk;
+        while (!(chunk = auditLogRepository.findByTimestampBeforeOrderByIdAsc(cutoff,
+                PageRequest.of(0, CHUNK_SIZE))).isEmpty()) {
+            Map<YearMonth, List<AuditLog>> byMonth = new TreeMap<>();
+            for (AuditLog auditLog : chunk) {
+                byMonth.computeIfAbsent(YearMonth.from(auditLog.getTimestamp()), month -> new ArrayList<>())
+                        .add(auditLog);
+            }
+            for (Map.Entry<YearMonth, List<AuditLog>> month : byMonth.entrySet()) {
+                append(month.getKey(), month.getValue());
+            }
+
+            auditLogRepository.deleteAllByIdInBatch(chunk.stream().map(AuditLog::getId).toList());
+            archived += chunk.size();
+        }
+        return archived;
+    }
+
+    private void append(YearMonth month, List<AuditLog> logs) throws IOException {
+        Files.createDirectories(archiveDirectory);
+        try (FileOutputStream file = new FileOutputStream(archiveFile(month).toFile(), true)) {
+            GZIPOutputStream gzip = new GZIPOutputStream(new BufferedOutputStream(file));
+            Writer writer = new OutputStreamWriter(gzip, StandardCharsets.UTF_8);
+            for (AuditLog auditLog : logs) {
+                writer.write(JSON.writeValueAsString(auditLog));
+                writer.write('\n');
+            }
+            writer.flush();
+            gzip.finish();
+            gzip.flush();
+            file.getFD().sync();
+        }
+    }
+
+    /**
+     * Delete monthly archives older than {@code archiveRetentionMonths}; 0 keeps them forever.
+     */
+    int deleteExpiredArchives() throws IOException {
+        if (archiveRetentionMonths <= 0) {
+            return 0;
+        }
+        YearMonth oldestKept = YearMonth.now(clock).minusMonths(archiveRetentionMonths);
+        int deleted = 0;
+        for (YearMonth month : listArchivedMonths()) {
+            if (month.isBefore(oldestKept)) {
+                Files.deleteIfExists(archiveFile(month));
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Write every entry with {@code from <= timestamp < to}: archived months first, then the
+     * rows still in the table, ordered by (timestamp, id). Both sources are read a line or a
+     * chunk at a time, so memory stays flat however long the range is.
+     */
+    public void export(LocalDateTime from, LocalDateTime to, AuditLogExportFormat format, Writer out)
+            throws IOException {
+        AuditLogExportWriter exportWriter = new AuditLogExportWriter(format, out);
+        exportWriter.begin();
+
+        for (YearMonth month = YearMonth.from(from); !month.atDay(1).atStartOfDay().isAfter(to);
+             month = month.plusMonths(1)) {
+            Path file = archiveFile(month);
+            if (Files.exists(file)) {
+                copyArchived(file, from, to, exportWriter);
+            }
+        }
+
+        LocalDateTime afterTimestamp = from;
+        long afterId = 0;
+        List<AuditLog> chunk;
+        while (!(chunk = auditLogRepository.findExportChunk(afterTimestamp, afterId, to, CHUNK_SIZE)).isEmpty()) {
+            for (AuditLog auditLog : chunk) {
+                exportWriter.write(auditLog);
+            }
+            AuditLog last = chunk.get(chunk.size() - 1);
+            afterTimestamp = last.getTimestamp();
+            afterId = last.getId();
+        }
+        out.flush();
+    }
+
+    private void copyArchived(Path file, LocalDateTime from, LocalDateTime to, AuditLogExportWriter exportWriter)
+            throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file))), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                AuditLog auditLog = JSON.readValue(line, AuditLog.class);
+                LocalDateTime timestamp = auditLog.getTimestamp();
+                if (!timestamp.isBefore(from) && timestamp.isBefore(to)) {
+                    exportWriter.writeArchived(line, auditLog);
+                }
+            }
+        }
+    }
+
+    public List<Map<String, Object>> listArchives() throws IOException {
+        List<Map<String, Object>> archives = new ArrayList<>();
+        for (YearMonth month : listArchivedMonths()) {
+            Map<String, Object> archive = new HashMap<>();
+            archive.put("month", month.toString());
+            archive.put("sizeBytes", Files.size(archiveFile(month)));
+            archives.add(archive);
+        }
+        return archives;
+    }
+
+    private List<YearMonth> listArchivedMonths() throws IOException {
+        if (!Files.isDirectory(archiveDirectory)) {
+            return Collections.emptyList();
+        }
+        List<YearMonth> months = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(archiveDirectory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    months.add(YearMonth.parse(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length())));
+                } catch (DateTimeParseException e) {
+                    logger.warn("Ignoring unexpected file in audit archive directory: {}", name);
+                }
+            }
+        }
+        Collections.sort(months);
+        return months;
+    }
+
+    private Path archiveFile(YearMonth month) {
+        return archiveDirectory.resolve(FILE_PREFIX + month + FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,95 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.dto.AuditLogExportFormat;
+import com.thesis.interactive_learning.model.AuditLog;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes audit entries one at a time in the requested export format. Nothing is buffered
+ * beyond the underlying writer, so memory use does not depend on the size of the export.
+ */
+class AuditLogExportWriter {
+
+    static final String CSV_HEADER = "id,timestamp,level,action,description,userId,username,ipAddress,entityType,entityId";
+
+    private final AuditLogExportFormat format;
+    private final Writer out;
+
+    AuditLogExportWriter(AuditLogExportFormat format, Writer out) {
+        this.format = format;
+        this.out = out;
+    }
+
+    void begin() throws IOException {
+        if (format == AuditLogExportFormat.CSV) {
+            out.write(CSV_HEADER);
+            out.write('\n');
+        }
+    }
+
+    void write(AuditLog auditLog) throws IOException {
+        if (format == AuditLogExportFormat.NDJSON) {
+            writeJsonLine(AuditLogArchiver.JSON.writeValueAsString(auditLog));
+            return;
+        }
+
+        out.write(String.valueOf(auditLog.getId()));
+        out.write(',');
+        out.write(String.valueOf(auditLog.getTimestamp()));
+        out.write(',');
+        out.write(auditLog.getLevel().name());
+        out.write(',');
+        out.write(auditLog.getAction().name());
+        out.write(',');
+        writeCsvField(auditLog.getDescription());
+        out.write(',');
+        writeCsvField(auditLog.getUserId());
+        out.write(',');
+        writeCsvField(auditLog.getUsername());
+        out.write(',');
+        writeCsvField(auditLog.getIpAddress());
+        out.write(',');
+        writeCsvField(auditLog.getEntityType());
+        out.write(',');
+        writeCsvField(auditLog.getEntityId());
+        out.write('\n');
+    }
+
+    /**
+     * Archived entries are already NDJSON; copy the line as is instead of re-serializing it.
+     */
+    void writeArchived(String line, AuditLog parsed) throws IOException {
+        if (format == AuditLogExportFormat.NDJSON) {
+            writeJsonLine(line);
+        } else {
+            write(parsed);
+        }
+    }
+
+    private void writeJsonLine(String line) throws IOException {
+        out.write(line);
+        out.write('\n');
+    }
+
+    private void writeCsvField(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+
+        // Usernames and descriptions are user-controlled; keep spreadsheets from running them as formulas
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            out.write('"');
+            out.write(text.replace("\"", "\"\""));
+            out.write('"');
+        } else {
+            out.write(text);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.thesis.interactive_learning.service.impl;
 
+import com.thesis.interactive_learning.dto.AuditLogExportFormat;
 import com.thesis.interactive_learning.model.AuditLog;
-import com.thesis.interactive_learning.model.User;
 import com.thesis.interactive_learning.repository.AuditLogRepository;
 import com.thesis.interactive_learning.security.UserContext;
 import com.thesis.interactive_learning.service.AuditLogService;
@@ -14,8 +14,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -24,11 +27,19 @@ public class AuditLogServiceImpl implements AuditLogService {
 
     private final AuditLogRepository auditLogRepository;
     private final UserContext userContext;
+    private final AuditLogWriter auditLogWriter;
+    private final FailedLoginTracker failedLoginTracker;
+    private final AuditLogArchiver auditLogArchiver;
 
     @Autowired
-    public AuditLogServiceImpl(AuditLogRepository auditLogRepository, UserContext userContext) {
+    public AuditLogServiceImpl(AuditLogRepository auditLogRepository, UserContext userContext,
+                               AuditLogWriter auditLogWriter, FailedLoginTracker failedLoginTracker,
+                               AuditLogArchiver auditLogArchiver) {
         this.auditLogRepository = auditLogRepository;
         this.userContext = userContext;
+        this.auditLogWriter = auditLogWriter;
+        this.failedLoginTracker = failedLoginTracker;
+        this.auditLogArchiver = auditLogArchiver;
     }
 
     @Override
@@ -41,21 +52,10 @@ public class AuditLogServiceImpl implements AuditLogService {
                     .timestamp(LocalDateTime.now())
                     .build();
 
-
-            try {
-                User currentUser = userContext.getCurrentUser();
-                if (currentUser != null) {
-                    auditLog.setUserId(currentUser.getId());
-                    auditLog.setUsername(currentUser.getUsername());
-                }
-            } catch (Exception e) {
-
-            }
-
-
+            applyCurrentUser(auditLog);
             auditLog.setIpAddress(getClientIpAddress());
 
-            auditLogRepository.save(auditLog);
+            submit(auditLog);
         } catch (Exception e) {
             // Log to console if database logging fails
             System.err.println("Failed to save audit log: " + e.getMessage());
@@ -76,7 +76,7 @@ public class AuditLogServiceImpl implements AuditLogService {
                     .ipAddress(getClientIpAddress())
                     .build();
 
-            auditLogRepository.save(auditLog);
+            submit(auditLog);
         } catch (Exception e) {
             System.err.println("Failed to save audit log: " + e.getMessage());
         }
@@ -95,19 +95,9 @@ public class AuditLogServiceImpl implements AuditLogService {
                     .timestamp(LocalDateTime.now())
                     .build();
 
-
-            try {
-                User currentUser = userContext.getCurrentUser();
-                if (currentUser != null) {
-                    auditLog.setUserId(currentUser.getId());
-                    auditLog.setUsername(currentUser.getUsername());
-                }
-            } catch (Exception e) {
-
-            }
-
+            applyCurrentUser(auditLog);
             auditLog.setIpAddress(getClientIpAddress());
-            auditLogRepository.save(auditLog);
+            submit(auditLog);
         } catch (Exception e) {
             System.err.println("Failed to save audit log: " + e.getMessage());
         }
@@ -145,7 +135,7 @@ public class AuditLogServiceImpl implements AuditLogService {
                     .ipAddress(getClientIpAddress())
                     .build();
 
-            auditLogRepository.save(auditLog);
+            submit(auditLog);
         } catch (Exception e) {
             System.err.println("Failed to save login audit log: " + e.getMessage());
         }
@@ -181,6 +171,13 @@ public class AuditLogServiceImpl implements AuditLogService {
         return mapPageToResponse(logs, page, size);
     }
 
+    @Override
+    public List<Map<String, Object>> getRecentSecurityLogs(int limit) {
+        return auditLogRepository.findRecentSecurityLogs(PageRequest.of(0, limit)).stream()
+                .map(this::mapAuditLogToResponse)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Map<String, Object> getAdminActionLogs(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
@@ -197,14 +194,45 @@ public class AuditLogServiceImpl implements AuditLogService {
         return mapPageToResponse(logs, page, size);
     }
 
+    @Override
+    public void exportLogs(LocalDateTime from, LocalDateTime to, AuditLogExportFormat format, Writer out)
+            throws IOException {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Export range must end after it starts");
+        }
+        auditLogArchiver.export(from, to, format, out);
+    }
+
+    @Override
+    public List<Map<String, Object>> getArchives() throws IOException {
+        return auditLogArchiver.listArchives();
+    }
+
     @Override
     public boolean checkSuspiciousActivity(String ipAddress, String username) {
-        LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
+        long failedIpAttempts = failedLoginTracker.countByIp(ipAddress);
+        long failedUsernameAttempts = failedLoginTracker.countByUsername(username);
 
-        long failedIpAttempts = auditLogRepository.countFailedLoginsByIp(ipAddress, oneHourAgo);
-        long failedUsernameAttempts = auditLogRepository.countFailedLoginsByUsername(username, oneHourAgo);
+        return failedIpAttempts >= FailedLoginTracker.LOCK_THRESHOLD
+                || failedUsernameAttempts >= FailedLoginTracker.LOCK_THRESHOLD;
+    }
+
+    private void submit(AuditLog auditLog) {
+        // Count failures as they happen; the insert itself is deferred to the writer
+        if (auditLog.getAction() == AuditLog.LogAction.LOGIN_FAILED) {
+            failedLoginTracker.recordFailure(auditLog.getIpAddress(), auditLog.getUsername());
+        }
+        auditLogWriter.enqueue(auditLog);
+    }
 
-        return failedIpAttempts >= 5 || failedUsernameAttempts >= 5;
+    private void applyCurrentUser(AuditLog auditLog) {
+        // Id and username both come from the token principal, so logging does not load the user
+        try {
+            auditLog.setUserId(userContext.getCurrentUserId());
+            auditLog.setUsername(userContext.getCurrentUsername());
+        } catch (Exception e) {
+            // Not authenticated (login, scheduled jobs): the entry is logged without a user
+        }
     }
 
     private String getClientIpAddress() {
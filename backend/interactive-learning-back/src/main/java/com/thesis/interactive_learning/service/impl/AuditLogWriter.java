@@ -0,0 +1,350 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thesis.interactive_learning.model.AuditLog;
+import com.thesis.interactive_learning.repository.AuditLogRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background writer for audit entries. Request threads only enqueue into a bounded queue;
+ * a single daemon thread drains it and inserts a batch every {@code flushIntervalMillis}
+ * or every {@code batchSize} entries, whichever comes first.
+ * <p>
+ * When the queue is full, INFO entries are dropped (and counted) while WARN, ERROR and
+ * SECURITY entries go to an append-only NDJSON spill file. Batches that fail to insert are
+ * spilled too, and the database is skipped for {@link #RETRY_BACKOFF_MILLIS} so an outage
+ * does not stall the writer; the spill file is replayed after the next successful insert.
+ * A batch rejected for its contents (a constraint violation, a bad value) is not an outage:
+ * it is retried row by row and only the rejected rows are dropped.
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    static final long RETRY_BACKOFF_MILLIS = 30_000;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final AuditLogRepository auditLogRepository;
+    private final BlockingQueue<AuditLog> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Path spillFile;
+    private final Path replayFile;
+    private final ObjectMapper objectMapper = AuditLogArchiver.JSON;
+    private final Object spillLock = new Object();
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+
+    private volatile boolean running = false;
+    private volatile long retryAt = 0;
+    private Thread worker;
+
+    @Autowired
+    public AuditLogWriter(AuditLogRepository auditLogRepository,
+                          @Value("${app.audit.queue-capacity:10000}") int queueCapacity,
+                          @Value("${app.audit.batch-size:200}") int batchSize,
+                          @Value("${app.audit.flush-interval-ms:500}") long flushIntervalMillis,
+                          @Value("${app.audit.spill-file:./audit/audit-spill.ndjson}") String spillFile) {
+        this.auditLogRepository = auditLogRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.spillFile = Paths.get(spillFile).toAbsolutePath();
+        this.replayFile = this.spillFile.resolveSibling(this.spillFile.getFileName() + ".replay");
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::run, "audit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+        // Anything the worker could not flush in time survives in the spill file
+        List<AuditLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spill(remaining);
+        }
+    }
+
+    /**
+     * Hand an entry to the writer without blocking. Never throws.
+     */
+    public void enqueue(AuditLog auditLog) {
+        if (queue.offer(auditLog)) {
+            return;
+        }
+
+        // The writer is behind (usually because the database is slow or down)
+        if (auditLog.getLevel() == AuditLog.LogLevel.INFO) {
+            if (dropped.incrementAndGet() % 1000 == 1) {
+                logger.warn("Audit queue full, dropping INFO entries ({} dropped so far)", dropped.get());
+            }
+            return;
+        }
+        spill(List.of(auditLog));
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getSpilledCount() {
+        return spilled.get();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                flushPending(flushIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Audit writer iteration failed", e);
+            }
+        }
+    }
+
+    /**
+     * Wait up to {@code waitMillis} for entries, then write one batch. When the queue stays
+     * empty the spill file is retried instead.
+     *
+     * @return the number of entries taken from the queue
+     */
+    int flushPending(long waitMillis) throws InterruptedException {
+        AuditLog first = queue.poll(waitMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            replaySpillFile();
+            return 0;
+        }
+
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        long deadline = System.currentTimeMillis() + waitMillis;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.currentTimeMillis();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            AuditLog next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+
+        int handled = insert(batch);
+        if (handled == batch.size()) {
+            replaySpillFile();
+        } else {
+            spill(batch.subList(handled, batch.size()));
+        }
+        return batch.size();
+    }
+
+    /**
+     * Insert a batch. When the database rejects it for its contents, the rows are inserted
+     * one at a time (the batch insert is transactional, so nothing was written) and rows
+     * rejected on their own are logged and dropped. When the database is unavailable the
+     * writer backs off.
+     *
+     * @return how many leading entries were written or dropped; the rest must be kept
+     */
+    private int insert(List<AuditLog> batch) {
+        if (System.currentTimeMillis() < retryAt) {
+            return 0;
+        }
+        try {
+            auditLogRepository.insertAllInBatch(batch);
+            written.addAndGet(batch.size());
+            return batch.size();
+        } catch (RuntimeException e) {
+            if (!isRejectedRow(e)) {
+                backOff(batch.size(), e);
+                return 0;
+            }
+            logger.warn("Database rejected a batch of {} audit entries, retrying row by row: {}",
+                    batch.size(), e.getMessage());
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            AuditLog auditLog = batch.get(i);
+            try {
+                auditLogRepository.insertAllInBatch(List.of(auditLog));
+                written.incrementAndGet();
+            } catch (RuntimeException e) {
+                if (!isRejectedRow(e)) {
+                    backOff(batch.size() - i, e);
+                    return i;
+                }
+                dropped.incrementAndGet();
+                logger.error("Dropping audit entry rejected by the database: {} ({})", auditLog, e.getMessage());
+            }
+        }
+        return batch.size();
+    }
+
+    private void backOff(int unwritten, RuntimeException e) {
+        retryAt = System.currentTimeMillis() + RETRY_BACKOFF_MILLIS;
+        logger.warn("Failed to write {} audit entries, spilling to {}: {}", unwritten, spillFile, e.getMessage());
+    }
+
+    // The rows themselves were refused (constraint violation, value out of range, or a row the
+    // statement could not be built for), as opposed to the database or connection failing
+    private static boolean isRejectedRow(RuntimeException e) {
+        return e instanceof DataIntegrityViolationException
+                || !(e instanceof DataAccessException || e instanceof TransactionException);
+    }
+
+    private void spill(List<AuditLog> batch) {
+        List<String> lines = new ArrayList<>(batch.size());
+        for (AuditLog auditLog : batch) {
+            try {
+                lines.add(objectMapper.writeValueAsString(auditLog));
+            } catch (IOException e) {
+                logger.error("Failed to serialize audit entry: {}", auditLog, e);
+            }
+        }
+        if (appendToSpillFile(lines)) {
+            spilled.addAndGet(lines.size());
+        }
+    }
+
+    private boolean appendToSpillFile(List<String> lines) {
+        synchronized (spillLock) {
+            try {
+                Files.createDirectories(spillFile.getParent());
+                try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (String line : lines) {
+                        writer.write(line);
+                        writer.newLine();
+                    }
+                }
+                return true;
+            } catch (IOException e) {
+                dropped.addAndGet(lines.size());
+                logger.error("Failed to spill {} audit entries to {}", lines.size(), spillFile, e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Move the spill file aside and insert it batch by batch. If the database fails again,
+     * the lines that were not inserted are appended back to the spill file, so no entry is
+     * written twice. A leftover replay file from a crash is picked up first.
+     */
+    void replaySpillFile() {
+        if (System.currentTimeMillis() < retryAt) {
+            return;
+        }
+
+        try {
+            if (!Files.exists(replayFile)) {
+                synchronized (spillLock) {
+                    if (!Files.exists(spillFile)) {
+                        return;
+                    }
+                    Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+
+            List<AuditLog> batch = new ArrayList<>(batchSize);
+            List<String> batchLines = new ArrayList<>(batchSize);
+            try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        batch.add(objectMapper.readValue(line, AuditLog.class));
+                        batchLines.add(line);
+                    } catch (IOException e) {
+                        logger.error("Skipping unreadable audit spill line: {}", line);
+                        continue;
+                    }
+
+                    if (batch.size() >= batchSize && !insertReplayed(batch, batchLines, reader)) {
+                        break;
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    insertReplayed(batch, batchLines, reader);
+                }
+            }
+            Files.delete(replayFile);
+        } catch (IOException e) {
+            logger.error("Failed to replay audit spill file {}", replayFile, e);
+        }
+    }
+
+    private boolean insertReplayed(List<AuditLog> batch, List<String> batchLines, BufferedReader reader)
+            throws IOException {
+        int handled = insert(batch);
+        if (handled == batch.size()) {
+            batch.clear();
+            batchLines.clear();
+            return true;
+        }
+
+        List<String> unwritten = new ArrayList<>(batchLines.subList(handled, batchLines.size()));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                unwritten.add(line);
+            }
+        }
+        batch.clear();
+        batchLines.clear();
+        appendToSpillFile(unwritten);
+        return false;
+    }
+}
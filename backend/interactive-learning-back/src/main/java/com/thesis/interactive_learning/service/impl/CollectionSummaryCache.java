@@ -0,0 +1,165 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.dto.CollectionSummary;
+import com.thesis.interactive_learning.model.Document;
+import com.thesis.interactive_learning.model.Quiz;
+import com.thesis.interactive_learning.model.StudyCollection;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of {@link CollectionSummary}s by collection id. After commit, any insert, update or
+ * delete of a document or quiz evicts the collection it belongs to (and, for a move, the one
+ * it left); the TTL bounds staleness for bulk JPQL/JDBC writes that bypass entity events.
+ */
+@Component
+public class CollectionSummaryCache {
+
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+    private static final int MAX_ENTRIES = 5_000;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CollectionSummaryCache(EntityManagerFactory entityManagerFactory) {
+        this(entityManagerFactory, DEFAULT_TTL, Clock.systemUTC());
+    }
+
+    CollectionSummaryCache(EntityManagerFactory entityManagerFactory, Duration ttl, Clock clock) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    void registerInvalidationListeners() {
+        if (entityManagerFactory == null) {
+            return;
+        }
+
+        InvalidationListener listener = new InvalidationListener();
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+    }
+
+    /**
+     * Returns the cached, unexpired summaries among {@code collectionIds}.
+     */
+    Map<Long, CollectionSummary> getAll(Collection<Long> collectionIds) {
+        Map<Long, CollectionSummary> hits = new HashMap<>();
+        Instant now = clock.instant();
+        for (Long collectionId : collectionIds) {
+            Entry entry = entries.get(collectionId);
+            if (entry == null) {
+                continue;
+            }
+            if (now.isAfter(entry.expiresAt)) {
+                entries.remove(collectionId, entry);
+            } else {
+                hits.put(collectionId, entry.summary);
+            }
+        }
+        return hits;
+    }
+
+    void put(CollectionSummary summary) {
+        if (entries.size() >= MAX_ENTRIES) {
+            Instant now = clock.instant();
+            entries.values().removeIf(entry -> now.isAfter(entry.expiresAt));
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        entries.put(summary.getCollectionId(), new Entry(summary, clock.instant().plus(ttl)));
+    }
+
+    public void evict(Long collectionId) {
+        if (collectionId != null) {
+            entries.remove(collectionId);
+        }
+    }
+
+    private void evictFor(Object entity, EntityPersister persister, Object[] oldState) {
+        if (entity instanceof StudyCollection collection) {
+            evict(collection.getId());
+            return;
+        }
+
+        StudyCollection current = null;
+        if (entity instanceof Document document) {
+            current = document.getStudyCollection();
+        } else if (entity instanceof Quiz quiz) {
+            current = quiz.getStudyCollection();
+        }
+        if (current != null) {
+            evict(current.getId());
+        }
+
+        if (oldState != null) {
+            Integer index = persister.getEntityMetamodel().getPropertyIndexOrNull("studyCollection");
+            if (index != null && oldState[index] instanceof StudyCollection previous) {
+                evict(previous.getId());
+            }
+        }
+    }
+
+    private record Entry(CollectionSummary summary, Instant expiresAt) {
+    }
+
+    private class InvalidationListener implements PostCommitInsertEventListener,
+            PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            evictFor(event.getEntity(), event.getPersister(), null);
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            evictFor(event.getEntity(), event.getPersister(), event.getOldState());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            evictFor(event.getEntity(), event.getPersister(), event.getDeletedState());
+        }
+
+        @Override
+        public void onPostInsertCommitFailed(PostInsertEvent event) {
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            Class<?> type = persister.getMappedClass();
+            return type == Document.class || type == Quiz.class || type == StudyCollection.class;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.thesis.interactive_learning.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Linear-time extractor for "Term is/are/refers to/means/defined as ..." sentences.
+ * Text can be fed in chunks (e.g. one PDF page at a time); each definition is passed to
+ * the consumer as soon as its sentence ends. Sentences longer than
+ * {@link #MAX_SENTENCE_LENGTH} are skipped without buffering, so unpunctuated scans cost
+ * one pass over the input instead of a regex backtracking over the rest of the document.
+ */
+class DefinitionExtractor {
+
+    static final int MAX_SENTENCE_LENGTH = 400;
+    private static final int MAX_TERM_WORDS = 5;
+    private static final Set<String> ARTICLES = Set.of("The", "A", "An");
+
+    private final Set<String> stopWords;
+    private final BiConsumer<String, String> consumer;
+
+    private final StringBuilder sentence = new StringBuilder();
+    private boolean oversized = false;
+    private int pendingNewlines = 0;
+
+    DefinitionExtractor(Set<String> stopWords, BiConsumer<String, String> consumer) {
+        this.stopWords = stopWords;
+        this.consumer = consumer;
+    }
+
+    void accept(CharSequence chunk) {
+        if (chunk == null) {
+            return;
+        }
+
+        for (int i = 0; i < chunk.length(); i++) {
+            char c = chunk.charAt(i);
+
+            if (c == '.' || c == '!' || c == '?') {
+                endSentence();
+            } else if (c == '\n') {
+                // A blank line ends a paragraph, so headings never merge into the next sentence
+                if (++pendingNewlines >= 2) {
+                    endSentence();
+                } else {
+                    append(' ');
+                }
+            } else if (c != '\r') {
+                if (!Character.isWhitespace(c)) {
+                    pendingNewlines = 0;
+                }
+                append(Character.isWhitespace(c) ? ' ' : c);
+            }
+        }
+    }
+
+    void finish() {
+        // Text that ends without a terminator is not a complete definition sentence
+        sentence.setLength(0);
+        oversized = false;
+        pendingNewlines = 0;
+    }
+
+    private void append(char c) {
+        if (oversized) {
+            return;
+        }
+        if (sentence.length() >= MAX_SENTENCE_LENGTH) {
+            oversized = true;
+            sentence.setLength(0);
+            return;
+        }
+        sentence.append(c);
+    }
+
+    private void endSentence() {
+        if (!oversized && sentence.length() > 0) {
+            matchSentence(sentence.toString());
+        }
+        sentence.setLength(0);
+        oversized = false;
+        pendingNewlines = 0;
+    }
+
+    private void matchSentence(String text) {
+        // Only the subject's first word must be capitalised, so "Cell theory is ..." still matches
+        List<int[]> words = wordBounds(text, MAX_TERM_WORDS + 3);
+        if (words.size() < 3 || !Character.isUpperCase(text.charAt(words.get(0)[0]))
+                || !isTermWord(text.substring(words.get(0)[0], words.get(0)[1]))) {
+            return;
+        }
+
+        // "The Golgi apparatus is ..." defines "Golgi apparatus"
+        int termStart = ARTICLES.contains(text.substring(words.get(0)[0], words.get(0)[1])) ? 1 : 0;
+
+        for (int i = termStart + 1; i <= termStart + MAX_TERM_WORDS && i < words.size(); i++) {
+            int[] word = words.get(i);
+            String token = text.substring(word[0], word[1]);
+
+            int keywordEnd;
+            if (token.equals("is") || token.equals("are") || token.equals("means")) {
+                keywordEnd = word[1];
+            } else if ((token.equals("refers") || token.equals("defined")) && i + 1 < words.size()) {
+                int[] next = words.get(i + 1);
+                String expected = token.equals("refers") ? "to" : "as";
+                if (!text.substring(next[0], next[1]).equals(expected)) {
+                    continue;
+                }
+                keywordEnd = next[1];
+            } else if (isTermWord(token)) {
+                continue;
+            } else {
+                return;
+            }
+
+            String term = text.substring(words.get(termStart)[0], words.get(i - 1)[1]);
+            String definition = stripLeadingDefinedAs(text.substring(keywordEnd).trim());
+
+            if (!definition.isEmpty() && !(i == termStart + 1 && stopWords.contains(term.toLowerCase()))) {
+                consumer.accept(term, definition);
+            }
+            return;
+        }
+    }
+
+    private static String stripLeadingDefinedAs(String definition) {
+        return definition.startsWith("defined as ") ? definition.substring(11).trim() : definition;
+    }
+
+    private static boolean isTermWord(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (!Character.isLetter(c) && c != '-' && c != '\'') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<int[]> wordBounds(String text, int maxWords) {
+        List<int[]> bounds = new ArrayList<>(maxWords);
+        int i = 0;
+        while (i < text.length() && bounds.size() < maxWords) {
+            while (i < text.length() && text.charAt(i) == ' ') i++;
+            int start = i;
+            while (i < text.length() && text.charAt(i) != ' ') i++;
+            if (i > start) {
+                bounds.add(new int[]{start, i});
+            }
+        }
+        return bounds;
+    }
+}
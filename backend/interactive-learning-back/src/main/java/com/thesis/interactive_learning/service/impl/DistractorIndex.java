@@ -0,0 +1,117 @@
+package com.thesis.interactive_learning.service.impl;
+
+import java.util.*;
+
+/**
+ * Per-document pool of multiple-choice distractors.
+ * Candidates are grouped once by a cheap similarity key (word class guessed from the
+ * suffix of the head word plus a length band), so each question can draw k plausible
+ * distractors in O(k) instead of copying and shuffling the whole candidate list.
+ */
+class DistractorIndex {
+
+    private static final String[] NOUN_SUFFIXES = {"tion", "sion", "ment", "ness", "ity", "ism", "ance", "ence", "ship"};
+    private static final String[] ADJECTIVE_SUFFIXES = {"able", "ible", "ical", "ive", "ous", "ful", "less", "al", "ic"};
+
+    private final List<String> candidates;
+    private final Map<String, Integer> positions;
+    private final Map<String, List<Integer>> buckets;
+
+    private DistractorIndex(List<String> candidates) {
+        this.candidates = candidates;
+        this.positions = new HashMap<>();
+        this.buckets = new HashMap<>();
+
+        for (int i = 0; i < candidates.size(); i++) {
+            String candidate = candidates.get(i);
+            positions.putIfAbsent(candidate, i);
+            buckets.computeIfAbsent(similarityKey(candidate), key -> new ArrayList<>()).add(i);
+        }
+    }
+
+    static DistractorIndex of(Collection<String> candidates) {
+        // Deduplicate while keeping the original (relevance) order
+        return new DistractorIndex(List.copyOf(new LinkedHashSet<>(candidates)));
+    }
+
+    int size() {
+        return candidates.size();
+    }
+
+    /**
+     * Pick up to {@code count} distinct distractors for the given answer, preferring
+     * candidates from the same similarity bucket and topping up from the whole pool.
+     */
+    List<String> sample(String correctAnswer, int count, Random random) {
+        List<String> result = new ArrayList<>(Math.max(count, 0));
+        if (count <= 0 || candidates.isEmpty()) {
+            return result;
+        }
+
+        Set<Integer> excluded = new HashSet<>();
+        Integer correctPosition = positions.get(correctAnswer);
+        if (correctPosition != null) {
+            excluded.add(correctPosition);
+        }
+
+        List<Integer> bucket = buckets.getOrDefault(similarityKey(correctAnswer), Collections.emptyList());
+        drawInto(result, bucket, count, excluded, random);
+
+        if (result.size() < count) {
+            drawInto(result, null, count, excluded, random);
+        }
+
+        return result;
+    }
+
+    /**
+     * Floyd's selection sampling: draws distinct positions from {@code pool} (or from all
+     * candidates when {@code pool} is null) in time proportional to the number drawn.
+     * Enough extra positions are requested to cover any that are already excluded.
+     */
+    private void drawInto(List<String> result, List<Integer> pool, int count,
+                          Set<Integer> excluded, Random random) {
+        int poolSize = pool != null ? pool.size() : candidates.size();
+        int needed = count - result.size();
+        int toDraw = Math.min(poolSize, needed + excluded.size());
+        if (toDraw <= 0) {
+            return;
+        }
+
+        Set<Integer> drawn = new LinkedHashSet<>();
+        for (int j = poolSize - toDraw; j < poolSize; j++) {
+            int t = random.nextInt(j + 1);
+            drawn.add(drawn.contains(t) ? j : t);
+        }
+
+        for (int slot : drawn) {
+            if (result.size() >= count) break;
+            int position = pool != null ? pool.get(slot) : slot;
+            if (excluded.add(position)) {
+                result.add(candidates.get(position));
+            }
+        }
+    }
+
+    static String similarityKey(String text) {
+        String trimmed = text == null ? "" : text.trim().toLowerCase();
+        int lastSpace = trimmed.lastIndexOf(' ');
+        String headWord = lastSpace >= 0 ? trimmed.substring(lastSpace + 1) : trimmed;
+
+        // Length bands double in width, so "cell" and "mitochondrion" never share a bucket
+        int lengthBand = 31 - Integer.numberOfLeadingZeros(Math.max(trimmed.length(), 1));
+        return wordClass(headWord) + ":" + lengthBand;
+    }
+
+    private static String wordClass(String word) {
+        if (word.endsWith("ing")) return "GERUND";
+        if (word.endsWith("ly")) return "ADVERB";
+        for (String suffix : NOUN_SUFFIXES) {
+            if (word.endsWith(suffix)) return "NOUN";
+        }
+        for (String suffix : ADJECTIVE_SUFFIXES) {
+            if (word.endsWith(suffix)) return "ADJECTIVE";
+        }
+        return "OTHER";
+    }
+}
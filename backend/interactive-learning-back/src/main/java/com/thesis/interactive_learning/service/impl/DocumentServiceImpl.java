@@ -1,29 +1,40 @@
 package com.thesis.interactive_learning.service.impl;
 
+import com.thesis.interactive_learning.dto.BulkCollectionUpdateResult;
+import com.thesis.interactive_learning.dto.KeysetCursor;
+import com.thesis.interactive_learning.dto.KeysetPage;
 import com.thesis.interactive_learning.model.Document;
-import com.thesis.interactive_learning.model.Quiz;
 import com.thesis.interactive_learning.model.StudyCollection;
 import com.thesis.interactive_learning.model.User;
 import com.thesis.interactive_learning.repository.DocumentRepository;
 import com.thesis.interactive_learning.repository.QuizRepository;
 import com.thesis.interactive_learning.repository.StudyCollectionRepository;
+import com.thesis.interactive_learning.repository.UserProgressRepository;
 import com.thesis.interactive_learning.repository.UserRepository;
 import com.thesis.interactive_learning.service.DocumentService;
+import com.thesis.interactive_learning.service.TextAnalysisService;
+import com.thesis.interactive_learning.service.UserProgressChangedEvent;
 import jakarta.transaction.Transactional;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Service
 public class DocumentServiceImpl implements DocumentService {
@@ -31,17 +42,34 @@ public class DocumentServiceImpl implements DocumentService {
     private final UserRepository userRepository;
     private final StudyCollectionRepository studyCollectionRepository;
     private final QuizRepository quizRepository;
+    private final TextAnalysisService textAnalysisService;
+    private final QuizViewCache quizViewCache;
+    private final CollectionSummaryCache collectionSummaryCache;
+    private final UserProgressRepository userProgressRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Pages read at upload to detect the document language
+    private static final int LANGUAGE_SAMPLE_PAGES = 3;
 
     @Value("${file.upload-directory}")
     private String uploadDir;
 
     @Autowired
     public DocumentServiceImpl(DocumentRepository documentRepository, UserRepository userRepository,
-                               StudyCollectionRepository studyCollectionRepository, QuizRepository quizRepository) {
+                               StudyCollectionRepository studyCollectionRepository, QuizRepository quizRepository,
+                               TextAnalysisService textAnalysisService, QuizViewCache quizViewCache,
+                               CollectionSummaryCache collectionSummaryCache,
+                               UserProgressRepository userProgressRepository,
+                               ApplicationEventPublisher eventPublisher) {
         this.documentRepository = documentRepository;
         this.userRepository = userRepository;
         this.studyCollectionRepository = studyCollectionRepository;
         this.quizRepository = quizRepository;
+        this.textAnalysisService = textAnalysisService;
+        this.quizViewCache = quizViewCache;
+        this.collectionSummaryCache = collectionSummaryCache;
+        this.userProgressRepository = userProgressRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -87,10 +115,15 @@ public class DocumentServiceImpl implements DocumentService {
         file.transferTo(filePath.toFile());
         System.out.println("File saved successfully!");
 
-        // Extract page count from PDF
+        // Extract page count and detect the language from the first pages
         int pageCount = 0;
+        String language;
         try (PDDocument pdDocument = PDDocument.load(filePath.toFile())) {
             pageCount = pdDocument.getNumberOfPages();
+
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setEndPage(Math.min(pageCount, LANGUAGE_SAMPLE_PAGES));
+            language = textAnalysisService.detectLanguage(stripper.getText(pdDocument));
         }
 
         // Create and save document entity
@@ -102,6 +135,7 @@ public class DocumentServiceImpl implements DocumentService {
         document.setUploadDate(LocalDateTime.now());
         document.setFileSize(file.getSize());
         document.setPageCount(pageCount);
+        document.setLanguage(language);
         document.setUser(user);
         document.setStudyCollection(collection);
 
@@ -125,6 +159,19 @@ public class DocumentServiceImpl implements DocumentService {
         return documentRepository.findByUser(user);
     }
 
+    @Override
+    public KeysetPage<Document> getDocumentsPageByUserId(Long userId, String cursor, Integer limit) {
+        int pageSize = KeysetPage.clampLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        PageRequest fetch = PageRequest.of(0, pageSize + 1);
+        List<Document> rows = after == null
+                ? documentRepository.findPageByUserId(userId, fetch)
+                : documentRepository.findPageByUserIdBefore(userId, after.getTimestamp(), after.getId(), fetch);
+
+        return KeysetPage.of(rows, pageSize, document -> new KeysetCursor(document.getUploadDate(), document.getId()));
+    }
+
     @Override
     public List<Document> getDocumentsByCollectionId(Long collectionId) {
         return documentRepository.findByStudyCollectionId(collectionId);
@@ -174,9 +221,15 @@ public class DocumentServiceImpl implements DocumentService {
                     // Continue with database deletion
                 }
 
+                List<Long> affectedUserIds = userProgressRepository.findUserIdsByDocumentId(id);
                 documentRepository.deleteById(id);
                 System.out.println("Document and all associated data deleted successfully");
 
+                // The cascade removed the attempts on the document's quizzes, so the affected
+                // stats rollups are rebuilt after commit
+                affectedUserIds.forEach(userId ->
+                        eventPublisher.publishEvent(UserProgressChangedEvent.historyChanged(userId)));
+
             } else {
                 throw new RuntimeException("Document not found with id: " + id);
             }
@@ -267,6 +320,40 @@ public class DocumentServiceImpl implements DocumentService {
         return result;
     }
 
+    @Override
+    public Stream<String> streamPageTexts(Long documentId) throws IOException {
+        Document document = documentRepository.findById(documentId)
+                .orElseThrow(() -> new RuntimeException("Document not found"));
+
+        File file = new File(document.getFilePath());
+        if (!file.exists()) {
+            throw new RuntimeException("File not found on disk");
+        }
+
+        // Page content is parsed on demand and buffered in a temp file, not on the heap
+        PDDocument pdDocument = PDDocument.load(file, MemoryUsageSetting.setupTempFileOnly());
+        PDFTextStripper stripper = new PDFTextStripper();
+        stripper.setSortByPosition(true);
+
+        return IntStream.rangeClosed(1, pdDocument.getNumberOfPages())
+                .mapToObj(page -> {
+                    try {
+                        stripper.setStartPage(page);
+                        stripper.setEndPage(page);
+                        return stripper.getText(pdDocument);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .onClose(() -> {
+                    try {
+                        pdDocument.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
     @Override
     public Map<String, Object> extractDocumentMetadata(Long documentId) throws IOException {
         Document document = documentRepository.findById(documentId)
@@ -293,54 +380,88 @@ public class DocumentServiceImpl implements DocumentService {
     }
 
     @Override
-    public Document updateDocumentCollection(Long documentId, Long collectionId) {
+    @Transactional
+    public Document removeDocumentFromCollection(Long documentId) {
         Document document = documentRepository.findById(documentId)
                 .orElseThrow(() -> new RuntimeException("Document not found"));
 
-        StudyCollection collection = null;
-        if (collectionId != null) {
-            collection = studyCollectionRepository.findById(collectionId)
-                    .orElseThrow(() -> new RuntimeException("Collection not found"));
+        document.setStudyCollection(null);
+        Document savedDocument = documentRepository.save(document);
+
+        int quizzesUpdated = moveQuizzes(List.of(documentId), null);
+
+        System.out.println("Removed " + quizzesUpdated + " quizzes from collection");
+
+        return savedDocument;
+    }
 
-            // Validate that the collection belongs to the same user as the document
-            if (!collection.getUser().getId().equals(document.getUser().getId())) {
-                throw new RuntimeException("Access denied: Collection does not belong to the document owner");
+    @Override
+    @Transactional
+    public BulkCollectionUpdateResult moveDocumentsToCollection(Collection<Long> documentIds, Long collectionId,
+                                                                Long ownerUserId) {
+        Set<Long> ids = new LinkedHashSet<>(documentIds);
+        if (ids.isEmpty()) {
+            return new BulkCollectionUpdateResult(0, 0);
+        }
+
+        // One ownership query for the whole batch instead of loading each document
+        Set<Long> ownedIds = new HashSet<>(documentRepository.findIdsByIdInAndUserId(ids, ownerUserId));
+        for (Long id : ids) {
+            if (!ownedIds.contains(id)) {
+                throw new RuntimeException(documentRepository.existsById(id)
+                        ? "Access denied: You don't have permission to access this resource"
+                        : "Document not found: " + id);
             }
         }
 
-        // Update document collection
-        document.setStudyCollection(collection);
-        Document savedDocument = documentRepository.save(document);
+        StudyCollection collection = resolveTargetCollection(collectionId, ownerUserId);
 
-        // Update all quizzes associated with this document
-        List<Quiz> documentQuizzes = quizRepository.findByDocumentId(documentId);
-        for (Quiz quiz : documentQuizzes) {
-            quiz.setStudyCollection(collection);
-            quizRepository.save(quiz);
-        }
+        List<Long> previousCollectionIds = documentRepository.findCollectionIdsByIdIn(ids);
+        int documentsUpdated = documentRepository.updateCollectionByIdIn(ids, collection);
+        int quizzesUpdated = moveQuizzes(ids, collection);
 
-        System.out.println("Updated " + documentQuizzes.size() + " quizzes to collection: " +
-                (collection != null ? collection.getName() : "none"));
+        AfterCommit.run(() -> {
+            previousCollectionIds.forEach(collectionSummaryCache::evict);
+            collectionSummaryCache.evict(collectionId);
+        });
 
-        return savedDocument;
+        return new BulkCollectionUpdateResult(documentsUpdated, quizzesUpdated);
     }
 
-    @Override
-    public Document removeDocumentFromCollection(Long documentId) {
-        Document document = documentRepository.findById(documentId)
-                .orElseThrow(() -> new RuntimeException("Document not found"));
+    private StudyCollection resolveTargetCollection(Long collectionId, Long ownerUserId) {
+        if (collectionId == null) {
+            return null;
+        }
 
-        document.setStudyCollection(null);
-        Document savedDocument = documentRepository.save(document);
+        StudyCollection collection = studyCollectionRepository.findById(collectionId)
+                .orElseThrow(() -> new RuntimeException("Collection not found"));
+
+        // Validate that the collection belongs to the same user as the document
+        if (!collection.getUser().getId().equals(ownerUserId)) {
+            throw new RuntimeException("Access denied: Collection does not belong to the document owner");
+        }
+        return collection;
+    }
 
-        List<Quiz> documentQuizzes = quizRepository.findByDocumentId(documentId);
-        for (Quiz quiz : documentQuizzes) {
-            quiz.setStudyCollection(null);
-            quizRepository.save(quiz);
+    /**
+     * Bulk-moves the quizzes of the given documents. The update bypasses entity events, so the
+     * affected quiz views and collection summaries are evicted explicitly after commit.
+     */
+    private int moveQuizzes(Collection<Long> documentIds, StudyCollection collection) {
+        List<Long> quizIds = quizRepository.findIdsByDocumentIdIn(documentIds);
+        if (quizIds.isEmpty()) {
+            return 0;
         }
 
-        System.out.println("Removed " + documentQuizzes.size() + " quizzes from collection");
+        List<Long> previousCollectionIds = quizRepository.findCollectionIdsByDocumentIdIn(documentIds);
+        int updated = quizRepository.updateCollectionByDocumentIdIn(documentIds, collection);
 
-        return savedDocument;
+        Long collectionId = collection != null ? collection.getId() : null;
+        AfterCommit.run(() -> {
+            quizIds.forEach(quizViewCache::evict);
+            previousCollectionIds.forEach(collectionSummaryCache::evict);
+            collectionSummaryCache.evict(collectionId);
+        });
+        return updated;
     }
 }
\ No newline at end of file
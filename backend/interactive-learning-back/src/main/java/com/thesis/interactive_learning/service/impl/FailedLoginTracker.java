@@ -0,0 +1,209 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.repository.AuditLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sliding-window counts of failed logins per client IP and per username, replacing the two
+ * COUNT queries over audit_logs that used to run on every login. Each key keeps
+ * {@link #BUCKETS} time buckets covering {@link #WINDOW}; a count covers the current,
+ * partly elapsed bucket plus the previous ones, so the oldest few minutes of the hour can
+ * drop out slightly earlier than with an exact timestamp query.
+ * <p>
+ * Every LOGIN_FAILED audit entry is recorded here as it is written. The audit table is only
+ * read once at startup, to rebuild the last hour.
+ * <p>
+ * Each map holds at most {@link #MAX_KEYS} windows. Recording never scans a map: once it is
+ * full, failures for keys it does not hold yet go uncounted until the scheduled sweep makes
+ * room. The sweep drops expired windows and, if still too many remain, sheds the least
+ * recently failed ones first. Windows that have reached {@link #LOCK_THRESHOLD} are never
+ * shed, so a spray from many addresses cannot reset an ongoing lockout.
+ */
+@Component
+public class FailedLoginTracker implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailedLoginTracker.class);
+
+    static final Duration WINDOW = Duration.ofHours(1);
+    static final int BUCKETS = 12;
+    static final int MAX_KEYS = 50_000;
+    static final int LOCK_THRESHOLD = 5;
+    private static final long BUCKET_MILLIS = WINDOW.toMillis() / BUCKETS;
+
+    private final AuditLogRepository auditLogRepository;
+    private final Clock clock;
+    private final Map<String, Window> byIp = new ConcurrentHashMap<>();
+    private final Map<String, Window> byUsername = new ConcurrentHashMap<>();
+    private final AtomicLong untracked = new AtomicLong();
+    private final int maxKeys;
+
+    @Autowired
+    public FailedLoginTracker(AuditLogRepository auditLogRepository) {
+        this(auditLogRepository, Clock.systemDefaultZone());
+    }
+
+    FailedLoginTracker(AuditLogRepository auditLogRepository, Clock clock) {
+        this(auditLogRepository, clock, MAX_KEYS);
+    }
+
+    FailedLoginTracker(AuditLogRepository auditLogRepository, Clock clock, int maxKeys) {
+        this.auditLogRepository = auditLogRepository;
+        this.clock = clock;
+        this.maxKeys = maxKeys;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        LocalDateTime since = LocalDateTime.now(clock).minus(WINDOW);
+        try {
+            List<Object[]> failures = auditLogRepository.findFailedLoginsSince(since);
+            ZoneId zone = clock.getZone();
+            for (Object[] failure : failures) {
+                long at = ((LocalDateTime) failure[0]).atZone(zone).toInstant().toEpochMilli();
+                record((String) failure[1], (String) failure[2], at);
+            }
+            logger.info("Rebuilt failed-login windows from {} audit entries", failures.size());
+        } catch (DataAccessException e) {
+            logger.warn("Could not rebuild failed-login windows: {}", e.getMessage());
+        }
+    }
+
+    public void recordFailure(String ipAddress, String username) {
+        record(ipAddress, username, clock.millis());
+    }
+
+    public long countByIp(String ipAddress) {
+        return count(byIp, ipAddress);
+    }
+
+    public long countByUsername(String username) {
+        return count(byUsername, username);
+    }
+
+    private void record(String ipAddress, String username, long at) {
+        long bucket = at / BUCKET_MILLIS;
+        if (ipAddress != null) {
+            add(byIp, ipAddress, bucket, at);
+        }
+        if (username != null) {
+            add(byUsername, username, bucket, at);
+        }
+    }
+
+    private void add(Map<String, Window> windows, String key, long bucket, long at) {
+        Window window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= maxKeys) {
+                long skipped = untracked.incrementAndGet();
+                if (skipped % 1000 == 1) {
+                    logger.warn("Failed-login windows are full, {} failures left uncounted until the next sweep", skipped);
+                }
+                return;
+            }
+            window = windows.computeIfAbsent(key, k -> new Window());
+        }
+        window.add(bucket, at);
+    }
+
+    private long count(Map<String, Window> windows, String key) {
+        if (key == null) {
+            return 0;
+        }
+        Window window = windows.get(key);
+        return window == null ? 0 : window.sum(currentBucket());
+    }
+
+    /**
+     * Drop windows that no longer hold any failure inside the window, then shed the least
+     * recently failed ones below the lock threshold until a tenth of each map is free again.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    void evictExpired() {
+        long current = currentBucket();
+        shed(byIp, current);
+        shed(byUsername, current);
+        untracked.set(0);
+    }
+
+    private void shed(Map<String, Window> windows, long current) {
+        windows.values().removeIf(window -> window.isExpired(current));
+
+        int excess = windows.size() - (maxKeys - maxKeys / 10);
+        if (excess <= 0) {
+            return;
+        }
+        List<Map.Entry<String, Long>> candidates = windows.entrySet().stream()
+                .filter(entry -> entry.getValue().sum(current) < LOCK_THRESHOLD)
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().lastSeen()))
+                .sorted(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+                .limit(excess)
+                .toList();
+        candidates.forEach(entry -> windows.remove(entry.getKey()));
+        logger.warn("Shed {} idle failed-login windows to stay under {} keys", candidates.size(), maxKeys);
+    }
+
+    private long currentBucket() {
+        return clock.millis() / BUCKET_MILLIS;
+    }
+
+    /**
+     * Ring of per-bucket counts for one key. Each slot remembers which bucket it holds, so
+     * slots left over from an earlier lap of the ring are ignored instead of cleared.
+     */
+    static final class Window {
+
+        private final long[] buckets = new long[BUCKETS];
+        private final int[] counts = new int[BUCKETS];
+        private long lastBucket = Long.MIN_VALUE;
+        private long lastSeen;
+
+        synchronized void add(long bucket, long at) {
+            int slot = (int) Math.floorMod(bucket, (long) BUCKETS);
+            if (buckets[slot] != bucket) {
+                if (bucket < buckets[slot] && counts[slot] > 0) {
+                    return; // older than the window this slot already covers
+                }
+                buckets[slot] = bucket;
+                counts[slot] = 0;
+            }
+            counts[slot]++;
+            lastBucket = Math.max(lastBucket, bucket);
+            lastSeen = Math.max(lastSeen, at);
+        }
+
+        synchronized long sum(long currentBucket) {
+            long total = 0;
+            for (int slot = 0; slot < BUCKETS; slot++) {
+                if (counts[slot] > 0 && buckets[slot] > currentBucket - BUCKETS && buckets[slot] <= currentBucket) {
+                    total += counts[slot];
+                }
+            }
+            return total;
+        }
+
+        synchronized long lastSeen() {
+            return lastSeen;
+        }
+
+        synchronized boolean isExpired(long currentBucket) {
+            return lastBucket <= currentBucket - BUCKETS;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.dto.TextAnalysisResult;
+
+import java.util.*;
+
+/**
+ * Builds sentences, word frequencies and definitions from a document one page at a time.
+ * Between pages only the unfinished trailing sentence and word are kept, so the working
+ * buffer is bounded by a page rather than by the whole document.
+ */
+class IncrementalTextAnalyzer {
+
+    // An unpunctuated run longer than this is emitted as a sentence instead of carried forward
+    static final int MAX_CARRY_LENGTH = 20_000;
+
+    private final List<String> sentences = new ArrayList<>();
+    private final Map<String, Integer> wordFrequency = new HashMap<>();
+    private final Map<String, String> definitions = new HashMap<>();
+    private final Set<String> stopWords;
+    private final DefinitionExtractor definitionExtractor;
+
+    private String sentenceCarry = "";
+    private String wordCarry = "";
+    private int pageCount = 0;
+
+    IncrementalTextAnalyzer(Set<String> stopWords) {
+        this.stopWords = stopWords;
+        this.definitionExtractor = new DefinitionExtractor(stopWords, definitions::put);
+    }
+
+    void acceptPage(String page) {
+        if (page == null) {
+            return;
+        }
+        pageCount++;
+
+        definitionExtractor.accept(page);
+        acceptWords(page);
+        acceptSentences(page);
+    }
+
+    TextAnalysisResult finish(int maxTerms) {
+        definitionExtractor.finish();
+
+        TextAnalysisServiceImpl.countWords(wordCarry, wordFrequency);
+        wordCarry = "";
+
+        addSentence(sentenceCarry);
+        sentenceCarry = "";
+
+        return new TextAnalysisResult(pageCount, sentences,
+                TextAnalysisServiceImpl.rankKeyTerms(wordFrequency, maxTerms, stopWords), definitions, wordFrequency);
+    }
+
+    private void acceptWords(String page) {
+        String pending = wordCarry + page;
+        int lastWhitespace = pending.length() - 1;
+        while (lastWhitespace >= 0 && !Character.isWhitespace(pending.charAt(lastWhitespace))) {
+            lastWhitespace--;
+        }
+
+        // A word cut at the page boundary is counted once the next page completes it
+        TextAnalysisServiceImpl.countWords(pending.substring(0, lastWhitespace + 1), wordFrequency);
+        wordCarry = pending.substring(lastWhitespace + 1);
+    }
+
+    private void acceptSentences(String page) {
+        String[] parts = TextAnalysisServiceImpl.splitSentences(sentenceCarry + page);
+
+        for (int i = 0; i < parts.length - 1; i++) {
+            addSentence(parts[i]);
+        }
+
+        // The last part may continue on the next page
+        sentenceCarry = parts.length > 0 ? parts[parts.length - 1] : "";
+        if (sentenceCarry.length() > MAX_CARRY_LENGTH) {
+            addSentence(sentenceCarry);
+            sentenceCarry = "";
+        }
+    }
+
+    private void addSentence(String sentence) {
+        String trimmed = sentence.trim();
+        if (!trimmed.isEmpty()) {
+            sentences.add(trimmed);
+        }
+    }
+}
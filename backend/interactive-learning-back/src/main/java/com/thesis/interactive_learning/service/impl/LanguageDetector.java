@@ -0,0 +1,97 @@
+package com.thesis.interactive_learning.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Character trigram language detector (Cavnar &amp; Trenkle "out-of-place" ranking).
+ * Profiles are built once from the seed texts in resources/language-profiles, and only
+ * the first {@link #SAMPLE_LENGTH} characters of a document are looked at.
+ */
+class LanguageDetector {
+
+    static final int SAMPLE_LENGTH = 4000;
+
+    private static final int PROFILE_SIZE = 300;
+    private static final int MIN_SAMPLE_LETTERS = 40;
+
+    private final Map<String, Map<String, Integer>> profiles = new LinkedHashMap<>();
+
+    LanguageDetector(String... languages) {
+        for (String language : languages) {
+            profiles.put(language, rankTrigrams(loadSeed(language)));
+        }
+    }
+
+    String detect(String text) {
+        if (text == null) {
+            return LanguageResources.DEFAULT_LANGUAGE;
+        }
+
+        String sample = text.length() > SAMPLE_LENGTH ? text.substring(0, SAMPLE_LENGTH) : text;
+        if (sample.codePoints().filter(Character::isLetter).count() < MIN_SAMPLE_LETTERS) {
+            return LanguageResources.DEFAULT_LANGUAGE;
+        }
+
+        Map<String, Integer> sampleProfile = rankTrigrams(sample);
+
+        String best = LanguageResources.DEFAULT_LANGUAGE;
+        long bestDistance = Long.MAX_VALUE;
+        for (Map.Entry<String, Map<String, Integer>> profile : profiles.entrySet()) {
+            long distance = outOfPlaceDistance(sampleProfile, profile.getValue());
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = profile.getKey();
+            }
+        }
+        return best;
+    }
+
+    private static long outOfPlaceDistance(Map<String, Integer> sample, Map<String, Integer> profile) {
+        long distance = 0;
+        for (Map.Entry<String, Integer> entry : sample.entrySet()) {
+            Integer rank = profile.get(entry.getKey());
+            distance += rank == null ? PROFILE_SIZE : Math.abs(rank - entry.getValue());
+        }
+        return distance;
+    }
+
+    private static Map<String, Integer> rankTrigrams(String text) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String word : text.toLowerCase().split("[^\\p{L}]+")) {
+            if (word.isEmpty()) continue;
+            String padded = " " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                counts.merge(padded.substring(i, i + 3), 1, Integer::sum);
+            }
+        }
+
+        List<String> ordered = counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(PROFILE_SIZE)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        Map<String, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            ranks.put(ordered.get(i), i);
+        }
+        return ranks;
+    }
+
+    private static String loadSeed(String language) {
+        try (InputStream in = LanguageDetector.class.getResourceAsStream("/language-profiles/" + language + ".txt")) {
+            if (in == null) {
+                throw new IllegalStateException("Missing language profile: " + language);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.thesis.interactive_learning.service.impl;
+
+import java.util.*;
+
+/**
+ * Per-language resources for the supported document languages (ISO 639-1): display names,
+ * true/false labels and stop words. Lookups for an unsupported language fall back to
+ * {@link #DEFAULT_LANGUAGE}; the trigram profiles for detection live in resources/language-profiles.
+ */
+final class LanguageResources {
+
+    static final String DEFAULT_LANGUAGE = "en";
+    static final List<String> SUPPORTED_LANGUAGES = List.of("en", "sq");
+
+    private static final Set<String> ENGLISH_STOP_WORDS = new HashSet<>(Arrays.asList(
+            "a", "an", "the", "and", "or", "but", "if", "because", "as", "what", "when",
+            "where", "how", "why", "which", "who", "whom", "this", "that", "these", "those",
+            "is", "are", "was", "were", "be", "been", "being", "have", "has", "had", "having",
+            "do", "does", "did", "doing", "would", "should", "could", "ought", "i", "you",
+            "he", "she", "it", "we", "they", "their", "your", "my", "his", "her", "its",
+            "our", "of", "in", "to", "for", "with", "on", "at", "from", "by", "about",
+            "against", "between", "into", "through", "during", "before", "after", "above",
+            "below", "up", "down", "out", "off", "over", "under", "again", "further", "then",
+            "once", "all", "any", "both", "each", "few", "more", "most", "other", "some",
+            "such", "no", "nor", "not", "only", "own", "same", "so", "than", "too", "very"
+    ));
+    private static final Set<String> ALBANIAN_STOP_WORDS = new HashSet<>(Arrays.asList(
+            "dhe", "ose", "por", "nëse", "sepse", "si", "çfarë", "kur", "ku", "pse", "cili",
+            "cila", "cilat", "cilët", "kush", "kjo", "ky", "këto", "këta", "ajo", "ai", "ato",
+            "ata", "është", "janë", "ishte", "ishin", "jam", "je", "jemi", "jeni", "kam", "ka",
+            "kemi", "keni", "kanë", "kishte", "do", "duhet", "mund", "unë", "ti", "ne", "ju",
+            "tyre", "tij", "saj", "im", "yt", "ynë", "juaj", "i", "e", "të", "së", "në", "nga",
+            "për", "me", "pa", "mbi", "nën", "ndër", "midis", "gjatë", "para", "pas", "deri",
+            "që", "se", "një", "disa", "shumë", "pak", "gjithë", "çdo", "secili", "tjetër",
+            "tjera", "vetëm", "edhe", "gjithashtu", "nuk", "jo", "s'", "u", "duke", "atë",
+            "këtë", "kësaj", "këtij", "atij", "asaj", "tani", "pastaj", "shumica", "mirë"
+    ));
+
+    private static final Map<String, Resources> RESOURCES = Map.of(
+            "en", new Resources("English", List.of("True", "False"), "True or False: ", ENGLISH_STOP_WORDS),
+            "sq", new Resources("Albanian", List.of("E vërtetë", "E gabuar"), "E vërtetë apo e gabuar: ",
+                    ALBANIAN_STOP_WORDS)
+    );
+
+    private LanguageResources() {
+    }
+
+    static boolean isSupported(String language) {
+        return language != null && RESOURCES.containsKey(language);
+    }
+
+    static String displayName(String language) {
+        return resourcesFor(language).displayName();
+    }
+
+    // The true label first, then the false label
+    static List<String> trueFalseOptions(String language) {
+        return resourcesFor(language).trueFalseOptions();
+    }
+
+    static String trueFalsePrefix(String language) {
+        return resourcesFor(language).trueFalsePrefix();
+    }
+
+    static Set<String> stopWords(String language) {
+        return resourcesFor(language).stopWords();
+    }
+
+    private static Resources resourcesFor(String language) {
+        Resources resources = language != null ? RESOURCES.get(language) : null;
+        return resources != null ? resources : RESOURCES.get(DEFAULT_LANGUAGE);
+    }
+
+    private record Resources(String displayName, List<String> trueFalseOptions, String trueFalsePrefix,
+                             Set<String> stopWords) {
+    }
+}
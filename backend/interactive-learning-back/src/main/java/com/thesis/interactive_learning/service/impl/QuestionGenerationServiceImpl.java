@@ -69,7 +69,15 @@ public class QuestionGenerationServiceImpl implements QuestionGenerationService
         Map<String, Object> structuredText = documentService.extractStructuredTextFromPdf(documentId);
         String fullText = (String) structuredText.get("fullText");
 
-        List<Question> questions = generateQuestionsFromText(fullText, numberOfQuestions, questionType,
+        String language = document.getLanguage();
+        if (language == null) {
+            // Documents uploaded before language detection existed: detect once and remember it
+            language = resolveLanguage(fullText);
+            document.setLanguage(language);
+            documentRepository.save(document);
+        }
+
+        List<Question> questions = generateQuestionsFromText(fullText, language, numberOfQuestions, questionType,
                 difficulty, microbitCompatible, useAI);
 
         Quiz quiz = new Quiz();
@@ -83,8 +91,8 @@ public class QuestionGenerationServiceImpl implements QuestionGenerationService
 
         for (Question question : questions) {
             question.setQuiz(savedQuiz);
-            questionRepository.save(question);
         }
+        questionRepository.insertAllInBatch(questions);
 
         logger.info("Generated quiz '{}' with {} {} questions using {}",
                 quizTitle, questions.size(), questionType, useAI ? "AI" : "basic generation");
@@ -95,6 +103,17 @@ public class QuestionGenerationServiceImpl implements QuestionGenerationService
     @Override
     public List<Question> generateQuestionsFromText(String text, int numberOfQuestions, String questionType,
                                                     int difficulty, boolean microbitCompatible, boolean useAI) {
+        return generateQuestionsFromText(text, resolveLanguage(text), numberOfQuestions, questionType,
+                difficulty, microbitCompatible, useAI);
+    }
+
+    @Override
+    public List<Question> generateQuestionsFromText(String text, String language, int numberOfQuestions,
+                                                    String questionType, int difficulty,
+                                                    boolean microbitCompatible, boolean useAI) {
+        if (language == null) {
+            language = LanguageResources.DEFAULT_LANGUAGE;
+        }
 
         if (useAI) {
             try {
@@ -102,7 +121,7 @@ public class QuestionGenerationServiceImpl implements QuestionGenerationService
                         numberOfQuestions, questionType, difficulty);
 
                 List<Question> aiQuestions = aiQuizService.generateAIQuestions(text, numberOfQuestions,
-                        questionType, difficulty, microbitCompatible);
+                        questionType, difficulty, microbitCompatible, language);
 
                 if (aiQuestions != null && !aiQuestions.isEmpty()) {
                     logger.info("Successfully generated {} AI questions", aiQuestions.size());
@@ -117,37 +136,43 @@ public class QuestionGenerationServiceImpl implements QuestionGenerationService
         }
 
         // Fallback to basic generation or when AI is disabled
-        return generateBasicQuestions(text, numberOfQuestions, questionType, microbitCompatible);
+        return generateBasicQuestions(text, language, numberOfQuestions, questionType, microbitCompatible);
+    }
+
+    private String resolveLanguage(String text) {
+        String language = textAnalysisService.detectLanguage(text);
+        return language != null ? language : LanguageResources.DEFAULT_LANGUAGE;
     }
 
     /**
      * Basic question generation (original logic) as fallback
      */
-    private List<Question> generateBasicQuestions(String text, int numberOfQuestions, String questionType, boolean microbitCompatible) {
+    private List<Question> generateBasicQuestions(String text, String language, int numberOfQuestions,
+                                                  String questionType, boolean microbitCompatible) {
         logger.info("Using basic question generation for {} questions of type {}", numberOfQuestions, questionType);
 
         List<Question> questions = new ArrayList<>();
         List<String> sentences = textAnalysisService.extractSentences(text);
-        Map<String, Double> keyTerms = textAnalysisService.extractKeyTerms(text, 30);
+        Map<String, Double> keyTerms = textAnalysisService.extractKeyTerms(text, 30, language);
 
         if ("MULTIPLE_CHOICE".equals(questionType)) {
             addMultipleChoiceQuestions(questions, sentences, keyTerms, numberOfQuestions);
         } else if ("TRUE_FALSE".equals(questionType)) {
-            addTrueFalseQuestions(questions, sentences, numberOfQuestions, text);
+            addTrueFalseQuestions(questions, sentences, numberOfQuestions, language);
         } else {
             // Mixed type (legacy behavior)
             if (microbitCompatible) {
                 addMultipleChoiceQuestions(questions, sentences, keyTerms,
                         Math.min(sentences.size(), numberOfQuestions * 2/3));
                 addTrueFalseQuestions(questions, sentences,
-                        Math.min(sentences.size(), numberOfQuestions - questions.size()), text);
+                        Math.min(sentences.size(), numberOfQuestions - questions.size()), language);
             } else {
                 Map<String, String> definitions = textAnalysisService.extractDefinitions(text);
                 addDefinitionQuestions(questions, definitions, Math.min(definitions.size(), numberOfQuestions / 3));
                 addFactualQuestions(questions, sentences, keyTerms,
                         Math.min(sentences.size(), numberOfQuestions / 3));
                 addTrueFalseQuestions(questions, sentences,
-                        Math.min(sentences.size(), numberOfQuestions - questions.size()), text);
+                        Math.min(sentences.size(), numberOfQuestions - questions.size()), language);
             }
         }
 
@@ -177,29 +202,13 @@ public class QuestionGenerationServiceImpl implements QuestionGenerationService
         return generateQuestionsFromText(text, numberOfQuestions, "MULTIPLE_CHOICE", 2, microbitCompatible, false);
     }
 
-    // Language-aware True/False options
-    private List<String> getTrueFalseOptions(String documentText) {
-        String docLowerCase = documentText.toLowerCase();
-
-        // Albanian detection
-        if (docLowerCase.contains(" është ") || docLowerCase.contains(" janë ") ||
-                docLowerCase.contains(" dhe ") || docLowerCase.contains(" në ") ||
-                docLowerCase.contains(" për ") || docLowerCase.contains(" nga ") ||
-                docLowerCase.contains(" që ") || docLowerCase.contains(" me ") ||
-                docLowerCase.contains("shqip") || docLowerCase.contains("shqiptar")) {
-            return Arrays.asList("E vërtetë", "E gabuar");
-        }
-
-        // Default to English
-        return Arrays.asList("True", "False");
-    }
-
     // Updated helper methods with language support
-    private void addTrueFalseQuestions(List<Question> questions, List<String> sentences, int count, String documentText) {
+    private void addTrueFalseQuestions(List<Question> questions, List<String> sentences, int count, String language) {
         List<String> sentenceList = new ArrayList<>(sentences);
         Collections.shuffle(sentenceList);
 
-        List<String> trueFalseOptions = getTrueFalseOptions(documentText);
+        List<String> trueFalseOptions = LanguageResources.trueFalseOptions(language);
+        String prefix = LanguageResources.trueFalsePrefix(language);
 
         int added = 0;
         for (String sentence : sentenceList) {
@@ -209,8 +218,6 @@ public class QuestionGenerationServiceImpl implements QuestionGenerationService
             Question question = new Question();
             boolean isTrue = random.nextBoolean();
 
-            String prefix = trueFalseOptions.get(0).equals("E vërtetë") ? "E vërtetë apo e gabuar: " : "True or False: ";
-
             if (isTrue) {
                 question.setQuestionText(prefix + sentence);
             } else {
@@ -219,7 +226,7 @@ public class QuestionGenerationServiceImpl implements QuestionGenerationService
             }
 
             question.setQuestionType("TRUE_FALSE");
-            question.setOptions(trueFalseOptions);
+            question.setOptions(new ArrayList<>(trueFalseOptions));
             question.setCorrectOptionIndex(isTrue ? 0 : 1);
             question.setExplanation("The statement is " + (isTrue ? "true" : "false") +
                     " according to the text: " + sentence);
@@ -241,17 +248,10 @@ public class QuestionGenerationServiceImpl implements QuestionGenerationService
         return null;
     }
 
-    private List<String> generateOptions(String correctAnswer, List<String> possibleDistractors, int optionCount) {
+    private List<String> generateOptions(String correctAnswer, DistractorIndex distractorIndex, int optionCount) {
         List<String> options = new ArrayList<>();
         options.add(correctAnswer);
-
-        List<String> distractors = new ArrayList<>(possibleDistractors);
-        distractors.remove(correctAnswer);
-        Collections.shuffle(distractors);
-
-        for (int i = 0; i < (optionCount - 1) && i < distractors.size(); i++) {
-            options.add(distractors.get(i));
-        }
+        options.addAll(distractorIndex.sample(correctAnswer, optionCount - 1, random));
 
         while (options.size() < optionCount) {
             options.add("None of the above");
@@ -285,6 +285,7 @@ public class QuestionGenerationServiceImpl implements QuestionGenerationService
     private void addMultipleChoiceQuestions(List<Question> questions, List<String> sentences,
                                             Map<String, Double> keyTerms, int count) {
         List<String> keyTermList = new ArrayList<>(keyTerms.keySet());
+        DistractorIndex distractorIndex = DistractorIndex.of(keyTermList);
 
         List<Question> generatedQuestions = processKeyTermSentences(
                 sentences, keyTermList, count, 40,
@@ -298,7 +299,7 @@ public class QuestionGenerationServiceImpl implements QuestionGenerationService
                         question.setQuestionText("Which term is most related to this statement: \"" + sentence + "\"?");
                     }
 
-                    List<String> options = generateOptions(term, keyTermList, 4);
+                    List<String> options = generateOptions(term, distractorIndex, 4);
 
                     question.setQuestionType("MULTIPLE_CHOICE");
                     question.setOptions(options);
@@ -317,6 +318,7 @@ public class QuestionGenerationServiceImpl implements QuestionGenerationService
     private void addDefinitionQuestions(List<Question> questions, Map<String, String> definitions, int count) {
         List<String> termList = new ArrayList<>(definitions.keySet());
         Collections.shuffle(termList);
+        DistractorIndex distractorIndex = DistractorIndex.of(definitions.values());
 
         int added = 0;
         for (String term : termList) {
@@ -328,7 +330,7 @@ public class QuestionGenerationServiceImpl implements QuestionGenerationService
             question.setQuestionText("What is " + term + "?");
             question.setQuestionType("MULTIPLE_CHOICE");
 
-            List<String> options = generateOptions(definition, new ArrayList<>(definitions.values()), 4);
+            List<String> options = generateOptions(definition, distractorIndex, 4);
 
             question.setOptions(options);
             question.setCorrectOptionIndex(options.indexOf(definition));
@@ -343,6 +345,7 @@ public class QuestionGenerationServiceImpl implements QuestionGenerationService
 
     private void addFactualQuestions(List<Question> questions, List<String> sentences, Map<String, Double> keyTerms, int count) {
         List<String> keyTermList = new ArrayList<>(keyTerms.keySet());
+        DistractorIndex distractorIndex = DistractorIndex.of(keyTermList);
 
         List<Question> generatedQuestions = processKeyTermSentences(
                 sentences, keyTermList, count, 40,
@@ -353,7 +356,7 @@ public class QuestionGenerationServiceImpl implements QuestionGenerationService
                     question.setQuestionText("Complete the following: " + questionText);
                     question.setQuestionType("MULTIPLE_CHOICE");
 
-                    List<String> options = generateOptions(term, keyTermList, 4);
+                    List<String> options = generateOptions(term, distractorIndex, 4);
 
                     question.setOptions(options);
                     question.setCorrectOptionIndex(options.indexOf(term));
@@ -1,5 +1,8 @@
 package com.thesis.interactive_learning.service.impl;
 
+import com.thesis.interactive_learning.dto.KeysetCursor;
+import com.thesis.interactive_learning.dto.KeysetPage;
+import com.thesis.interactive_learning.dto.QuizView;
 import com.thesis.interactive_learning.model.Quiz;
 import com.thesis.interactive_learning.model.User;
 import com.thesis.interactive_learning.repository.QuizRepository;
@@ -8,8 +11,11 @@ import com.thesis.interactive_learning.repository.UserRepository;
 import com.thesis.interactive_learning.repository.DocumentRepository;
 import com.thesis.interactive_learning.repository.StudyCollectionRepository;
 import com.thesis.interactive_learning.service.QuizService;
+import com.thesis.interactive_learning.service.UserProgressChangedEvent;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -26,18 +32,24 @@ public class QuizServiceImpl implements QuizService {
     private final UserRepository userRepository;
     private final DocumentRepository documentRepository;
     private final StudyCollectionRepository studyCollectionRepository;
+    private final QuizViewCache quizViewCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public QuizServiceImpl(QuizRepository quizRepository,
                            UserProgressRepository userProgressRepository,
                            UserRepository userRepository,
                            DocumentRepository documentRepository,
-                           StudyCollectionRepository studyCollectionRepository) {
+                           StudyCollectionRepository studyCollectionRepository,
+                           QuizViewCache quizViewCache,
+                           ApplicationEventPublisher eventPublisher) {
         this.quizRepository = quizRepository;
         this.userProgressRepository = userProgressRepository;
         this.userRepository = userRepository;
         this.documentRepository = documentRepository;
         this.studyCollectionRepository = studyCollectionRepository;
+        this.quizViewCache = quizViewCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -50,6 +62,24 @@ public class QuizServiceImpl implements QuizService {
         return quizRepository.findById(id);
     }
 
+    @Override
+    public Optional<Quiz> getQuizWithQuestions(Long id) {
+        // Questions and their (JSON column) options arrive in the same query as the quiz
+        return quizRepository.findByIdWithQuestions(id);
+    }
+
+    @Override
+    public Optional<QuizView> getQuizView(Long id) {
+        QuizView cached = quizViewCache.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<QuizView> view = quizRepository.findViewSourceById(id).map(QuizView::from);
+        view.ifPresent(v -> quizViewCache.put(id, v));
+        return view;
+    }
+
     @Override
     public List<Quiz> getAllQuizzes() {
         return quizRepository.findAll();
@@ -68,8 +98,12 @@ public class QuizServiceImpl implements QuizService {
     @Transactional
     @Override
     public void deleteQuiz(Long id) {
+        List<Long> affectedUserIds = userProgressRepository.findUserIdsByQuizId(id);
         userProgressRepository.deleteByQuizId(id);
         quizRepository.deleteById(id);
+
+        // Attempts were removed in bulk, so the affected stats rollups are rebuilt after commit
+        affectedUserIds.forEach(userId -> eventPublisher.publishEvent(UserProgressChangedEvent.historyChanged(userId)));
     }
 
     @Override
@@ -81,6 +115,19 @@ public class QuizServiceImpl implements QuizService {
         return quizRepository.findByDocumentUserId(userId);
     }
 
+    @Override
+    public KeysetPage<Quiz> getQuizzesPageByUserId(Long userId, String cursor, Integer limit) {
+        int pageSize = KeysetPage.clampLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        PageRequest fetch = PageRequest.of(0, pageSize + 1);
+        List<Quiz> rows = after == null
+                ? quizRepository.findPageByDocumentUserId(userId, fetch)
+                : quizRepository.findPageByDocumentUserIdBefore(userId, after.getTimestamp(), after.getId(), fetch);
+
+        return KeysetPage.of(rows, pageSize, quiz -> new KeysetCursor(quiz.getCreatedAt(), quiz.getId()));
+    }
+
     @Override
     public List<Quiz> getQuizzesByCollectionIdAndUserId(Long collectionId, Long userId) {
         // Validate collection belongs to user
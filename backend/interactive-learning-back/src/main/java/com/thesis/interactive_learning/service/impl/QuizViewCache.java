@@ -0,0 +1,147 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.dto.QuizView;
+import com.thesis.interactive_learning.model.Document;
+import com.thesis.interactive_learning.model.Question;
+import com.thesis.interactive_learning.model.Quiz;
+import com.thesis.interactive_learning.model.StudyCollection;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of {@link QuizView}s by quiz id. Entries are evicted after commit whenever Hibernate
+ * inserts, updates or deletes a quiz or one of its questions, and when the document or collection
+ * whose title/name a view shows is updated or deleted. The TTL bounds staleness for bulk
+ * JPQL/JDBC writes that bypass entity events.
+ */
+@Component
+public class QuizViewCache {
+
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public QuizViewCache(EntityManagerFactory entityManagerFactory) {
+        this(entityManagerFactory, DEFAULT_TTL, Clock.systemUTC());
+    }
+
+    QuizViewCache(EntityManagerFactory entityManagerFactory, Duration ttl, Clock clock) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    void registerInvalidationListeners() {
+        if (entityManagerFactory == null) {
+            return;
+        }
+
+        InvalidationListener listener = new InvalidationListener();
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+    }
+
+    QuizView get(Long quizId) {
+        Entry entry = entries.get(quizId);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.instant().isAfter(entry.expiresAt)) {
+            entries.remove(quizId, entry);
+            return null;
+        }
+        return entry.view;
+    }
+
+    void put(Long quizId, QuizView view) {
+        if (entries.size() >= MAX_ENTRIES) {
+            Instant now = clock.instant();
+            entries.values().removeIf(entry -> now.isAfter(entry.expiresAt));
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        entries.put(quizId, new Entry(view, clock.instant().plus(ttl)));
+    }
+
+    public void evict(Long quizId) {
+        if (quizId != null) {
+            entries.remove(quizId);
+        }
+    }
+
+    void evictFor(Object entity) {
+        if (entity instanceof Quiz quiz) {
+            evict(quiz.getId());
+        } else if (entity instanceof Question question && question.getQuiz() != null) {
+            evict(question.getQuiz().getId());
+        } else if (entity instanceof Document document && document.getId() != null) {
+            entries.values().removeIf(entry -> Objects.equals(entry.view.getDocumentId(), document.getId()));
+        } else if (entity instanceof StudyCollection collection && collection.getId() != null) {
+            entries.values().removeIf(entry -> Objects.equals(entry.view.getCollectionId(), collection.getId()));
+        }
+    }
+
+    private record Entry(QuizView view, Instant expiresAt) {
+    }
+
+    private class InvalidationListener implements PostCommitInsertEventListener,
+            PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            evictFor(event.getEntity());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            evictFor(event.getEntity());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            evictFor(event.getEntity());
+        }
+
+        @Override
+        public void onPostInsertCommitFailed(PostInsertEvent event) {
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            Class<?> type = persister.getMappedClass();
+            return type == Quiz.class || type == Question.class
+                    || type == Document.class || type == StudyCollection.class;
+        }
+    }
+}
@@ -1,18 +1,21 @@
 package com.thesis.interactive_learning.service.impl;
 
+import com.thesis.interactive_learning.dto.CollectionSummary;
 import com.thesis.interactive_learning.model.StudyCollection;
 import com.thesis.interactive_learning.model.User;
 import com.thesis.interactive_learning.repository.DocumentRepository;
 import com.thesis.interactive_learning.repository.QuizRepository;
 import com.thesis.interactive_learning.repository.StudyCollectionRepository;
+import com.thesis.interactive_learning.repository.UserProgressRepository;
 import com.thesis.interactive_learning.repository.UserRepository;
 import com.thesis.interactive_learning.service.StudyCollectionService;
+import com.thesis.interactive_learning.service.UserProgressChangedEvent;
+import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class StudyCollectionServiceImpl implements StudyCollectionService {
@@ -21,15 +24,27 @@ public class StudyCollectionServiceImpl implements StudyCollectionService {
     private final UserRepository userRepository;
     private final DocumentRepository documentRepository;
     private final QuizRepository quizRepository;
+    private final CollectionSummaryCache collectionSummaryCache;
+    private final QuizViewCache quizViewCache;
+    private final UserProgressRepository userProgressRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public StudyCollectionServiceImpl(StudyCollectionRepository studyCollectionRepository,
                                       UserRepository userRepository,
                                       DocumentRepository documentRepository,
-                                      QuizRepository quizRepository) {
+                                      QuizRepository quizRepository,
+                                      CollectionSummaryCache collectionSummaryCache,
+                                      QuizViewCache quizViewCache,
+                                      UserProgressRepository userProgressRepository,
+                                      ApplicationEventPublisher eventPublisher) {
         this.studyCollectionRepository = studyCollectionRepository;
         this.userRepository = userRepository;
         this.documentRepository = documentRepository;
         this.quizRepository = quizRepository;
+        this.collectionSummaryCache = collectionSummaryCache;
+        this.quizViewCache = quizViewCache;
+        this.userProgressRepository = userProgressRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -76,31 +91,25 @@ public class StudyCollectionServiceImpl implements StudyCollectionService {
     @Override
     public List<StudyCollection> getAllCollections() {
         List<StudyCollection> collections = studyCollectionRepository.findAll();
-
-        // Populate transient fields for each collection
-        for (StudyCollection collection : collections) {
-            populateTransientFields(collection);
-        }
-
+        populateTransientFields(collections);
         return collections;
     }
 
     @Override
     public List<StudyCollection> getCollectionsByUserId(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        List<StudyCollection> collections = studyCollectionRepository.findByUserId(userId);
 
-        List<StudyCollection> collections = studyCollectionRepository.findByUser(user);
-
-        // Populate transient fields for each collection
-        for (StudyCollection collection : collections) {
-            populateTransientFields(collection);
+        // Only an empty result needs the extra lookup to tell "no collections" from "no user"
+        if (collections.isEmpty() && !userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found");
         }
 
+        populateTransientFields(collections);
         return collections;
     }
 
     @Override
+    @Transactional
     public void deleteCollection(Long id) {
         // Check if collection exists
         StudyCollection collection = studyCollectionRepository.findById(id)
@@ -109,24 +118,26 @@ public class StudyCollectionServiceImpl implements StudyCollectionService {
         System.out.println("Deleting collection: " + collection.getName());
 
         // Before deleting, remove collection reference from all documents and quizzes
-        // This prevents orphaned references
-        var documents = documentRepository.findByStudyCollectionId(id);
-        for (var document : documents) {
-            document.setStudyCollection(null);
-            documentRepository.save(document);
-        }
+        // This prevents orphaned references (and the cascade from deleting them)
+        List<Long> quizIds = quizRepository.findIdsByStudyCollectionId(id);
+        int documentsUpdated = documentRepository.clearCollection(id);
+        int quizzesUpdated = quizRepository.clearCollection(id);
 
-        var quizzes = quizRepository.findByStudyCollectionId(id);
-        for (var quiz : quizzes) {
-            quiz.setStudyCollection(null);
-            quizRepository.save(quiz);
-        }
+        // The bulk updates bypass entity events, so cached quiz views are evicted explicitly
+        AfterCommit.run(() -> quizIds.forEach(quizViewCache::evict));
 
-        System.out.println("Removed collection reference from " + documents.size() +
-                " documents and " + quizzes.size() + " quizzes");
+        System.out.println("Removed collection reference from " + documentsUpdated +
+                " documents and " + quizzesUpdated + " quizzes");
 
+        List<Long> affectedUserIds = quizIds.isEmpty()
+                ? Collections.emptyList()
+                : userProgressRepository.findUserIdsByQuizIds(quizIds);
         studyCollectionRepository.deleteById(id);
         System.out.println("Collection deleted successfully");
+
+        // The collection's cascade still reaches any quiz linked to it after the ids were read,
+        // so the rollups of users with attempts on its quizzes are rebuilt after commit
+        affectedUserIds.forEach(userId -> eventPublisher.publishEvent(UserProgressChangedEvent.historyChanged(userId)));
     }
 
     @Override
@@ -136,9 +147,9 @@ public class StudyCollectionServiceImpl implements StudyCollectionService {
 
         Map<String, Object> stats = new HashMap<>();
 
-        // Count documents and quizzes
-        int documentCount = documentRepository.findByStudyCollectionId(collectionId).size();
-        int quizCount = quizRepository.findByStudyCollectionId(collectionId).size();
+        CollectionSummary summary = getSummaries(List.of(collectionId)).get(collectionId);
+        int documentCount = summary.getDocumentCount();
+        int quizCount = summary.getQuizCount();
 
         stats.put("collectionId", collectionId);
         stats.put("collectionName", collection.getName());
@@ -148,15 +159,8 @@ public class StudyCollectionServiceImpl implements StudyCollectionService {
         stats.put("userId", collection.getUser().getId());
         stats.put("userName", collection.getUser().getUsername());
 
-        // Calculate additional statistics
-        var documents = documentRepository.findByStudyCollectionId(collectionId);
-        long totalFileSize = documents.stream()
-                .mapToLong(doc -> doc.getFileSize() != null ? doc.getFileSize() : 0)
-                .sum();
-
-        int totalPages = documents.stream()
-                .mapToInt(doc -> doc.getPageCount() != null ? doc.getPageCount() : 0)
-                .sum();
+        long totalFileSize = summary.getTotalFileSize();
+        int totalPages = summary.getTotalPages();
 
         stats.put("totalFileSize", totalFileSize);
         stats.put("totalPages", totalPages);
@@ -166,10 +170,47 @@ public class StudyCollectionServiceImpl implements StudyCollectionService {
     }
 
     private void populateTransientFields(StudyCollection collection) {
-        if (collection.getUser() != null) {
-            collection.setUserId(collection.getUser().getId());
+        populateTransientFields(List.of(collection));
+    }
+
+    private void populateTransientFields(List<StudyCollection> collections) {
+        if (collections.isEmpty()) {
+            return;
+        }
+
+        Map<Long, CollectionSummary> summaries = getSummaries(collections.stream()
+                .map(StudyCollection::getId)
+                .collect(Collectors.toList()));
+
+        for (StudyCollection collection : collections) {
+            if (collection.getUser() != null) {
+                collection.setUserId(collection.getUser().getId());
+            }
+            CollectionSummary summary = summaries.get(collection.getId());
+            collection.setDocumentCount(summary.getDocumentCount());
+            collection.setQuizCount(summary.getQuizCount());
+        }
+    }
+
+    /**
+     * Summaries for the given collections: cached ones as-is, the rest from one count query.
+     */
+    private Map<Long, CollectionSummary> getSummaries(List<Long> collectionIds) {
+        Map<Long, CollectionSummary> summaries = new HashMap<>(collectionSummaryCache.getAll(collectionIds));
+
+        List<Long> missing = collectionIds.stream()
+                .filter(id -> !summaries.containsKey(id))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            for (CollectionSummary summary : studyCollectionRepository.summarizeByIds(missing)) {
+                collectionSummaryCache.put(summary);
+                summaries.put(summary.getCollectionId(), summary);
+            }
+        }
+
+        for (Long id : collectionIds) {
+            summaries.putIfAbsent(id, CollectionSummary.empty(id));
         }
-        collection.setDocumentCount(collection.getDocuments() != null ? collection.getDocuments().size() : 0);
-        collection.setQuizCount(collection.getQuizzes() != null ? collection.getQuizzes().size() : 0);
+        return summaries;
     }
 }
\ No newline at end of file
@@ -1,29 +1,20 @@
 package com.thesis.interactive_learning.service.impl;
 
+import com.thesis.interactive_learning.dto.TextAnalysisResult;
 import com.thesis.interactive_learning.service.TextAnalysisService;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.regex.Matcher;
+import java.util.function.BiConsumer;
 import java.util.regex.Pattern;
 
 @Service
 public class TextAnalysisServiceImpl implements TextAnalysisService {
 
-    private static final Pattern SENTENCE_PATTERN = Pattern.compile("(?<=[.!?])\\s+(?=[A-Z])");
-    private static final Pattern DEFINITION_PATTERN = Pattern.compile("([A-Z][a-z]+(?:\\s+[A-Z][a-z]+)*)[\\s]*(?:is|are|refers to|means|defined as)[\\s]*([^.!?]+)[.!?]");
-    private static final Set<String> STOP_WORDS = new HashSet<>(Arrays.asList(
-            "a", "an", "the", "and", "or", "but", "if", "because", "as", "what", "when",
-            "where", "how", "why", "which", "who", "whom", "this", "that", "these", "those",
-            "is", "are", "was", "were", "be", "been", "being", "have", "has", "had", "having",
-            "do", "does", "did", "doing", "would", "should", "could", "ought", "i", "you",
-            "he", "she", "it", "we", "they", "their", "your", "my", "his", "her", "its",
-            "our", "of", "in", "to", "for", "with", "on", "at", "from", "by", "about",
-            "against", "between", "into", "through", "during", "before", "after", "above",
-            "below", "up", "down", "out", "off", "over", "under", "again", "further", "then",
-            "once", "all", "any", "both", "each", "few", "more", "most", "other", "some",
-            "such", "no", "nor", "not", "only", "own", "same", "so", "than", "too", "very"
-    ));
+    private static final Pattern SENTENCE_PATTERN = Pattern.compile("(?<=[.!?])\\s+(?=\\p{Lu})");
+    private static final Pattern NON_WORD_PATTERN = Pattern.compile("[^\\p{L}\\p{N}\\s]");
+    private static final LanguageDetector LANGUAGE_DETECTOR = new LanguageDetector(
+            LanguageResources.SUPPORTED_LANGUAGES.toArray(String[]::new));
 
 
     @Override
@@ -41,10 +32,22 @@ public class TextAnalysisServiceImpl implements TextAnalysisService {
         return sentences;
     }
 
+    static String[] splitSentences(String text) {
+        return SENTENCE_PATTERN.split(text, -1);
+    }
+
 
     @Override
     public Map<String, Double> extractKeyTerms(String text, int maxTerms) {
-        Map<String, Integer> frequencies = calculateWordFrequency(text);
+        return extractKeyTerms(text, maxTerms, LanguageResources.DEFAULT_LANGUAGE);
+    }
+
+    @Override
+    public Map<String, Double> extractKeyTerms(String text, int maxTerms, String language) {
+        return rankKeyTerms(calculateWordFrequency(text), maxTerms, LanguageResources.stopWords(language));
+    }
+
+    static Map<String, Double> rankKeyTerms(Map<String, Integer> frequencies, int maxTerms, Set<String> stopWords) {
         Map<String, Double> keyTerms = new HashMap<>();
 
         int totalWords = frequencies.values().stream().mapToInt(Integer::intValue).sum();
@@ -53,7 +56,7 @@ public class TextAnalysisServiceImpl implements TextAnalysisService {
             String word = entry.getKey();
             int frequency = entry.getValue();
 
-            if (!STOP_WORDS.contains(word.toLowerCase()) && word.length() > 3) {
+            if (!stopWords.contains(word.toLowerCase()) && word.length() > 3) {
                 double tf = (double) frequency / totalWords;
                 keyTerms.put(word, tf);
             }
@@ -70,31 +73,47 @@ public class TextAnalysisServiceImpl implements TextAnalysisService {
     @Override
     public Map<String, String> extractDefinitions(String text) {
         Map<String, String> definitions = new HashMap<>();
-        Matcher matcher = DEFINITION_PATTERN.matcher(text);
-
-        while (matcher.find()) {
-            String term = matcher.group(1).trim();
-            String definition = matcher.group(2).trim();
-            definitions.put(term, definition);
-        }
-
+        extractDefinitions(text, definitions::put);
         return definitions;
     }
 
+    @Override
+    public void extractDefinitions(String text, BiConsumer<String, String> consumer) {
+        DefinitionExtractor extractor = new DefinitionExtractor(LanguageResources.stopWords(LanguageResources.DEFAULT_LANGUAGE), consumer);
+        extractor.accept(text);
+        extractor.finish();
+    }
+
     @Override
     public Map<String, Integer> calculateWordFrequency(String text) {
         Map<String, Integer> wordFrequency = new HashMap<>();
+        countWords(text, wordFrequency);
+        return wordFrequency;
+    }
+
+    @Override
+    public TextAnalysisResult analyzePages(Iterator<String> pages, int maxTerms, String language) {
+        IncrementalTextAnalyzer analyzer = new IncrementalTextAnalyzer(LanguageResources.stopWords(language));
+        while (pages.hasNext()) {
+            analyzer.acceptPage(pages.next());
+        }
+        return analyzer.finish(maxTerms);
+    }
+
+    @Override
+    public String detectLanguage(String text) {
+        return LANGUAGE_DETECTOR.detect(text);
+    }
 
-        // Remove punctuation and convert to lowercase
-        text = text.replaceAll("[^a-zA-Z0-9\\s]", "").toLowerCase();
+    static void countWords(String text, Map<String, Integer> wordFrequency) {
+        // Remove punctuation (keeping letters of any alphabet) and convert to lowercase
+        text = NON_WORD_PATTERN.matcher(text).replaceAll("").toLowerCase();
 
         String[] words = text.split("\\s+");
         for (String word : words) {
             if (!word.isEmpty()) {
-                wordFrequency.put(word, wordFrequency.getOrDefault(word, 0) + 1);
+                wordFrequency.merge(word, 1, Integer::sum);
             }
         }
-
-        return wordFrequency;
     }
 }
@@ -1,17 +1,27 @@
 package com.thesis.interactive_learning.service.impl;
 
+import com.thesis.interactive_learning.dto.KeysetCursor;
+import com.thesis.interactive_learning.dto.KeysetPage;
+import com.thesis.interactive_learning.dto.ProgressBucket;
+import com.thesis.interactive_learning.dto.QuizPerformanceSummary;
+import com.thesis.interactive_learning.dto.UserProgressSummary;
 import com.thesis.interactive_learning.model.UserProgress;
 import com.thesis.interactive_learning.repository.UserProgressRepository;
 import com.thesis.interactive_learning.repository.UserRepository;
 import com.thesis.interactive_learning.repository.QuizRepository;
+import com.thesis.interactive_learning.service.UserProgressChangedEvent;
 import com.thesis.interactive_learning.service.UserProgressService;
+import com.thesis.interactive_learning.service.UserStatsService;
+import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.YearMonth;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class UserProgressServiceImpl implements UserProgressService {
@@ -19,23 +29,39 @@ public class UserProgressServiceImpl implements UserProgressService {
     private final UserProgressRepository userProgressRepository;
     private final UserRepository userRepository;
     private final QuizRepository quizRepository;
+    private final UserStatsService userStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public UserProgressServiceImpl(UserProgressRepository userProgressRepository,
                                    UserRepository userRepository,
-                                   QuizRepository quizRepository) {
+                                   QuizRepository quizRepository,
+                                   UserStatsService userStatsService,
+                                   ApplicationEventPublisher eventPublisher) {
         this.userProgressRepository = userProgressRepository;
         this.userRepository = userRepository;
         this.quizRepository = quizRepository;
+        this.userStatsService = userStatsService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public UserProgress saveUserProgress(UserProgress userProgress) {
         if (userProgress.getTotalQuestions() > 0) {
             double accuracy = (double) userProgress.getCorrectAnswers() / userProgress.getTotalQuestions() * 100;
             userProgress.setAccuracyPercentage(accuracy);
         }
-        return userProgressRepository.save(userProgress);
+        boolean newAttempt = userProgress.getId() == null;
+        UserProgress saved = userProgressRepository.save(userProgress);
+
+        // The stats rollup is updated once this transaction commits
+        if (saved.getUser() != null && saved.getUser().getId() != null) {
+            eventPublisher.publishEvent(newAttempt
+                    ? UserProgressChangedEvent.attemptAdded(saved)
+                    : UserProgressChangedEvent.historyChanged(saved.getUser().getId()));
+        }
+        return saved;
     }
 
     @Override
@@ -64,8 +90,14 @@ public class UserProgressServiceImpl implements UserProgressService {
     }
 
     @Override
+    @Transactional
     public void deleteUserProgress(Long id) {
+        Optional<UserProgress> progress = userProgressRepository.findById(id);
         userProgressRepository.deleteById(id);
+
+        // Min/max cannot be decremented, so the user's rollup is rebuilt from history
+        progress.map(UserProgress::getUser)
+                .ifPresent(user -> eventPublisher.publishEvent(UserProgressChangedEvent.historyChanged(user.getId())));
     }
 
     @Override
@@ -76,112 +108,47 @@ public class UserProgressServiceImpl implements UserProgressService {
 
         Map<String, Object> dashboard = new HashMap<>();
 
-        // Get all user progress
-        List<UserProgress> allProgress = userProgressRepository.findByUserId(userId);
+        // Totals, averages and score buckets are read from the user_stats rollup
+        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
+        UserProgressSummary summary = userStatsService.getSummary(userId, thirtyDaysAgo);
 
         // Basic statistics
         dashboard.put("userId", userId);
         dashboard.put("username", user.getUsername());
-        dashboard.put("totalQuizzesTaken", allProgress.size());
+        dashboard.put("totalQuizzesTaken", (int) summary.getAttempts());
 
         // Performance metrics
-        if (!allProgress.isEmpty()) {
-            // Average accuracy
-            double avgAccuracy = allProgress.stream()
-                    .mapToDouble(p -> p.getAccuracyPercentage() != null ? p.getAccuracyPercentage() : 0.0)
-                    .average()
-                    .orElse(0.0);
-
-            // Best accuracy
-            double bestAccuracy = allProgress.stream()
-                    .mapToDouble(p -> p.getAccuracyPercentage() != null ? p.getAccuracyPercentage() : 0.0)
-                    .max()
-                    .orElse(0.0);
-
-            // Total questions answered
-            int totalQuestions = allProgress.stream()
-                    .mapToInt(p -> p.getTotalQuestions() != null ? p.getTotalQuestions() : 0)
-                    .sum();
-
-            // Total correct answers
-            int totalCorrect = allProgress.stream()
-                    .mapToInt(p -> p.getCorrectAnswers() != null ? p.getCorrectAnswers() : 0)
-                    .sum();
-
-            // Average completion time
-            long avgCompletionTime = allProgress.stream()
-                    .filter(p -> p.getCompletionTimeSeconds() != null && p.getCompletionTimeSeconds() > 0)
-                    .mapToLong(UserProgress::getCompletionTimeSeconds)
-                    .average()
-                    .stream()
-                    .mapToLong(d -> (long) d)
-                    .findFirst()
-                    .orElse(0L);
-
-            dashboard.put("averageAccuracy", Math.round(avgAccuracy * 100.0) / 100.0);
-            dashboard.put("bestAccuracy", Math.round(bestAccuracy * 100.0) / 100.0);
-            dashboard.put("totalQuestionsAnswered", totalQuestions);
-            dashboard.put("totalCorrectAnswers", totalCorrect);
-            dashboard.put("averageCompletionTime", avgCompletionTime);
-
-            // Performance categories
-            long excellentScores = allProgress.stream()
-                    .filter(p -> p.getAccuracyPercentage() != null && p.getAccuracyPercentage() >= 90)
-                    .count();
-            long goodScores = allProgress.stream()
-                    .filter(p -> p.getAccuracyPercentage() != null && p.getAccuracyPercentage() >= 70 && p.getAccuracyPercentage() < 90)
-                    .count();
-            long averageScores = allProgress.stream()
-                    .filter(p -> p.getAccuracyPercentage() != null && p.getAccuracyPercentage() >= 50 && p.getAccuracyPercentage() < 70)
-                    .count();
-            long belowAverageScores = allProgress.stream()
-                    .filter(p -> p.getAccuracyPercentage() != null && p.getAccuracyPercentage() < 50)
-                    .count();
-
-            Map<String, Long> performanceBreakdown = new HashMap<>();
-            performanceBreakdown.put("excellent", excellentScores);
-            performanceBreakdown.put("good", goodScores);
-            performanceBreakdown.put("average", averageScores);
-            performanceBreakdown.put("needsImprovement", belowAverageScores);
-            dashboard.put("performanceBreakdown", performanceBreakdown);
-
-        } else {
-            dashboard.put("averageAccuracy", 0.0);
-            dashboard.put("bestAccuracy", 0.0);
-            dashboard.put("totalQuestionsAnswered", 0);
-            dashboard.put("totalCorrectAnswers", 0);
-            dashboard.put("averageCompletionTime", 0L);
-            dashboard.put("performanceBreakdown", Map.of(
-                    "excellent", 0L, "good", 0L, "average", 0L, "needsImprovement", 0L));
-        }
+        dashboard.put("averageAccuracy", round(summary.getAverageAccuracy()));
+        dashboard.put("bestAccuracy", round(summary.getBestAccuracy()));
+        dashboard.put("totalQuestionsAnswered", (int) summary.getTotalQuestions());
+        dashboard.put("totalCorrectAnswers", (int) summary.getTotalCorrect());
+        dashboard.put("averageCompletionTime",
+                summary.getAverageCompletionTime() != null ? summary.getAverageCompletionTime().longValue() : 0L);
+
+        // Performance categories
+        Map<String, Long> performanceBreakdown = new HashMap<>();
+        performanceBreakdown.put("excellent", summary.getExcellentScores());
+        performanceBreakdown.put("good", summary.getGoodScores());
+        performanceBreakdown.put("average", summary.getAverageScores());
+        performanceBreakdown.put("needsImprovement", summary.getBelowAverageScores());
+        dashboard.put("performanceBreakdown", performanceBreakdown);
 
         // Recent activity (last 30 days)
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        List<UserProgress> recentProgress = allProgress.stream()
-                .filter(p -> p.getCompletedAt().isAfter(thirtyDaysAgo))
-                .collect(Collectors.toList());
-
-        dashboard.put("recentActivity", recentProgress.size());
-        dashboard.put("recentQuizzes", recentProgress.size());
+        dashboard.put("recentActivity", (int) summary.getRecentAttempts());
+        dashboard.put("recentQuizzes", (int) summary.getRecentAttempts());
 
         // Activity by day (last 7 days for chart data)
-        Map<String, Long> weeklyActivity = allProgress.stream()
-                .filter(p -> p.getCompletedAt().isAfter(LocalDateTime.now().minusDays(7)))
-                .collect(Collectors.groupingBy(
-                        p -> p.getCompletedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")),
-                        Collectors.counting()
-                ));
+        Map<String, Long> weeklyActivity = new HashMap<>();
+        for (ProgressBucket day : userStatsService.getDailyActivity(userId, LocalDate.now().minusDays(7))) {
+            weeklyActivity.put(day.getPeriod(), day.getAttempts());
+        }
         dashboard.put("weeklyActivity", weeklyActivity);
 
         // Quiz completion status
-        Set<Long> uniqueQuizzes = allProgress.stream()
-                .map(p -> p.getQuiz().getId())
-                .collect(Collectors.toSet());
-        dashboard.put("uniqueQuizzesCompleted", uniqueQuizzes.size());
+        dashboard.put("uniqueQuizzesCompleted", (int) summary.getUniqueQuizzes());
 
         // Get user's available quizzes count
-        var userQuizzes = quizRepository.findByDocumentUserId(userId);
-        dashboard.put("totalAvailableQuizzes", userQuizzes.size());
+        dashboard.put("totalAvailableQuizzes", (int) quizRepository.countByDocumentUserId(userId));
 
         return dashboard;
     }
@@ -193,12 +160,13 @@ public class UserProgressServiceImpl implements UserProgressService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         Map<String, Object> stats = new HashMap<>();
-        List<UserProgress> allProgress = userProgressRepository.findByUserId(userId);
+        YearMonth firstMonth = YearMonth.now().minusMonths(5);
+        UserProgressSummary summary = userStatsService.getSummary(userId, firstMonth.atDay(1).atStartOfDay());
 
         stats.put("userId", userId);
         stats.put("username", user.getUsername());
 
-        if (allProgress.isEmpty()) {
+        if (summary.getAttempts() == 0) {
             stats.put("hasData", false);
             stats.put("message", "No quiz attempts yet");
             return stats;
@@ -207,35 +175,18 @@ public class UserProgressServiceImpl implements UserProgressService {
         stats.put("hasData", true);
 
         // Detailed statistics
-        stats.put("totalAttempts", allProgress.size());
+        stats.put("totalAttempts", (int) summary.getAttempts());
 
         // Accuracy statistics
-        List<Double> accuracies = allProgress.stream()
-                .map(p -> p.getAccuracyPercentage() != null ? p.getAccuracyPercentage() : 0.0)
-                .collect(Collectors.toList());
-
-        double avgAccuracy = accuracies.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-        double minAccuracy = accuracies.stream().mapToDouble(Double::doubleValue).min().orElse(0.0);
-        double maxAccuracy = accuracies.stream().mapToDouble(Double::doubleValue).max().orElse(0.0);
-
-        stats.put("averageAccuracy", Math.round(avgAccuracy * 100.0) / 100.0);
-        stats.put("minimumAccuracy", Math.round(minAccuracy * 100.0) / 100.0);
-        stats.put("maximumAccuracy", Math.round(maxAccuracy * 100.0) / 100.0);
+        stats.put("averageAccuracy", round(summary.getAverageAccuracy()));
+        stats.put("minimumAccuracy", round(summary.getMinimumAccuracy()));
+        stats.put("maximumAccuracy", round(summary.getBestAccuracy()));
 
         // Time statistics
-        List<Long> completionTimes = allProgress.stream()
-                .filter(p -> p.getCompletionTimeSeconds() != null && p.getCompletionTimeSeconds() > 0)
-                .map(UserProgress::getCompletionTimeSeconds)
-                .collect(Collectors.toList());
-
-        if (!completionTimes.isEmpty()) {
-            double avgTime = completionTimes.stream().mapToLong(Long::longValue).average().orElse(0.0);
-            long minTime = completionTimes.stream().mapToLong(Long::longValue).min().orElse(0L);
-            long maxTime = completionTimes.stream().mapToLong(Long::longValue).max().orElse(0L);
-
-            stats.put("averageCompletionTime", Math.round(avgTime));
-            stats.put("fastestCompletionTime", minTime);
-            stats.put("slowestCompletionTime", maxTime);
+        if (summary.getAverageCompletionTime() != null) {
+            stats.put("averageCompletionTime", Math.round(summary.getAverageCompletionTime()));
+            stats.put("fastestCompletionTime", summary.getFastestCompletionTime());
+            stats.put("slowestCompletionTime", summary.getSlowestCompletionTime());
         } else {
             stats.put("averageCompletionTime", 0L);
             stats.put("fastestCompletionTime", 0L);
@@ -243,49 +194,30 @@ public class UserProgressServiceImpl implements UserProgressService {
         }
 
         // Quiz performance by quiz
-        Map<String, Object> quizPerformance = allProgress.stream()
-                .collect(Collectors.groupingBy(
-                        p -> p.getQuiz().getTitle(),
-                        Collectors.collectingAndThen(
-                                Collectors.toList(),
-                                list -> {
-                                    Map<String, Object> quizStats = new HashMap<>();
-                                    quizStats.put("attempts", list.size());
-                                    quizStats.put("bestScore", list.stream()
-                                            .mapToDouble(p -> p.getAccuracyPercentage() != null ? p.getAccuracyPercentage() : 0.0)
-                                            .max().orElse(0.0));
-                                    quizStats.put("averageScore", list.stream()
-                                            .mapToDouble(p -> p.getAccuracyPercentage() != null ? p.getAccuracyPercentage() : 0.0)
-                                            .average().orElse(0.0));
-                                    return quizStats;
-                                }
-                        )
-                ));
+        Map<String, Object> quizPerformance = new HashMap<>();
+        for (QuizPerformanceSummary quiz : userStatsService.getQuizPerformance(userId)) {
+            Map<String, Object> quizStats = new HashMap<>();
+            quizStats.put("attempts", (int) quiz.getAttempts());
+            quizStats.put("bestScore", quiz.getBestScore());
+            quizStats.put("averageScore", quiz.getAverageScore());
+            quizPerformance.put(quiz.getQuizTitle(), quizStats);
+        }
         stats.put("quizPerformance", quizPerformance);
 
-        // Monthly progress (last 6 months)
+        // Monthly progress (last 6 months), one rollup bucket per month with attempts
+        Map<String, ProgressBucket> monthBuckets = new HashMap<>();
+        for (ProgressBucket month : userStatsService.getMonthlyProgress(userId, firstMonth)) {
+            monthBuckets.put(month.getPeriod(), month);
+        }
+
         Map<String, Object> monthlyProgress = new HashMap<>();
         for (int i = 5; i >= 0; i--) {
-            LocalDateTime monthStart = LocalDateTime.now().minusMonths(i).withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0);
-            LocalDateTime monthEnd = monthStart.plusMonths(1).minusSeconds(1);
-
-            List<UserProgress> monthProgress = allProgress.stream()
-                    .filter(p -> p.getCompletedAt().isAfter(monthStart) && p.getCompletedAt().isBefore(monthEnd))
-                    .collect(Collectors.toList());
+            String monthKey = firstMonth.plusMonths(5 - i).toString();
+            ProgressBucket month = monthBuckets.get(monthKey);
 
-            String monthKey = monthStart.format(DateTimeFormatter.ofPattern("yyyy-MM"));
             Map<String, Object> monthStats = new HashMap<>();
-            monthStats.put("attempts", monthProgress.size());
-
-            if (!monthProgress.isEmpty()) {
-                double monthAvgAccuracy = monthProgress.stream()
-                        .mapToDouble(p -> p.getAccuracyPercentage() != null ? p.getAccuracyPercentage() : 0.0)
-                        .average().orElse(0.0);
-                monthStats.put("averageAccuracy", Math.round(monthAvgAccuracy * 100.0) / 100.0);
-            } else {
-                monthStats.put("averageAccuracy", 0.0);
-            }
-
+            monthStats.put("attempts", month != null ? (int) month.getAttempts() : 0);
+            monthStats.put("averageAccuracy", month != null ? round(month.getAverageAccuracy()) : 0.0);
             monthlyProgress.put(monthKey, monthStats);
         }
         stats.put("monthlyProgress", monthlyProgress);
@@ -293,15 +225,30 @@ public class UserProgressServiceImpl implements UserProgressService {
         return stats;
     }
 
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
     @Override
     public List<UserProgress> getRecentProgressByUserId(Long userId, int limit) {
         // Validate user exists
         userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        return userProgressRepository.findByUserIdOrderByCompletedAtDesc(userId)
-                .stream()
-                .limit(limit)
-                .collect(Collectors.toList());
+        return userProgressRepository.findPageByUserId(userId, PageRequest.of(0, KeysetPage.clampLimit(limit)));
+    }
+
+    @Override
+    public KeysetPage<UserProgress> getUserProgressPage(Long userId, String cursor, Integer limit) {
+        int pageSize = KeysetPage.clampLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // One extra row tells whether another page exists
+        PageRequest fetch = PageRequest.of(0, pageSize + 1);
+        List<UserProgress> rows = after == null
+                ? userProgressRepository.findPageByUserId(userId, fetch)
+                : userProgressRepository.findPageByUserIdBefore(userId, after.getTimestamp(), after.getId(), fetch);
+
+        return KeysetPage.of(rows, pageSize, progress -> new KeysetCursor(progress.getCompletedAt(), progress.getId()));
     }
 }
\ No newline at end of file
@@ -1,27 +1,58 @@
 package com.thesis.interactive_learning.service.impl;
 
+import com.thesis.interactive_learning.dto.UserStatusVersion;
 import com.thesis.interactive_learning.model.User;
 import com.thesis.interactive_learning.repository.UserRepository;
+import com.thesis.interactive_learning.security.UserStatusCache;
+import com.thesis.interactive_learning.service.UserProgressChangedEvent;
 import com.thesis.interactive_learning.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UserStatusCache userStatusCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, UserStatusCache userStatusCache,
+                           ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.userStatusCache = userStatusCache;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * Tokens carry the role and status version they were issued with. When an update changes
+     * the role, status or password, the version is bumped so tokens issued before it are
+     * rejected; otherwise the stored version is kept, whatever the request body held.
+     */
     @Override
     public User saveUser(User user){
-        return userRepository.save(user);
+        UserStatusVersion stored = user.getId() != null
+                ? userRepository.findStatusVersionById(user.getId()).orElse(null)
+                : null;
+        if (stored == null) {
+            return userRepository.save(user);
+        }
+
+        boolean credentialsChanged = stored.getRole() != user.getRole()
+                || stored.getStatus() != user.getStatus()
+                || !Objects.equals(userRepository.findPasswordById(user.getId()).orElse(null), user.getPassword());
+        user.setStatusVersion(stored.getStatusVersion() + (credentialsChanged ? 1 : 0));
+
+        User saved = userRepository.save(user);
+        if (credentialsChanged) {
+            userStatusCache.invalidate(saved.getId());
+        }
+        return saved;
     }
 
     @Override
@@ -47,6 +78,10 @@ public class UserServiceImpl implements UserService {
     @Override
     public void deleteUser(Long id){
         userRepository.deleteById(id);
+        userStatusCache.invalidate(id);
+
+        // The user's attempts went with the cascade; the listener drops their stats rollups
+        eventPublisher.publishEvent(UserProgressChangedEvent.historyChanged(id));
     }
 
     @Override
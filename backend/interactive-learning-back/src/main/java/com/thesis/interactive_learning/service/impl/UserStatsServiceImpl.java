@@ -0,0 +1,274 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.dto.ProgressBucket;
+import com.thesis.interactive_learning.dto.QuizPerformanceSummary;
+import com.thesis.interactive_learning.dto.UserProgressSummary;
+import com.thesis.interactive_learning.model.UserProgress;
+import com.thesis.interactive_learning.model.UserQuizStats;
+import com.thesis.interactive_learning.model.UserStats;
+import com.thesis.interactive_learning.model.UserStatsBucket;
+import com.thesis.interactive_learning.repository.UserProgressRepository;
+import com.thesis.interactive_learning.repository.UserQuizStatsRepository;
+import com.thesis.interactive_learning.repository.UserRepository;
+import com.thesis.interactive_learning.repository.UserStatsBucketRepository;
+import com.thesis.interactive_learning.repository.UserStatsRepository;
+import com.thesis.interactive_learning.service.UserProgressChangedEvent;
+import com.thesis.interactive_learning.service.UserStatsService;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class UserStatsServiceImpl implements UserStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatsServiceImpl.class);
+
+    // Dashboards look back at most 30 days by day; older day buckets are pruned nightly
+    static final int DAILY_RETENTION_DAYS = 35;
+
+    private final UserStatsRepository userStatsRepository;
+    private final UserStatsBucketRepository userStatsBucketRepository;
+    private final UserQuizStatsRepository userQuizStatsRepository;
+    private final UserProgressRepository userProgressRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean rollupEnabled;
+
+    @Autowired
+    public UserStatsServiceImpl(UserStatsRepository userStatsRepository,
+                                UserStatsBucketRepository userStatsBucketRepository,
+                                UserQuizStatsRepository userQuizStatsRepository,
+                                UserProgressRepository userProgressRepository,
+                                UserRepository userRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.stats.rollup-enabled:true}") boolean rollupEnabled) {
+        this.userStatsRepository = userStatsRepository;
+        this.userStatsBucketRepository = userStatsBucketRepository;
+        this.userQuizStatsRepository = userQuizStatsRepository;
+        this.userProgressRepository = userProgressRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rollupEnabled = rollupEnabled;
+    }
+
+    /**
+     * Runs after the progress change has committed, in its own transaction, so a rollup
+     * failure never loses a quiz attempt; the nightly rebuild repairs any gap.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProgressChanged(UserProgressChangedEvent event) {
+        Long userId = event.getUserId();
+        try {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (event.getNewAttempt() != null) {
+                        recordAttempt(event.getNewAttempt());
+                    } else if (userRepository.existsById(userId)) {
+                        rebuildUserStats(userId);
+                    } else {
+                        deleteUserStats(userId);
+                    }
+                });
+            } catch (DataIntegrityViolationException e) {
+                // Another attempt created this user's first rollup concurrently. The row exists now,
+                // so a rebuild from history holds its lock and counts both attempts exactly once.
+                transactionTemplate.executeWithoutResult(status -> rebuildUserStats(userId));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not update stats rollup for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordAttempt(UserProgress progress) {
+        Long userId = progress.getUser().getId();
+
+        UserStats stats = userStatsRepository.findByUserIdForUpdate(userId).orElse(null);
+        if (stats == null) {
+            // First rollup for this user: history already contains this attempt
+            rebuildUserStats(userId);
+            return;
+        }
+
+        stats.apply(progress);
+        userStatsRepository.save(stats);
+
+        double score = progress.getAccuracyPercentage() != null ? progress.getAccuracyPercentage() : 0.0;
+        LocalDate day = progress.getCompletedAt().toLocalDate();
+        incrementBucket(userId, UserStatsBucket.Granularity.DAY, day.toString(), score);
+        incrementBucket(userId, UserStatsBucket.Granularity.MONTH, YearMonth.from(day).toString(), score);
+
+        Long quizId = progress.getQuiz().getId();
+        UserQuizStats quizStats = userQuizStatsRepository.findByUserIdAndQuizId(userId, quizId)
+                .orElseGet(() -> new UserQuizStats(userId, quizId));
+        quizStats.apply(score);
+        userQuizStatsRepository.save(quizStats);
+    }
+
+    private void incrementBucket(Long userId, UserStatsBucket.Granularity granularity, String period, double score) {
+        UserStatsBucket bucket = userStatsBucketRepository.findByUserIdAndGranularityAndPeriod(userId, granularity, period)
+                .orElseGet(() -> new UserStatsBucket(userId, granularity, period));
+        bucket.setAttempts(bucket.getAttempts() + 1);
+        bucket.setSumAccuracy(bucket.getSumAccuracy() + score);
+        userStatsBucketRepository.save(bucket);
+    }
+
+    @Override
+    @Transactional
+    public UserStats rebuildUserStats(Long userId) {
+        // Hold the row lock (when the row exists) so concurrent attempts queue behind the rebuild
+        userStatsRepository.findByUserIdForUpdate(userId);
+
+        UserStats stats = userStatsRepository.computeFromHistory(userId).orElseGet(() -> new UserStats(userId));
+        stats.setUpdatedAt(LocalDateTime.now());
+        // Flushed first, so a concurrent first rollup for the same user fails on the primary key
+        // before either writes buckets
+        stats = userStatsRepository.saveAndFlush(stats);
+
+        userStatsBucketRepository.deleteByUserId(userId);
+        List<UserStatsBucket> buckets = new ArrayList<>(userStatsBucketRepository.computeDailyFromHistory(
+                userId, LocalDate.now().minusDays(DAILY_RETENTION_DAYS).atStartOfDay()));
+        buckets.addAll(userStatsBucketRepository.computeMonthlyFromHistory(userId));
+        userStatsBucketRepository.saveAll(buckets);
+
+        userQuizStatsRepository.deleteByUserId(userId);
+        userQuizStatsRepository.saveAll(userQuizStatsRepository.computeFromHistory(userId));
+
+        return stats;
+    }
+
+    private void deleteUserStats(Long userId) {
+        userStatsRepository.deleteByUserId(userId);
+        userStatsBucketRepository.deleteByUserId(userId);
+        userQuizStatsRepository.deleteByUserId(userId);
+    }
+
+    @Scheduled(cron = "${app.stats.rebuild-cron:0 30 3 * * *}")
+    public void scheduledRebuild() {
+        rebuildAll();
+    }
+
+    @Override
+    public int rebuildAll() {
+        // Progress rows always belong to an existing user; rollups of deleted users are dropped
+        Set<Long> userIds = new LinkedHashSet<>(userStatsRepository.findUserIdsWithProgress());
+        userIds.addAll(userStatsRepository.findUserIdsOfExistingUsers());
+
+        int orphans = userStatsRepository.deleteOrphans();
+        userStatsBucketRepository.deleteOrphans();
+        userQuizStatsRepository.deleteOrphans();
+
+        int drifted = 0;
+        for (Long userId : userIds) {
+            try {
+                Boolean changed = transactionTemplate.execute(status -> {
+                    UserStats before = userStatsRepository.findById(userId).orElse(null);
+                    long attempts = before != null ? before.getTotalAttempts() : -1;
+                    long correct = before != null ? before.getTotalCorrect() : -1;
+                    double sumAccuracy = before != null ? before.getSumAccuracy() : -1;
+
+                    UserStats after = rebuildUserStats(userId);
+                    return attempts != after.getTotalAttempts() || correct != after.getTotalCorrect()
+                            || Math.abs(sumAccuracy - after.getSumAccuracy()) > 0.001;
+                });
+                if (Boolean.TRUE.equals(changed)) {
+                    drifted++;
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Stats rebuild failed for user {}: {}", userId, e.getMessage());
+            }
+        }
+
+        userStatsBucketRepository.deleteOlderThan(UserStatsBucket.Granularity.DAY,
+                LocalDate.now().minusDays(DAILY_RETENTION_DAYS).toString());
+
+        logger.info("Rebuilt stats rollups for {} users, {} differed from history, removed {} of deleted users",
+                userIds.size(), drifted, orphans);
+        return drifted;
+    }
+
+    @Override
+    @Transactional
+    public UserProgressSummary getSummary(Long userId, LocalDateTime recentSince) {
+        if (!rollupEnabled) {
+            return userProgressRepository.summarizeByUserId(userId, recentSince);
+        }
+
+        UserStats stats = userStatsRepository.findById(userId).orElse(null);
+        if (stats == null) {
+            // No rollup yet (e.g. rollups were just enabled): the next attempt or the nightly
+            // rebuild creates it, a read never does
+            return userProgressRepository.summarizeByUserId(userId, recentSince);
+        }
+
+        long recentAttempts = userStatsBucketRepository.findRecent(userId, UserStatsBucket.Granularity.DAY,
+                        recentSince.toLocalDate().toString()).stream()
+                .mapToLong(UserStatsBucket::getAttempts)
+                .sum();
+        long uniqueQuizzes = userQuizStatsRepository.countQuizzesByUserId(userId);
+
+        return stats.toSummary(recentAttempts, uniqueQuizzes);
+    }
+
+    @Override
+    public List<ProgressBucket> getDailyActivity(Long userId, LocalDate fromDay) {
+        if (!rollupEnabled) {
+            return userProgressRepository.countDailyActivity(userId, fromDay.atStartOfDay());
+        }
+        return toProgressBuckets(userStatsBucketRepository.findRecent(
+                userId, UserStatsBucket.Granularity.DAY, fromDay.toString()));
+    }
+
+    @Override
+    public List<ProgressBucket> getMonthlyProgress(Long userId, YearMonth fromMonth) {
+        if (!rollupEnabled) {
+            return userProgressRepository.summarizeMonthlyProgress(userId, fromMonth.atDay(1).atStartOfDay());
+        }
+        return toProgressBuckets(userStatsBucketRepository.findRecent(
+                userId, UserStatsBucket.Granularity.MONTH, fromMonth.toString()));
+    }
+
+    @Override
+    public List<QuizPerformanceSummary> getQuizPerformance(Long userId) {
+        if (!rollupEnabled) {
+            return userProgressRepository.summarizeByQuiz(userId);
+        }
+        return userQuizStatsRepository.summarizeByUserId(userId);
+    }
+
+    @Override
+    public Double getPlatformAverageAccuracy() {
+        if (!rollupEnabled) {
+            return userProgressRepository.getPlatformAverageAccuracy();
+        }
+        return userStatsRepository.getPlatformAverageAccuracy();
+    }
+
+    private static List<ProgressBucket> toProgressBuckets(List<UserStatsBucket> buckets) {
+        List<ProgressBucket> result = new ArrayList<>(buckets.size());
+        for (UserStatsBucket bucket : buckets) {
+            double average = bucket.getAttempts() > 0 ? bucket.getSumAccuracy() / bucket.getAttempts() : 0.0;
+            result.add(new ProgressBucket(bucket.getPeriod(), bucket.getAttempts(), average));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,174 @@
+package com.thesis.interactive_learning.config;
+
+import com.thesis.interactive_learning.model.Question;
+import com.thesis.interactive_learning.model.Quiz;
+import com.thesis.interactive_learning.repository.QuestionRepository;
+import com.thesis.interactive_learning.repository.QuizRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The migration commits and drops a table, so these tests run outside a test transaction
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QuestionOptionsMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    private QuestionOptionsMigration migration;
+    private QuestionOptionsMigration dropping;
+    private Quiz quiz;
+
+    @BeforeEach
+    void setUp() {
+        migration = new QuestionOptionsMigration(jdbcTemplate, transactionManager, false, 2);
+        dropping = new QuestionOptionsMigration(jdbcTemplate, transactionManager, true, 2);
+
+        quiz = new Quiz();
+        quiz.setTitle("Cells");
+        quiz = quizRepository.save(quiz);
+
+        jdbcTemplate.execute("CREATE TABLE question_options (question_id BIGINT NOT NULL, " +
+                "option_text VARCHAR(1000), FOREIGN KEY (question_id) REFERENCES questions(id))");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS question_options");
+        jdbcTemplate.update("DELETE FROM questions");
+        jdbcTemplate.update("DELETE FROM quizzes");
+    }
+
+    @Test
+    void migrate_ShouldCopyOptionsInOrderAndKeepLegacyRows() {
+        // Given
+        Long questionId = insertLegacyQuestion("What is a cell?", "A rock", "A unit of life", "A gas");
+
+        // When
+        migration.migrate();
+
+        // Then
+        Question question = questionRepository.findById(questionId).orElseThrow();
+        assertEquals(Arrays.asList("A rock", "A unit of life", "A gas"), question.getOptions());
+        assertTrue(migration.legacyTableExists());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM question_options", Integer.class));
+    }
+
+    @Test
+    void migrate_ShouldCopyEveryQuestionAcrossBatches() {
+        // Given
+        List<Long> questionIds = List.of(
+                insertLegacyQuestion("Q1", "A", "B"),
+                insertLegacyQuestion("Q2", "C"),
+                insertLegacyQuestion("Q3", "D", "E", "F"),
+                insertLegacyQuestion("Q4", "G"),
+                insertLegacyQuestion("Q5", "H", "I"));
+
+        // When
+        migration.migrate();
+
+        // Then
+        assertEquals(Arrays.asList("D", "E", "F"), questionRepository.findById(questionIds.get(2)).orElseThrow().getOptions());
+        assertEquals(Arrays.asList("H", "I"), questionRepository.findById(questionIds.get(4)).orElseThrow().getOptions());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM questions WHERE options_json IS NULL", Integer.class));
+    }
+
+    @Test
+    void migrate_ShouldKeepOptionsAlreadyMigrated() {
+        // Given
+        Long questionId = insertLegacyQuestion("What is a cell?", "Stale option");
+        jdbcTemplate.update("UPDATE questions SET options_json = ? WHERE id = ?", "[\"Current option\"]", questionId);
+
+        // When
+        migration.migrate();
+
+        // Then
+        Question question = questionRepository.findById(questionId).orElseThrow();
+        assertEquals(Arrays.asList("Current option"), question.getOptions());
+    }
+
+    @Test
+    void migrate_WithDropEnabled_ShouldDeleteCopiedRowsAndDropLegacyTable() {
+        // Given
+        Long questionId = insertLegacyQuestion("What is a cell?", "A rock", "A unit of life");
+
+        // When
+        dropping.migrate();
+
+        // Then
+        assertEquals(Arrays.asList("A rock", "A unit of life"), questionRepository.findById(questionId).orElseThrow().getOptions());
+        assertFalse(dropping.legacyTableExists());
+    }
+
+    @Test
+    void migrate_WithoutLegacyTable_ShouldDoNothing() {
+        // Given
+        jdbcTemplate.execute("DROP TABLE question_options");
+
+        // When / Then
+        assertDoesNotThrow(() -> dropping.migrate());
+    }
+
+    @Test
+    void deleteQuiz_AfterMigration_ShouldRemoveMigratedQuestions() {
+        // Given
+        insertLegacyQuestion("What is a cell?", "A rock", "A unit of life");
+        dropping.migrate();
+
+        // When
+        quizRepository.deleteById(quiz.getId());
+
+        // Then
+        assertFalse(quizRepository.existsById(quiz.getId()));
+        assertEquals(0, questionRepository.count());
+    }
+
+    @Test
+    void bulkDeleteQuestions_AfterMigration_ShouldSucceed() {
+        // Given
+        insertLegacyQuestion("What is a cell?", "A rock", "A unit of life");
+        dropping.migrate();
+
+        // When
+        Integer deleted = new TransactionTemplate(transactionManager)
+                .execute(status -> quizRepository.deleteByQuizId(quiz.getId()));
+
+        // Then
+        assertEquals(1, deleted);
+        assertEquals(0, questionRepository.count());
+    }
+
+    private Long insertLegacyQuestion(String text, String... options) {
+        jdbcTemplate.update("INSERT INTO questions (question_text, correct_option_index, quiz_id) VALUES (?, 0, ?)",
+                text, quiz.getId());
+        Long questionId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM questions", Long.class);
+        for (String option : options) {
+            jdbcTemplate.update("INSERT INTO question_options (question_id, option_text) VALUES (?, ?)",
+                    questionId, option);
+        }
+        return questionId;
+    }
+}
@@ -0,0 +1,113 @@
+package com.thesis.interactive_learning.repository;
+
+import com.thesis.interactive_learning.dto.KeysetCursor;
+import com.thesis.interactive_learning.dto.KeysetPage;
+import com.thesis.interactive_learning.model.Document;
+import com.thesis.interactive_learning.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class DocumentRepositoryTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 3, 14, 12, 0);
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = saveUser("owner");
+    }
+
+    @Test
+    void findPageByUserId_ShouldReturnNewestFirstOnlyForOwner() {
+        // Given
+        Document older = saveDocument(owner, "Older", NOON.minusDays(1));
+        Document newer = saveDocument(owner, "Newer", NOON);
+        saveDocument(saveUser("other"), "Foreign", NOON.plusDays(1));
+
+        // When
+        List<Document> page = documentRepository.findPageByUserId(owner.getId(), PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(List.of(newer.getId(), older.getId()), ids(page));
+    }
+
+    @Test
+    void findPageByUserIdBefore_ShouldContinueAfterCursor() {
+        // Given
+        Document first = saveDocument(owner, "First", NOON);
+        Document second = saveDocument(owner, "Second", NOON.minusHours(1));
+        Document third = saveDocument(owner, "Third", NOON.minusHours(2));
+
+        KeysetPage<Document> firstPage = KeysetPage.of(
+                documentRepository.findPageByUserId(owner.getId(), PageRequest.of(0, 3)), 2, this::cursorOf);
+        KeysetCursor cursor = KeysetCursor.decode(firstPage.getNextCursor());
+
+        // When
+        List<Document> next = documentRepository.findPageByUserIdBefore(owner.getId(), cursor.getTimestamp(),
+                cursor.getId(), PageRequest.of(0, 3));
+
+        // Then
+        assertEquals(List.of(first.getId(), second.getId()), ids(firstPage.getItems()));
+        assertTrue(firstPage.isHasMore());
+        assertEquals(List.of(third.getId()), ids(next));
+    }
+
+    @Test
+    void findPageByUserIdBefore_WithSameTimestamp_ShouldBreakTieById() {
+        // Given
+        Document a = saveDocument(owner, "A", NOON);
+        Document b = saveDocument(owner, "B", NOON);
+        Document c = saveDocument(owner, "C", NOON);
+
+        // When
+        List<Document> firstPage = documentRepository.findPageByUserId(owner.getId(), PageRequest.of(0, 2));
+        Document last = firstPage.get(1);
+        List<Document> next = documentRepository.findPageByUserIdBefore(owner.getId(), last.getUploadDate(),
+                last.getId(), PageRequest.of(0, 2));
+
+        // Then
+        assertEquals(List.of(c.getId(), b.getId()), ids(firstPage));
+        assertEquals(List.of(a.getId()), ids(next));
+    }
+
+    private KeysetCursor cursorOf(Document document) {
+        return new KeysetCursor(document.getUploadDate(), document.getId());
+    }
+
+    private User saveUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        return userRepository.save(user);
+    }
+
+    private Document saveDocument(User user, String title, LocalDateTime uploadDate) {
+        Document document = new Document();
+        document.setTitle(title);
+        document.setFileName(title + ".pdf");
+        document.setUploadDate(uploadDate);
+        document.setUser(user);
+        return documentRepository.save(document);
+    }
+
+    private static List<Long> ids(List<Document> documents) {
+        return documents.stream().map(Document::getId).toList();
+    }
+}
@@ -0,0 +1,112 @@
+package com.thesis.interactive_learning.repository;
+
+import com.thesis.interactive_learning.model.Question;
+import com.thesis.interactive_learning.model.Quiz;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class QuestionRepositoryTest {
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Quiz quiz;
+
+    @BeforeEach
+    void setUp() {
+        quiz = new Quiz();
+        quiz.setTitle("Cells");
+        quiz = quizRepository.save(quiz);
+    }
+
+    @Test
+    void insertAllInBatch_ShouldWriteRowsAndAssignGeneratedIds() {
+        // Given
+        Question first = question("What is a cell?", Arrays.asList("A unit of life", "A rock", "A \"gas\""), 0);
+        Question second = question("Cells have walls?", Arrays.asList("True", "False"), 1);
+        second.setSourcePage(null);
+        second.setDifficultyLevel(null);
+
+        // When
+        List<Question> saved = questionRepository.insertAllInBatch(Arrays.asList(first, second));
+
+        // Then
+        assertNotNull(first.getId());
+        assertNotNull(second.getId());
+        assertNotEquals(first.getId(), second.getId());
+        assertSame(first, saved.get(0));
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, question_text, options_json, correct_option_index, quiz_id, source_page, " +
+                        "difficulty_level, question_type FROM questions ORDER BY id");
+        assertEquals(2, rows.size());
+
+        Map<String, Object> firstRow = rows.get(0);
+        assertEquals(first.getId(), ((Number) firstRow.get("ID")).longValue());
+        assertEquals("What is a cell?", firstRow.get("QUESTION_TEXT"));
+        assertEquals("[\"A unit of life\",\"A rock\",\"A \\\"gas\\\"\"]", firstRow.get("OPTIONS_JSON"));
+        assertEquals(0, ((Number) firstRow.get("CORRECT_OPTION_INDEX")).intValue());
+        assertEquals(quiz.getId(), ((Number) firstRow.get("QUIZ_ID")).longValue());
+        assertEquals(3, ((Number) firstRow.get("SOURCE_PAGE")).intValue());
+        assertEquals("MULTIPLE_CHOICE", firstRow.get("QUESTION_TYPE"));
+
+        Map<String, Object> secondRow = rows.get(1);
+        assertEquals(second.getId(), ((Number) secondRow.get("ID")).longValue());
+        assertNull(secondRow.get("SOURCE_PAGE"));
+        assertNull(secondRow.get("DIFFICULTY_LEVEL"));
+    }
+
+    @Test
+    void insertAllInBatch_ShouldBeReadableThroughJpa() {
+        // Given
+        Question question = question("What is a cell?", Arrays.asList("A unit of life", "A rock"), 0);
+
+        // When
+        questionRepository.insertAllInBatch(Collections.singletonList(question));
+
+        // Then
+        Question loaded = questionRepository.findById(question.getId()).orElseThrow();
+        assertEquals(Arrays.asList("A unit of life", "A rock"), loaded.getOptions());
+        assertEquals(quiz.getId(), loaded.getQuiz().getId());
+        assertEquals(1, questionRepository.findByQuizId(quiz.getId()).size());
+    }
+
+    @Test
+    void insertAllInBatch_WithEmptyList_ShouldInsertNothing() {
+        // When
+        List<Question> saved = questionRepository.insertAllInBatch(Collections.emptyList());
+
+        // Then
+        assertTrue(saved.isEmpty());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM questions", Integer.class));
+    }
+
+    private Question question(String text, List<String> options, int correctOptionIndex) {
+        Question question = new Question();
+        question.setQuestionText(text);
+        question.setOptions(options);
+        question.setCorrectOptionIndex(correctOptionIndex);
+        question.setSourcePage(3);
+        question.setDifficultyLevel(2);
+        question.setQuestionType("MULTIPLE_CHOICE");
+        question.setQuiz(quiz);
+        return question;
+    }
+}
@@ -0,0 +1,129 @@
+package com.thesis.interactive_learning.repository;
+
+import com.thesis.interactive_learning.dto.KeysetCursor;
+import com.thesis.interactive_learning.dto.KeysetPage;
+import com.thesis.interactive_learning.model.Document;
+import com.thesis.interactive_learning.model.Quiz;
+import com.thesis.interactive_learning.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class QuizRepositoryTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 3, 14, 12, 0);
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private Document biology;
+    private Document chemistry;
+
+    @BeforeEach
+    void setUp() {
+        owner = saveUser("owner");
+        biology = saveDocument(owner, "Biology");
+        chemistry = saveDocument(owner, "Chemistry");
+    }
+
+    @Test
+    void findPageByDocumentUserId_ShouldMergeDocumentsNewestFirstOnlyForOwner() {
+        // Given
+        Quiz cells = saveQuiz(biology, "Cells", NOON.minusDays(2));
+        Quiz atoms = saveQuiz(chemistry, "Atoms", NOON.minusDays(1));
+        Quiz genes = saveQuiz(biology, "Genes", NOON);
+        saveQuiz(saveDocument(saveUser("other"), "Physics"), "Forces", NOON.plusDays(1));
+
+        // When
+        List<Quiz> page = quizRepository.findPageByDocumentUserId(owner.getId(), PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(List.of(genes.getId(), atoms.getId(), cells.getId()), ids(page));
+    }
+
+    @Test
+    void findPageByDocumentUserIdBefore_ShouldContinueAfterCursor() {
+        // Given
+        Quiz first = saveQuiz(biology, "First", NOON);
+        Quiz second = saveQuiz(chemistry, "Second", NOON.minusHours(1));
+        Quiz third = saveQuiz(biology, "Third", NOON.minusHours(2));
+
+        KeysetPage<Quiz> firstPage = KeysetPage.of(
+                quizRepository.findPageByDocumentUserId(owner.getId(), PageRequest.of(0, 3)), 2, this::cursorOf);
+        KeysetCursor cursor = KeysetCursor.decode(firstPage.getNextCursor());
+
+        // When
+        List<Quiz> next = quizRepository.findPageByDocumentUserIdBefore(owner.getId(), cursor.getTimestamp(),
+                cursor.getId(), PageRequest.of(0, 3));
+
+        // Then
+        assertEquals(List.of(first.getId(), second.getId()), ids(firstPage.getItems()));
+        assertTrue(firstPage.isHasMore());
+        assertEquals(List.of(third.getId()), ids(next));
+    }
+
+    @Test
+    void findPageByDocumentUserIdBefore_WithSameTimestamp_ShouldBreakTieById() {
+        // Given
+        Quiz a = saveQuiz(biology, "A", NOON);
+        Quiz b = saveQuiz(chemistry, "B", NOON);
+        Quiz c = saveQuiz(biology, "C", NOON);
+
+        // When
+        List<Quiz> firstPage = quizRepository.findPageByDocumentUserId(owner.getId(), PageRequest.of(0, 2));
+        Quiz last = firstPage.get(1);
+        List<Quiz> next = quizRepository.findPageByDocumentUserIdBefore(owner.getId(), last.getCreatedAt(),
+                last.getId(), PageRequest.of(0, 2));
+
+        // Then
+        assertEquals(List.of(c.getId(), b.getId()), ids(firstPage));
+        assertEquals(List.of(a.getId()), ids(next));
+    }
+
+    private KeysetCursor cursorOf(Quiz quiz) {
+        return new KeysetCursor(quiz.getCreatedAt(), quiz.getId());
+    }
+
+    private User saveUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        return userRepository.save(user);
+    }
+
+    private Document saveDocument(User user, String title) {
+        Document document = new Document();
+        document.setTitle(title);
+        document.setFileName(title + ".pdf");
+        document.setUser(user);
+        return documentRepository.save(document);
+    }
+
+    private Quiz saveQuiz(Document document, String title, LocalDateTime createdAt) {
+        Quiz quiz = new Quiz();
+        quiz.setTitle(title);
+        quiz.setCreatedAt(createdAt);
+        quiz.setDocument(document);
+        return quizRepository.save(quiz);
+    }
+
+    private static List<Long> ids(List<Quiz> quizzes) {
+        return quizzes.stream().map(Quiz::getId).toList();
+    }
+}
@@ -0,0 +1,110 @@
+package com.thesis.interactive_learning.security;
+
+import com.thesis.interactive_learning.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtRequestFilterTest {
+
+    private static final String SECRET = "testSecretThatIsLongEnoughForHmacSha256Signing";
+
+    @Mock
+    private UserStatusCache userStatusCache;
+
+    private JwtTokenUtil jwtTokenUtil;
+    private JwtRequestFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenUtil = new JwtTokenUtil(SECRET, 60_000L);
+        filter = new JwtRequestFilter(jwtTokenUtil, userStatusCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(7L);
+        user.setUsername("teacher");
+        user.setRole(User.Role.ADMIN);
+        user.setStatusVersion(2L);
+        return user;
+    }
+
+    private void filterWithToken(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/quizzes");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    @Test
+    void doFilter_WithValidToken_ShouldAuthenticateFromClaims() throws Exception {
+        // Given
+        when(userStatusCache.isTokenCurrent(7L, 2L)).thenReturn(true);
+
+        // When
+        filterWithToken(jwtTokenUtil.generateToken(user()));
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        assertEquals(7L, principal.getId());
+        assertEquals("teacher", principal.getUsername());
+        assertEquals("ADMIN", authentication.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void doFilter_WithRevokedToken_ShouldNotAuthenticate() throws Exception {
+        // Given
+        when(userStatusCache.isTokenCurrent(7L, 2L)).thenReturn(false);
+
+        // When
+        filterWithToken(jwtTokenUtil.generateToken(user()));
+
+        // Then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilter_WithTokenSignedByOtherKey_ShouldNotAuthenticate() throws Exception {
+        // Given
+        JwtTokenUtil otherKey = new JwtTokenUtil("anotherSecretThatIsLongEnoughForHmacSha256", 60_000L);
+
+        // When
+        filterWithToken(otherKey.generateToken(user()));
+
+        // Then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userStatusCache, never()).isTokenCurrent(anyLong(), anyLong());
+    }
+
+    @Test
+    void doFilter_WithTokenWithoutUserClaims_ShouldNotAuthenticate() throws Exception {
+        // When
+        filterWithToken(jwtTokenUtil.createToken(new HashMap<>(), "teacher"));
+
+        // Then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userStatusCache, never()).isTokenCurrent(anyLong(), anyLong());
+    }
+}
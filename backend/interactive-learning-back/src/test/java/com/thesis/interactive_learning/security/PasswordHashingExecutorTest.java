@@ -0,0 +1,105 @@
+package com.thesis.interactive_learning.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Timeout(30)
+class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor executor;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PasswordHashingExecutor(meterRegistry, 1, 1, 5_000);
+        // Dedicated caller threads: the common pool may have a single worker on small machines
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        executor.shutdown();
+    }
+
+    @Test
+    void execute_ShouldReturnResultAndRecordHashTime() {
+        // When
+        String result = executor.execute("encode", () -> "hashed");
+
+        // Then
+        assertEquals("hashed", result);
+        assertEquals(1, meterRegistry.get("auth.password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(0, meterRegistry.get("auth.password.hashing").tag("operation", "matches").timer().count());
+        assertEquals(1, meterRegistry.get("auth.password.hashing.wait").timer().count());
+    }
+
+    @Test
+    void execute_WithUnknownOperation_ShouldThrow() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> executor.execute("rehash", () -> true));
+    }
+
+    @Test
+    void execute_WhenPoolAndQueueAreFull_ShouldRejectImmediately() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> running = callers.submit(() -> executor.execute("matches", () -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Boolean> queued = callers.submit(() -> executor.execute("matches", () -> true));
+        awaitQueueSize(1);
+
+        // When & Then
+        assertThrows(RejectedExecutionException.class, () -> executor.execute("matches", () -> true));
+        assertEquals(1, meterRegistry.get("auth.password.hashing.rejected").tag("reason", "saturated").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_WhenHashTakesTooLong_ShouldRejectAfterTimeout() {
+        // Given
+        executor.shutdown();
+        executor = new PasswordHashingExecutor(meterRegistry, 1, 1, 50);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When & Then
+        assertThrows(RejectedExecutionException.class,
+                () -> executor.execute("matches", () -> release.await(5, TimeUnit.SECONDS)));
+        assertEquals(1, meterRegistry.get("auth.password.hashing.rejected").tag("reason", "timeout").counter().count());
+        release.countDown();
+    }
+
+    @Test
+    void execute_WhenTaskFails_ShouldRethrowOriginalException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> executor.execute("matches", () -> {
+                    throw new IllegalArgumentException("Encoded password does not look like BCrypt");
+                }));
+        assertEquals("Encoded password does not look like BCrypt", exception.getMessage());
+    }
+
+    private void awaitQueueSize(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.hashing.queue").gauge().value() < size) {
+            assertTrue(System.nanoTime() < deadline, "Request was not queued");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.thesis.interactive_learning.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private static final String COSTS = "POST /api/documents/upload=10, GET /api/documents/*/structured-text=5";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T10:00:00Z"), ZoneOffset.UTC);
+        filter = new RateLimitFilter(new RateLimiter(10, 60, clock), meterRegistry, true, COSTS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static void authenticate(long userId) {
+        AuthenticatedUser principal = new AuthenticatedUser(userId, "user" + userId, "USER", 0L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private MockHttpServletResponse send(String method, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    void parseCostRules_ShouldReadMethodPatternAndCost() {
+        // When
+        List<RateLimitFilter.CostRule> rules = RateLimitFilter.parseCostRules(COSTS);
+
+        // Then
+        assertEquals(2, rules.size());
+        assertEquals(new RateLimitFilter.CostRule("GET", "/api/documents/*/structured-text", 5), rules.get(1));
+        assertThrows(IllegalArgumentException.class, () -> RateLimitFilter.parseCostRules("/api/generate/**"));
+    }
+
+    @Test
+    void doFilter_WhenCostExceedsBucket_ShouldRejectWith429() throws Exception {
+        // Given
+        authenticate(1L);
+        assertEquals(200, send("POST", "/api/documents/upload").getStatus());
+
+        // When
+        MockHttpServletResponse response = send("GET", "/api/documents/5/structured-text");
+
+        // Then
+        assertEquals(429, response.getStatus());
+        assertEquals("5", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("\"error\""));
+        assertEquals(1, meterRegistry.get("api.rate-limit.rejected")
+                .tag("endpoint", "/api/documents/*/structured-text")
+                .tag("client", "user")
+                .counter().count());
+    }
+
+    @Test
+    void doFilter_ShouldKeepSeparateBucketsPerUserAndAddress() throws Exception {
+        // Given
+        authenticate(1L);
+        send("POST", "/api/documents/upload");
+
+        // When
+        authenticate(2L);
+        int otherUser = send("POST", "/api/documents/upload").getStatus();
+        SecurityContextHolder.clearContext();
+        int anonymous = send("GET", "/api/quizzes").getStatus();
+
+        // Then
+        assertEquals(200, otherUser);
+        assertEquals(200, anonymous);
+    }
+
+    @Test
+    void doFilter_ShouldIgnoreNonApiPaths() throws Exception {
+        // Given
+        authenticate(1L);
+        send("POST", "/api/documents/upload");
+
+        // When & Then
+        assertEquals(200, send("GET", "/ws/microbit").getStatus());
+    }
+}
@@ -0,0 +1,116 @@
+package com.thesis.interactive_learning.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private MutableClock clock;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T10:00:00Z"));
+        // 10 tokens, one more every second
+        rateLimiter = new RateLimiter(10, 60, clock);
+    }
+
+    @Test
+    void tryAcquire_ShouldAllowBurstUpToCapacityThenReject() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("user:1", 1));
+        }
+
+        // When
+        long retryAfter = rateLimiter.tryAcquire("user:1", 1);
+
+        // Then
+        assertEquals(1_000, retryAfter);
+        assertEquals(0, rateLimiter.tryAcquire("user:2", 1));
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillOverTime() {
+        // Given
+        assertEquals(0, rateLimiter.tryAcquire("ip:10.0.0.1", 10));
+        assertTrue(rateLimiter.tryAcquire("ip:10.0.0.1", 3) > 0);
+
+        // When
+        clock.advance(Duration.ofSeconds(3));
+
+        // Then
+        assertEquals(0, rateLimiter.tryAcquire("ip:10.0.0.1", 3));
+        assertTrue(rateLimiter.tryAcquire("ip:10.0.0.1", 1) > 0);
+    }
+
+    @Test
+    void evictIdle_ShouldDropOnlyFullyRefilledBuckets() {
+        // Given
+        rateLimiter.tryAcquire("user:1", 10);
+        clock.advance(Duration.ofSeconds(5));
+        rateLimiter.tryAcquire("user:2", 10);
+
+        // When
+        clock.advance(Duration.ofSeconds(5));
+        rateLimiter.evictIdle();
+
+        // Then
+        assertEquals(1, rateLimiter.trackedKeys());
+    }
+
+    @Test
+    void tryAcquire_WhenFull_ShouldShareOverflowBucketUntilEviction() {
+        // Given
+        rateLimiter = new RateLimiter(10, 60, clock, 1);
+        assertEquals(0, rateLimiter.tryAcquire("user:1", 1));
+
+        // When
+        assertEquals(0, rateLimiter.tryAcquire("ip:10.0.0.1", 6));
+        long retryAfter = rateLimiter.tryAcquire("ip:10.0.0.2", 6);
+
+        // Then
+        assertTrue(retryAfter > 0);
+        assertEquals(1, rateLimiter.trackedKeys());
+
+        // When
+        clock.advance(Duration.ofSeconds(10));
+        rateLimiter.evictIdle();
+
+        // Then
+        assertEquals(0, rateLimiter.tryAcquire("ip:10.0.0.2", 6));
+        assertEquals(1, rateLimiter.trackedKeys());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.thesis.interactive_learning.security;
+
+import com.thesis.interactive_learning.model.AuditLog;
+import com.thesis.interactive_learning.model.User;
+import com.thesis.interactive_learning.repository.AuditLogRepository;
+import com.thesis.interactive_learning.repository.UserRepository;
+import com.thesis.interactive_learning.service.AuditLogService;
+import com.thesis.interactive_learning.service.impl.FailedLoginTracker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SecurityMonitoringServiceTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AuditLogService auditLogService;
+
+    @Mock
+    private FailedLoginTracker failedLoginTracker;
+
+    @InjectMocks
+    private SecurityMonitoringService securityMonitoringService;
+
+    @Test
+    void getSecurityDashboard_ShouldUseCountQueriesAndServeSnapshot() {
+        // Given
+        when(auditLogRepository.countByActionAndTimestampAfter(eq(AuditLog.LogAction.LOGIN_FAILED), any(LocalDateTime.class)))
+                .thenReturn(4L);
+        when(auditLogRepository.countSecurityLogsSince(any(LocalDateTime.class))).thenReturn(9L);
+        when(userRepository.countByAccountLockedUntilAfter(any(LocalDateTime.class))).thenReturn(2L);
+        when(userRepository.countByStatus(User.UserStatus.DISABLED)).thenReturn(1L);
+        when(auditLogService.getRecentSecurityLogs(10)).thenReturn(List.of());
+
+        // When
+        Map<String, Object> first = securityMonitoringService.getSecurityDashboard();
+        Map<String, Object> second = securityMonitoringService.getSecurityDashboard();
+
+        // Then
+        assertEquals(4L, first.get("failedLogins24h"));
+        assertEquals(9L, first.get("securityEventsWeek"));
+        assertEquals(2L, first.get("lockedAccounts"));
+        assertEquals(1L, first.get("disabledAccounts"));
+        assertEquals(first, second);
+        verify(userRepository, times(1)).countByAccountLockedUntilAfter(any(LocalDateTime.class));
+        verify(userRepository, never()).findAll();
+        verify(auditLogService, never()).getSecurityLogs(anyInt(), anyInt());
+    }
+
+    @Test
+    void invalidateDashboard_ShouldRebuildOnNextRead() {
+        // Given
+        when(userRepository.countByStatus(User.UserStatus.DISABLED)).thenReturn(0L, 1L);
+        securityMonitoringService.getSecurityDashboard();
+
+        // When
+        securityMonitoringService.invalidateDashboard();
+        Map<String, Object> dashboard = securityMonitoringService.getSecurityDashboard();
+
+        // Then
+        assertEquals(1L, dashboard.get("disabledAccounts"));
+    }
+
+    @Test
+    void unlockUserAccount_ShouldInvalidateDashboardSnapshot() {
+        // Given
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("locked");
+        user.setAccountLockedUntil(LocalDateTime.now().plusMinutes(10));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        securityMonitoringService.getSecurityDashboard();
+
+        // When
+        securityMonitoringService.unlockUserAccount(1L, "verified by phone");
+        securityMonitoringService.getSecurityDashboard();
+
+        // Then
+        assertFalse(user.isAccountLocked());
+        verify(userRepository, times(2)).countByAccountLockedUntilAfter(any(LocalDateTime.class));
+    }
+
+    @Test
+    void getLockedAccounts_ShouldQueryOnlyCurrentlyLockedUsers() {
+        // Given
+        User user = new User();
+        user.setId(5L);
+        user.setUsername("alice");
+        user.setFailedLoginAttempts(5);
+        user.setAccountLockedUntil(LocalDateTime.now().plusMinutes(10));
+        when(userRepository.findByAccountLockedUntilAfterOrderByAccountLockedUntilDesc(any(LocalDateTime.class)))
+                .thenReturn(List.of(user));
+
+        // When
+        List<Map<String, Object>> locked = securityMonitoringService.getLockedAccounts();
+
+        // Then
+        assertEquals(1, locked.size());
+        assertEquals("alice", locked.get(0).get("username"));
+        verify(userRepository, never()).findAll();
+    }
+}
@@ -0,0 +1,86 @@
+package com.thesis.interactive_learning.security;
+
+import com.thesis.interactive_learning.model.User;
+import com.thesis.interactive_learning.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserContextTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserContext userContext;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static void authenticate(String role) {
+        AuthenticatedUser principal = new AuthenticatedUser(4L, "student", role, 0L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Test
+    void getCurrentUserId_WithTokenPrincipal_ShouldNotQueryUser() {
+        // Given
+        authenticate("USER");
+
+        // When
+        Long userId = userContext.getCurrentUserId();
+        boolean owner = userContext.isCurrentUserOwner(4L);
+        boolean admin = userContext.isCurrentUserAdmin();
+
+        // Then
+        assertEquals(4L, userId);
+        assertTrue(owner);
+        assertFalse(admin);
+        verify(userRepository, never()).findByUsername(anyString());
+    }
+
+    @Test
+    void getCurrentUser_ShouldLoadUserOncePerRequest() {
+        // Given
+        authenticate("ADMIN");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        User user = new User();
+        user.setId(4L);
+        user.setUsername("student");
+        when(userRepository.findByUsername("student")).thenReturn(Optional.of(user));
+
+        // When
+        User first = userContext.getCurrentUser();
+        User second = userContext.getCurrentUser();
+
+        // Then
+        assertSame(first, second);
+        verify(userRepository, times(1)).findByUsername("student");
+    }
+
+    @Test
+    void getCurrentUser_WithoutAuthentication_ShouldThrow() {
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> userContext.getCurrentUserId());
+        assertEquals("User not authenticated", exception.getMessage());
+    }
+}
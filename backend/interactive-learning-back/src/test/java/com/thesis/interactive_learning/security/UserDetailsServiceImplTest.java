@@ -0,0 +1,52 @@
+package com.thesis.interactive_learning.security;
+
+import com.thesis.interactive_learning.model.User;
+import com.thesis.interactive_learning.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailsServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Test
+    void loadUserByUsername_ShouldMapPasswordAndRole() {
+        // Given
+        User user = new User();
+        user.setUsername("teacher");
+        user.setPassword("$2a$10$hash");
+        user.setRole(User.Role.ADMIN);
+        when(userRepository.findByUsername("teacher")).thenReturn(Optional.of(user));
+
+        // When
+        UserDetails details = userDetailsService.loadUserByUsername("teacher");
+
+        // Then
+        assertEquals("$2a$10$hash", details.getPassword());
+        assertEquals("ADMIN", details.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void loadUserByUsername_WhenUserMissing_ShouldThrow() {
+        // Given
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("ghost"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.thesis.interactive_learning.security;
+
+import com.thesis.interactive_learning.dto.UserStatusVersion;
+import com.thesis.interactive_learning.model.User;
+import com.thesis.interactive_learning.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserStatusCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserStatusCache cache;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T10:00:00Z"), ZoneOffset.UTC);
+        cache = new UserStatusCache(userRepository, 30_000, clock);
+    }
+
+    @Test
+    void isTokenCurrent_ShouldReadEachUserOnlyOnceWithinTtl() {
+        // Given
+        when(userRepository.findStatusVersionById(1L))
+                .thenReturn(Optional.of(new UserStatusVersion(1L, User.UserStatus.ENABLED, User.Role.USER, 3L)));
+
+        // When & Then
+        assertTrue(cache.isTokenCurrent(1L, 3L));
+        assertTrue(cache.isTokenCurrent(1L, 3L));
+        assertFalse(cache.isTokenCurrent(1L, 2L));
+        verify(userRepository, times(1)).findStatusVersionById(1L);
+    }
+
+    @Test
+    void invalidate_ShouldRejectTokensOfUserDisabledSinceIssue() {
+        // Given
+        when(userRepository.findStatusVersionById(1L))
+                .thenReturn(Optional.of(new UserStatusVersion(1L, User.UserStatus.ENABLED, User.Role.USER, 0L)))
+                .thenReturn(Optional.of(new UserStatusVersion(1L, User.UserStatus.DISABLED, User.Role.USER, 1L)));
+        assertTrue(cache.isTokenCurrent(1L, 0L));
+
+        // When
+        cache.invalidate(1L);
+
+        // Then
+        assertFalse(cache.isTokenCurrent(1L, 0L));
+        assertFalse(cache.isTokenCurrent(1L, 1L));
+    }
+
+    @Test
+    void isTokenCurrent_WhenUserDeleted_ShouldReject() {
+        // Given
+        when(userRepository.findStatusVersionById(9L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertFalse(cache.isTokenCurrent(9L, 0L));
+        assertFalse(cache.isTokenCurrent(9L, 0L));
+        verify(userRepository, times(1)).findStatusVersionById(9L);
+    }
+}
@@ -0,0 +1,196 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.dto.IdCount;
+import com.thesis.interactive_learning.dto.PlatformActivitySummary;
+import com.thesis.interactive_learning.model.User;
+import com.thesis.interactive_learning.repository.DocumentRepository;
+import com.thesis.interactive_learning.repository.QuizRepository;
+import com.thesis.interactive_learning.repository.StudyCollectionRepository;
+import com.thesis.interactive_learning.repository.UserProgressRepository;
+import com.thesis.interactive_learning.repository.UserRepository;
+import com.thesis.interactive_learning.security.SecurityMonitoringService;
+import com.thesis.interactive_learning.security.UserContext;
+import com.thesis.interactive_learning.security.UserStatusCache;
+import com.thesis.interactive_learning.service.AuditLogService;
+import com.thesis.interactive_learning.service.DocumentService;
+import com.thesis.interactive_learning.service.QuizService;
+import com.thesis.interactive_learning.service.UserStatsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private StudyCollectionRepository studyCollectionRepository;
+
+    @Mock
+    private UserProgressRepository userProgressRepository;
+
+    @Mock
+    private DocumentService documentService;
+
+    @Mock
+    private QuizService quizService;
+
+    @Mock
+    private AuditLogService auditLogService;
+
+    @Mock
+    private UserContext userContext;
+
+    @Mock
+    private UserStatusCache userStatusCache;
+
+    @Mock
+    private SecurityMonitoringService securityMonitoringService;
+
+    @Mock
+    private UserStatsService userStatsService;
+
+    @InjectMocks
+    private AdminServiceImpl adminService;
+
+    @Test
+    void getAdminDashboard_ShouldUseAggregateQueries() {
+        // Given
+        when(userRepository.count()).thenReturn(4L);
+        when(userProgressRepository.count()).thenReturn(120L);
+        when(userProgressRepository.summarizePlatformActivity(any(LocalDateTime.class)))
+                .thenReturn(new PlatformActivitySummary(15L, 3L));
+        when(userStatsService.getPlatformAverageAccuracy()).thenReturn(72.456);
+
+        // When
+        Map<String, Object> dashboard = adminService.getAdminDashboard();
+
+        // Then
+        assertEquals(4L, dashboard.get("totalUsers"));
+        assertEquals(120L, dashboard.get("totalQuizAttempts"));
+        assertEquals(15L, dashboard.get("recentQuizAttempts"));
+        assertEquals(3L, dashboard.get("activeUsersLast30Days"));
+        assertEquals(72.46, dashboard.get("platformAverageAccuracy"));
+        verify(userProgressRepository, never()).findAll();
+        verify(userProgressRepository, never()).getPlatformAverageAccuracy();
+    }
+
+    @Test
+    void getAdminDashboard_ShouldServeSnapshotUntilScheduledRefresh() {
+        // Given
+        when(userProgressRepository.summarizePlatformActivity(any(LocalDateTime.class)))
+                .thenReturn(new PlatformActivitySummary(0L, 0L));
+
+        // When
+        Map<String, Object> first = adminService.getAdminDashboard();
+        first.put("totalUsers", 99L);
+        Map<String, Object> second = adminService.getAdminDashboard();
+
+        // Then
+        assertEquals(0L, second.get("totalUsers"));
+        assertEquals(0.0, second.get("platformAverageAccuracy"));
+        verify(userProgressRepository, times(1)).summarizePlatformActivity(any(LocalDateTime.class));
+        verify(userRepository, times(1)).count();
+
+        // When
+        when(userRepository.count()).thenReturn(5L);
+        adminService.refreshAdminDashboard();
+
+        // Then
+        assertEquals(5L, adminService.getAdminDashboard().get("totalUsers"));
+        verify(userRepository, times(2)).count();
+    }
+
+    @Test
+    void getAllUsersWithPagination_ShouldCountPerPageNotPerUser() {
+        // Given
+        User first = new User();
+        first.setId(1L);
+        first.setUsername("first");
+        User second = new User();
+        second.setId(2L);
+        second.setUsername("second");
+
+        when(userRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(first, second), PageRequest.of(0, 50), 2));
+        when(documentRepository.countByUserIds(List.of(1L, 2L))).thenReturn(List.of(new IdCount(1L, 3L)));
+        when(studyCollectionRepository.countByUserIds(List.of(1L, 2L))).thenReturn(List.of(new IdCount(2L, 1L)));
+        when(userProgressRepository.countByUserIds(List.of(1L, 2L)))
+                .thenReturn(List.of(new IdCount(1L, 5L), new IdCount(2L, 7L)));
+
+        // When
+        Map<String, Object> response = adminService.getAllUsersWithPagination(0, 50);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> users = (List<Map<String, Object>>) response.get("users");
+        assertEquals(2, users.size());
+        assertEquals(3, users.get(0).get("documentCount"));
+        assertEquals(0, users.get(0).get("collectionCount"));
+        assertEquals(5, users.get(0).get("quizAttempts"));
+        assertEquals(0, users.get(1).get("documentCount"));
+        assertEquals(1, users.get(1).get("collectionCount"));
+        assertEquals(7, users.get(1).get("quizAttempts"));
+        verify(documentRepository, never()).findByUser(any(User.class));
+        verify(userProgressRepository, never()).findByUserId(any());
+    }
+
+    @Test
+    void getAllUsersWithPagination_WithEmptyPage_ShouldSkipCountQueries() {
+        // Given
+        when(userRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+
+        // When
+        Map<String, Object> response = adminService.getAllUsersWithPagination(3, 50);
+
+        // Then
+        assertEquals(List.of(), response.get("users"));
+        verify(documentRepository, never()).countByUserIds(anyCollection());
+        verify(userProgressRepository, never()).countByUserIds(anyCollection());
+    }
+
+    @Test
+    void updateUserStatus_ShouldBumpStatusVersionAndInvalidateCachedStatus() {
+        // Given
+        User user = new User();
+        user.setId(3L);
+        user.setUsername("student");
+        when(userRepository.findById(3L)).thenReturn(Optional.of(user));
+        when(userContext.getCurrentUserId()).thenReturn(1L);
+        when(userContext.getCurrentUsername()).thenReturn("admin");
+
+        // When
+        Map<String, Object> result = adminService.updateUserStatus(3L, false, "cheating");
+
+        // Then
+        assertEquals("DISABLED", result.get("status"));
+        assertEquals(1L, user.getStatusVersionOrZero());
+        verify(userRepository).save(user);
+        verify(userStatusCache).invalidate(3L);
+        verify(securityMonitoringService).invalidateDashboard();
+    }
+}
@@ -0,0 +1,165 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.dto.AuditLogExportFormat;
+import com.thesis.interactive_learning.model.AuditLog;
+import com.thesis.interactive_learning.repository.AuditLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.*;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogArchiverTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @TempDir
+    Path archiveDirectory;
+
+    private AuditLogArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-06-15T10:00:00Z"), ZoneOffset.UTC);
+        archiver = new AuditLogArchiver(auditLogRepository, archiveDirectory, 90, 12, clock);
+    }
+
+    private static AuditLog entry(long id, LocalDateTime timestamp, String description) {
+        AuditLog auditLog = AuditLog.builder()
+                .level(AuditLog.LogLevel.INFO)
+                .action(AuditLog.LogAction.LOGIN_SUCCESS)
+                .description(description)
+                .timestamp(timestamp)
+                .build();
+        auditLog.setId(id);
+        return auditLog;
+    }
+
+    @Test
+    void archiveExpired_ShouldWriteMonthlyFilesAndDeleteRows() throws Exception {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.of(2025, 3, 17, 0, 0);
+        when(auditLogRepository.findByTimestampBeforeOrderByIdAsc(eq(cutoff), any(Pageable.class)))
+                .thenReturn(List.of(
+                        entry(1L, LocalDateTime.of(2025, 1, 31, 23, 0), "january"),
+                        entry(2L, LocalDateTime.of(2025, 2, 1, 8, 0), "february")))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        int archived = archiver.archiveExpired();
+
+        // Then
+        assertEquals(2, archived);
+        assertTrue(Files.exists(archiveDirectory.resolve("audit-2025-01.ndjson.gz")));
+        assertTrue(Files.exists(archiveDirectory.resolve("audit-2025-02.ndjson.gz")));
+        verify(auditLogRepository, times(1)).deleteAllByIdInBatch(List.of(1L, 2L));
+
+        List<Map<String, Object>> archives = archiver.listArchives();
+        assertEquals("2025-01", archives.get(0).get("month"));
+        assertEquals("2025-02", archives.get(1).get("month"));
+    }
+
+    @Test
+    void export_ShouldCombineArchivedAndLiveEntriesWithinRange() throws Exception {
+        // Given
+        when(auditLogRepository.findByTimestampBeforeOrderByIdAsc(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(
+                        entry(1L, LocalDateTime.of(2025, 1, 10, 9, 0), "too early"),
+                        entry(2L, LocalDateTime.of(2025, 1, 20, 9, 0), "archived")))
+                .thenReturn(Collections.emptyList());
+        archiver.archiveExpired();
+
+        LocalDateTime from = LocalDateTime.of(2025, 1, 15, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 6, 1, 0, 0);
+        when(auditLogRepository.findExportChunk(eq(from), eq(0L), eq(to), anyInt()))
+                .thenReturn(List.of(entry(3L, LocalDateTime.of(2025, 5, 1, 9, 0), "live")));
+        when(auditLogRepository.findExportChunk(eq(LocalDateTime.of(2025, 5, 1, 9, 0)), eq(3L), eq(to), anyInt()))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        StringWriter out = new StringWriter();
+        archiver.export(from, to, AuditLogExportFormat.NDJSON, out);
+
+        // Then
+        List<String> lines = out.toString().lines().toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"archived\""));
+        assertTrue(lines.get(1).contains("\"live\""));
+        assertTrue(lines.get(1).contains("2025-05-01T09:00:00"));
+    }
+
+    @Test
+    void export_AsCsv_ShouldQuoteFieldsAndNeutralizeFormulas() throws Exception {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2025, 6, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 6, 2, 0, 0);
+        AuditLog auditLog = entry(7L, LocalDateTime.of(2025, 6, 1, 12, 30), "Logged in, \"remember me\" set");
+        auditLog.setUsername("=HYPERLINK(\"x\")");
+        when(auditLogRepository.findExportChunk(eq(from), eq(0L), eq(to), anyInt()))
+                .thenReturn(List.of(auditLog))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        StringWriter out = new StringWriter();
+        archiver.export(from, to, AuditLogExportFormat.CSV, out);
+
+        // Then
+        List<String> lines = out.toString().lines().toList();
+        assertEquals(2, lines.size());
+        assertEquals(AuditLogExportWriter.CSV_HEADER, lines.get(0));
+        assertEquals("7,2025-06-01T12:30,INFO,LOGIN_SUCCESS,\"Logged in, \"\"remember me\"\" set\",,"
+                + "\"'=HYPERLINK(\"\"x\"\")\",,,", lines.get(1));
+    }
+
+    @Test
+    void export_AsCsv_ShouldNeutralizeLeadingTabAndCarriageReturn() throws Exception {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2025, 6, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 6, 2, 0, 0);
+        AuditLog auditLog = entry(8L, LocalDateTime.of(2025, 6, 1, 12, 30), "\r=cmd()");
+        auditLog.setUsername("\t=cmd()");
+        when(auditLogRepository.findExportChunk(eq(from), eq(0L), eq(to), anyInt()))
+                .thenReturn(List.of(auditLog))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        StringWriter out = new StringWriter();
+        archiver.export(from, to, AuditLogExportFormat.CSV, out);
+
+        // Then
+        assertTrue(out.toString().endsWith("8,2025-06-01T12:30,INFO,LOGIN_SUCCESS,\"'\r=cmd()\",,'\t=cmd(),,,\n"));
+    }
+
+    @Test
+    void deleteExpiredArchives_ShouldRemoveOnlyMonthsPastRetention() throws Exception {
+        // Given
+        Files.createFile(archiveDirectory.resolve("audit-2024-05.ndjson.gz"));
+        Files.createFile(archiveDirectory.resolve("audit-2024-06.ndjson.gz"));
+
+        // When
+        int deleted = archiver.deleteExpiredArchives();
+
+        // Then
+        assertEquals(1, deleted);
+        assertFalse(Files.exists(archiveDirectory.resolve("audit-2024-05.ndjson.gz")));
+        assertTrue(Files.exists(archiveDirectory.resolve("audit-2024-06.ndjson.gz")));
+    }
+}
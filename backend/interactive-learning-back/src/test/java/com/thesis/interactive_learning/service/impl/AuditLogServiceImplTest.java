@@ -7,6 +7,7 @@ import com.thesis.interactive_learning.security.UserContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -37,6 +38,12 @@ class AuditLogServiceImplTest {
     @Mock
     private UserContext userContext;
 
+    @Mock
+    private AuditLogWriter auditLogWriter;
+
+    @Mock
+    private FailedLoginTracker failedLoginTracker;
+
     @InjectMocks
     private AuditLogServiceImpl auditLogService;
 
@@ -67,120 +74,117 @@ class AuditLogServiceImplTest {
     @Test
     void log_WithBasicParameters_ShouldCreateAndSaveLog() {
         // Given
-        when(userContext.getCurrentUser()).thenReturn(testUser);
-        when(auditLogRepository.save(any(AuditLog.class))).thenReturn(testLog);
+        when(userContext.getCurrentUserId()).thenReturn(testUser.getId());
+        when(userContext.getCurrentUsername()).thenReturn(testUser.getUsername());
 
         // When
         auditLogService.log(AuditLog.LogLevel.INFO, AuditLog.LogAction.USER_CREATED, "Test message");
 
         // Then
-        verify(auditLogRepository, times(1)).save(any(AuditLog.class));
-        verify(userContext, times(1)).getCurrentUser();
+        ArgumentCaptor<AuditLog> captor = ArgumentCaptor.forClass(AuditLog.class);
+        verify(auditLogWriter, times(1)).enqueue(captor.capture());
+        assertEquals(1L, captor.getValue().getUserId());
+        assertEquals("testuser", captor.getValue().getUsername());
+        verify(userContext, never()).getCurrentUser();
     }
 
     @Test
     void log_WhenUserContextFails_ShouldStillCreateLog() {
         // Given
-        when(userContext.getCurrentUser()).thenThrow(new RuntimeException("No user context"));
-        when(auditLogRepository.save(any(AuditLog.class))).thenReturn(testLog);
+        when(userContext.getCurrentUserId()).thenThrow(new RuntimeException("No user context"));
 
         // When
         auditLogService.log(AuditLog.LogLevel.INFO, AuditLog.LogAction.USER_CREATED, "Test message");
 
         // Then
-        verify(auditLogRepository, times(1)).save(any(AuditLog.class));
+        verify(auditLogWriter, times(1)).enqueue(any(AuditLog.class));
     }
 
     @Test
     void log_WithUserIdAndUsername_ShouldCreateLogWithSpecificUser() {
-        // Given
-        when(auditLogRepository.save(any(AuditLog.class))).thenReturn(testLog);
-
         // When
         auditLogService.log(AuditLog.LogLevel.INFO, AuditLog.LogAction.USER_CREATED,
                 "Test message", 1L, "testuser");
 
         // Then
-        verify(auditLogRepository, times(1)).save(any(AuditLog.class));
-        verify(userContext, never()).getCurrentUser();
+        verify(auditLogWriter, times(1)).enqueue(any(AuditLog.class));
+        verify(userContext, never()).getCurrentUserId();
     }
 
     @Test
     void log_WithEntityTypeAndId_ShouldCreateLogWithEntityInfo() {
         // Given
-        when(userContext.getCurrentUser()).thenReturn(testUser);
-        when(auditLogRepository.save(any(AuditLog.class))).thenReturn(testLog);
+        when(userContext.getCurrentUserId()).thenReturn(testUser.getId());
+        when(userContext.getCurrentUsername()).thenReturn(testUser.getUsername());
 
         // When
         auditLogService.log(AuditLog.LogLevel.INFO, AuditLog.LogAction.DOCUMENT_UPLOADED,
                 "Document uploaded", "Document", 1L);
 
         // Then
-        verify(auditLogRepository, times(1)).save(any(AuditLog.class));
+        verify(auditLogWriter, times(1)).enqueue(any(AuditLog.class));
     }
 
     @Test
     void logUserAction_ShouldLogWithInfoLevel() {
         // Given
-        when(userContext.getCurrentUser()).thenReturn(testUser);
-        when(auditLogRepository.save(any(AuditLog.class))).thenReturn(testLog);
+        when(userContext.getCurrentUserId()).thenReturn(testUser.getId());
+        when(userContext.getCurrentUsername()).thenReturn(testUser.getUsername());
 
         // When
         auditLogService.logUserAction(AuditLog.LogAction.DOCUMENT_UPLOADED, "User uploaded document");
 
         // Then
-        verify(auditLogRepository, times(1)).save(any(AuditLog.class));
+        verify(auditLogWriter, times(1)).enqueue(any(AuditLog.class));
     }
 
     @Test
     void logSecurityEvent_ShouldLogWithSecurityLevel() {
         // Given
-        when(userContext.getCurrentUser()).thenReturn(testUser);
-        when(auditLogRepository.save(any(AuditLog.class))).thenReturn(testLog);
+        when(userContext.getCurrentUserId()).thenReturn(testUser.getId());
+        when(userContext.getCurrentUsername()).thenReturn(testUser.getUsername());
 
         // When
         auditLogService.logSecurityEvent(AuditLog.LogAction.LOGIN_FAILED, "Failed login attempt");
 
         // Then
-        verify(auditLogRepository, times(1)).save(any(AuditLog.class));
+        verify(auditLogWriter, times(1)).enqueue(any(AuditLog.class));
     }
 
     @Test
     void logAdminAction_ShouldLogWithInfoLevel() {
         // Given
-        when(userContext.getCurrentUser()).thenReturn(testUser);
-        when(auditLogRepository.save(any(AuditLog.class))).thenReturn(testLog);
+        when(userContext.getCurrentUserId()).thenReturn(testUser.getId());
+        when(userContext.getCurrentUsername()).thenReturn(testUser.getUsername());
 
         // When
         auditLogService.logAdminAction(AuditLog.LogAction.ADMIN_ACCESS, "Admin accessed dashboard");
 
         // Then
-        verify(auditLogRepository, times(1)).save(any(AuditLog.class));
+        verify(auditLogWriter, times(1)).enqueue(any(AuditLog.class));
     }
 
     @Test
     void logError_ShouldLogWithErrorLevel() {
         // Given
-        when(userContext.getCurrentUser()).thenReturn(testUser);
-        when(auditLogRepository.save(any(AuditLog.class))).thenReturn(testLog);
+        when(userContext.getCurrentUserId()).thenReturn(testUser.getId());
+        when(userContext.getCurrentUsername()).thenReturn(testUser.getUsername());
 
         // When
         auditLogService.logError("System error occurred");
 
         // Then
-        verify(auditLogRepository, times(1)).save(any(AuditLog.class));
+        verify(auditLogWriter, times(1)).enqueue(any(AuditLog.class));
     }
 
     @Test
     void logLoginAttempt_ShouldCreateLoginLog() {
-        // Given
-        when(auditLogRepository.save(any(AuditLog.class))).thenReturn(testLog);
-
         // When
         auditLogService.logLoginAttempt(AuditLog.LogAction.LOGIN_FAILED, "testuser", "Invalid credentials");
 
         // Then
-        verify(auditLogRepository, times(1)).save(any(AuditLog.class));
+        verify(auditLogWriter, times(1)).enqueue(any(AuditLog.class));
+        verify(failedLoginTracker, times(1)).recordFailure("127.0.0.1", "testuser");
     }
 
     @Test
@@ -241,6 +245,20 @@ class AuditLogServiceImplTest {
         verify(auditLogRepository, times(1)).findSecurityLogs(any(Pageable.class));
     }
 
+    @Test
+    void getRecentSecurityLogs_ShouldReadOnlyTheRequestedRowsWithoutCounting() {
+        // Given
+        when(auditLogRepository.findRecentSecurityLogs(PageRequest.of(0, 10))).thenReturn(List.of(testLog));
+
+        // When
+        List<Map<String, Object>> result = auditLogService.getRecentSecurityLogs(10);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(testLog.getId(), result.get(0).get("id"));
+        verify(auditLogRepository, never()).findSecurityLogs(any(Pageable.class));
+    }
+
     @Test
     void getAdminActionLogs_ShouldReturnAdminLogs() {
         // Given
@@ -273,10 +291,8 @@ class AuditLogServiceImplTest {
     @Test
     void checkSuspiciousActivity_WithHighFailures_ShouldReturnTrue() {
         // Given
-        when(auditLogRepository.countFailedLoginsByIp(eq("192.168.1.1"), any(LocalDateTime.class)))
-                .thenReturn(6L);
-        when(auditLogRepository.countFailedLoginsByUsername(eq("testuser"), any(LocalDateTime.class)))
-                .thenReturn(3L);
+        when(failedLoginTracker.countByIp("192.168.1.1")).thenReturn(6L);
+        when(failedLoginTracker.countByUsername("testuser")).thenReturn(3L);
 
         // When
         boolean result = auditLogService.checkSuspiciousActivity("192.168.1.1", "testuser");
@@ -288,10 +304,8 @@ class AuditLogServiceImplTest {
     @Test
     void checkSuspiciousActivity_WithLowFailures_ShouldReturnFalse() {
         // Given
-        when(auditLogRepository.countFailedLoginsByIp(eq("192.168.1.1"), any(LocalDateTime.class)))
-                .thenReturn(2L);
-        when(auditLogRepository.countFailedLoginsByUsername(eq("testuser"), any(LocalDateTime.class)))
-                .thenReturn(3L);
+        when(failedLoginTracker.countByIp("192.168.1.1")).thenReturn(2L);
+        when(failedLoginTracker.countByUsername("testuser")).thenReturn(3L);
 
         // When
         boolean result = auditLogService.checkSuspiciousActivity("192.168.1.1", "testuser");
@@ -303,10 +317,8 @@ class AuditLogServiceImplTest {
     @Test
     void checkSuspiciousActivity_WithHighUsernameFailures_ShouldReturnTrue() {
         // Given
-        when(auditLogRepository.countFailedLoginsByIp(eq("192.168.1.1"), any(LocalDateTime.class)))
-                .thenReturn(2L);
-        when(auditLogRepository.countFailedLoginsByUsername(eq("testuser"), any(LocalDateTime.class)))
-                .thenReturn(6L);
+        when(failedLoginTracker.countByIp("192.168.1.1")).thenReturn(2L);
+        when(failedLoginTracker.countByUsername("testuser")).thenReturn(6L);
 
         // When
         boolean result = auditLogService.checkSuspiciousActivity("192.168.1.1", "testuser");
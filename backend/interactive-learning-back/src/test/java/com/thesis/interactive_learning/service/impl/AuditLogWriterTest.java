@@ -0,0 +1,180 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.model.AuditLog;
+import com.thesis.interactive_learning.repository.AuditLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogWriterTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private Path spillFile;
+
+    @BeforeEach
+    void setUp() {
+        spillFile = tempDir.resolve("audit-spill.ndjson");
+    }
+
+    private AuditLogWriter writer(int capacity, int batchSize) {
+        return new AuditLogWriter(auditLogRepository, capacity, batchSize, 10, spillFile.toString());
+    }
+
+    private static AuditLog entry(AuditLog.LogLevel level, String description) {
+        return AuditLog.builder()
+                .level(level)
+                .action(AuditLog.LogAction.LOGIN_FAILED)
+                .description(description)
+                .username("testuser")
+                .timestamp(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushPending_ShouldInsertQueuedEntriesInBatches() throws Exception {
+        // Given
+        AuditLogWriter writer = writer(10, 2);
+        writer.enqueue(entry(AuditLog.LogLevel.INFO, "first"));
+        writer.enqueue(entry(AuditLog.LogLevel.INFO, "second"));
+        writer.enqueue(entry(AuditLog.LogLevel.INFO, "third"));
+
+        // When
+        int firstBatch = writer.flushPending(10);
+        int secondBatch = writer.flushPending(10);
+
+        // Then
+        assertEquals(2, firstBatch);
+        assertEquals(1, secondBatch);
+        ArgumentCaptor<List<AuditLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(auditLogRepository, times(2)).insertAllInBatch(captor.capture());
+        assertEquals("first", captor.getAllValues().get(0).get(0).getDescription());
+        assertEquals("third", captor.getAllValues().get(1).get(0).getDescription());
+        assertEquals(3, writer.getWrittenCount());
+    }
+
+    @Test
+    void flushPending_WhenDatabaseFails_ShouldSpillAndReplayLater() throws Exception {
+        // Given
+        AuditLogWriter writer = writer(10, 10);
+        List<String> inserted = new ArrayList<>();
+        doThrow(new DataAccessResourceFailureException("down"))
+                .doAnswer(invocation -> {
+                    List<AuditLog> logs = invocation.getArgument(0);
+                    logs.forEach(log -> inserted.add(log.getDescription()));
+                    return null;
+                })
+                .when(auditLogRepository).insertAllInBatch(anyList());
+        writer.enqueue(entry(AuditLog.LogLevel.SECURITY, "failed login"));
+
+        // When
+        writer.flushPending(10);
+
+        // Then
+        assertEquals(1, writer.getSpilledCount());
+        assertEquals(1, Files.readAllLines(spillFile).size());
+
+        // When the database is back
+        ReflectionTestUtils.setField(writer, "retryAt", 0L);
+        writer.replaySpillFile();
+
+        // Then
+        assertFalse(Files.exists(spillFile));
+        assertEquals(List.of("failed login"), inserted);
+        verify(auditLogRepository, times(2)).insertAllInBatch(anyList());
+    }
+
+    @Test
+    void flushPending_WhenBatchIsRejected_ShouldRetryRowByRowAndDropOnlyRejectedRows() throws Exception {
+        // Given
+        AuditLogWriter writer = writer(10, 10);
+        List<String> inserted = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<AuditLog> logs = invocation.getArgument(0);
+            if (logs.stream().anyMatch(log -> log.getDescription().equals("rejected"))) {
+                throw new DataIntegrityViolationException("Data too long for column 'description'");
+            }
+            logs.forEach(log -> inserted.add(log.getDescription()));
+            return null;
+        }).when(auditLogRepository).insertAllInBatch(anyList());
+        writer.enqueue(entry(AuditLog.LogLevel.INFO, "first"));
+        writer.enqueue(entry(AuditLog.LogLevel.SECURITY, "rejected"));
+        writer.enqueue(entry(AuditLog.LogLevel.INFO, "third"));
+
+        // When
+        writer.flushPending(10);
+
+        // Then
+        assertEquals(List.of("first", "third"), inserted);
+        assertEquals(2, writer.getWrittenCount());
+        assertEquals(1, writer.getDroppedCount());
+        assertEquals(0, writer.getSpilledCount());
+        assertFalse(Files.exists(spillFile));
+        verify(auditLogRepository, times(4)).insertAllInBatch(anyList());
+    }
+
+    @Test
+    void flushPending_WhenDatabaseFailsDuringRowByRowRetry_ShouldSpillTheRest() throws Exception {
+        // Given
+        AuditLogWriter writer = writer(10, 10);
+        doThrow(new DataIntegrityViolationException("Duplicate entry"))
+                .doNothing()
+                .doThrow(new DataAccessResourceFailureException("down"))
+                .when(auditLogRepository).insertAllInBatch(anyList());
+        writer.enqueue(entry(AuditLog.LogLevel.INFO, "first"));
+        writer.enqueue(entry(AuditLog.LogLevel.WARN, "second"));
+        writer.enqueue(entry(AuditLog.LogLevel.WARN, "third"));
+
+        // When
+        writer.flushPending(10);
+
+        // Then
+        assertEquals(1, writer.getWrittenCount());
+        assertEquals(2, writer.getSpilledCount());
+        List<String> spilled = Files.readAllLines(spillFile);
+        assertTrue(spilled.get(0).contains("second"));
+        assertTrue(spilled.get(1).contains("third"));
+    }
+
+    @Test
+    void enqueue_WhenQueueIsFull_ShouldDropInfoAndSpillSecurityEntries() throws Exception {
+        // Given
+        AuditLogWriter writer = writer(1, 10);
+        writer.enqueue(entry(AuditLog.LogLevel.INFO, "queued"));
+
+        // When
+        writer.enqueue(entry(AuditLog.LogLevel.INFO, "dropped"));
+        writer.enqueue(entry(AuditLog.LogLevel.SECURITY, "spilled"));
+
+        // Then
+        assertEquals(1, writer.getQueueSize());
+        assertEquals(1, writer.getDroppedCount());
+        assertEquals(1, writer.getSpilledCount());
+        assertTrue(Files.readString(spillFile).contains("spilled"));
+        assertTrue(Files.readString(spillFile).contains("\"timestamp\":\"2024-01-01T12:00:00\""));
+        verifyNoInteractions(auditLogRepository);
+    }
+}
@@ -0,0 +1,69 @@
+package com.thesis.interactive_learning.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistractorIndexTest {
+
+    @Test
+    void sample_ShouldNeverReturnCorrectAnswerOrDuplicates() {
+        // Given
+        DistractorIndex index = DistractorIndex.of(Arrays.asList(
+                "photosynthesis", "respiration", "fermentation", "digestion", "mitosis", "osmosis"));
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100; i++) {
+            // When
+            List<String> distractors = index.sample("respiration", 3, random);
+
+            // Then
+            assertEquals(3, distractors.size());
+            assertFalse(distractors.contains("respiration"));
+            assertEquals(3, new HashSet<>(distractors).size());
+        }
+    }
+
+    @Test
+    void sample_ShouldPreferCandidatesWithSameSimilarityKey() {
+        // Given
+        DistractorIndex index = DistractorIndex.of(Arrays.asList(
+                "respiration", "fermentation", "absorption", "red", "big", "dna"));
+
+        // When
+        List<String> distractors = index.sample("digestion", 2, new Random(7));
+
+        // Then
+        assertEquals(2, distractors.size());
+        for (String distractor : distractors) {
+            assertEquals(DistractorIndex.similarityKey("digestion"), DistractorIndex.similarityKey(distractor));
+        }
+    }
+
+    @Test
+    void sample_WhenPoolIsSmall_ShouldReturnAllOtherCandidates() {
+        // Given
+        DistractorIndex index = DistractorIndex.of(Arrays.asList("cell", "atom", "cell"));
+
+        // When
+        List<String> distractors = index.sample("cell", 3, new Random());
+
+        // Then
+        assertEquals(2, index.size());
+        assertEquals(List.of("atom"), distractors);
+    }
+
+    @Test
+    void sample_WithEmptyPool_ShouldReturnEmptyList() {
+        // Given
+        DistractorIndex index = DistractorIndex.of(Collections.emptyList());
+
+        // When
+        List<String> distractors = index.sample("anything", 3, new Random());
+
+        // Then
+        assertTrue(distractors.isEmpty());
+    }
+}
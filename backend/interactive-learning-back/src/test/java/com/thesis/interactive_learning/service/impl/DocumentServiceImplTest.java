@@ -1,20 +1,25 @@
 package com.thesis.interactive_learning.service.impl;
 
+import com.thesis.interactive_learning.dto.BulkCollectionUpdateResult;
 import com.thesis.interactive_learning.model.Document;
 import com.thesis.interactive_learning.model.StudyCollection;
 import com.thesis.interactive_learning.model.User;
-import com.thesis.interactive_learning.model.Quiz;
 import com.thesis.interactive_learning.repository.DocumentRepository;
 import com.thesis.interactive_learning.repository.QuizRepository;
 import com.thesis.interactive_learning.repository.StudyCollectionRepository;
+import com.thesis.interactive_learning.repository.UserProgressRepository;
 import com.thesis.interactive_learning.repository.UserRepository;
+import com.thesis.interactive_learning.service.TextAnalysisService;
+import com.thesis.interactive_learning.service.UserProgressChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -23,8 +28,10 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -46,6 +53,21 @@ class DocumentServiceImplTest {
     @Mock
     private QuizRepository quizRepository;
 
+    @Mock
+    private TextAnalysisService textAnalysisService;
+
+    @Mock
+    private QuizViewCache quizViewCache;
+
+    @Mock
+    private CollectionSummaryCache collectionSummaryCache;
+
+    @Mock
+    private UserProgressRepository userProgressRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DocumentServiceImpl documentService;
 
@@ -252,6 +274,7 @@ class DocumentServiceImplTest {
     void deleteDocument_WhenExists_ShouldDeleteSuccessfully() {
         // Given
         when(documentRepository.findById(1L)).thenReturn(Optional.of(testDocument));
+        when(userProgressRepository.findUserIdsByDocumentId(1L)).thenReturn(List.of(4L));
 
         // When
         documentService.deleteDocument(1L);
@@ -259,6 +282,12 @@ class DocumentServiceImplTest {
         // Then
         verify(documentRepository, times(1)).findById(1L);
         verify(documentRepository, times(1)).deleteById(1L);
+
+        // Attempts on the document's quizzes went with it, so the owner's rollup is rebuilt
+        ArgumentCaptor<UserProgressChangedEvent> event = ArgumentCaptor.forClass(UserProgressChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(4L, event.getValue().getUserId());
+        assertNull(event.getValue().getNewAttempt());
     }
 
     @Test
@@ -273,68 +302,90 @@ class DocumentServiceImplTest {
     }
 
     @Test
-    void updateDocumentCollection_WithValidCollection_ShouldUpdateSuccessfully() {
+    void removeDocumentFromCollection_ShouldRemoveCollectionReference() {
         // Given
+        testDocument.setStudyCollection(testCollection);
         when(documentRepository.findById(1L)).thenReturn(Optional.of(testDocument));
-        when(studyCollectionRepository.findById(1L)).thenReturn(Optional.of(testCollection));
         when(documentRepository.save(any(Document.class))).thenReturn(testDocument);
-        when(quizRepository.findByDocumentId(1L)).thenReturn(Arrays.asList());
+        when(quizRepository.findIdsByDocumentIdIn(List.of(1L))).thenReturn(List.of(5L));
+        when(quizRepository.findCollectionIdsByDocumentIdIn(List.of(1L))).thenReturn(List.of(1L));
 
         // When
-        Document result = documentService.updateDocumentCollection(1L, 1L);
+        Document result = documentService.removeDocumentFromCollection(1L);
 
         // Then
         assertNotNull(result);
+        assertNull(testDocument.getStudyCollection());
         verify(documentRepository, times(1)).save(any(Document.class));
-        verify(quizRepository, times(1)).findByDocumentId(1L);
+        verify(quizRepository, times(1)).updateCollectionByDocumentIdIn(List.of(1L), null);
+        verify(collectionSummaryCache).evict(1L);
     }
 
     @Test
-    void updateDocumentCollection_WithNullCollection_ShouldRemoveCollection() {
+    void moveDocumentsToCollection_ShouldUpdateAllDocumentsAndQuizzesInBulk() {
         // Given
-        when(documentRepository.findById(1L)).thenReturn(Optional.of(testDocument));
-        when(documentRepository.save(any(Document.class))).thenReturn(testDocument);
-        when(quizRepository.findByDocumentId(1L)).thenReturn(Arrays.asList());
+        List<Long> documentIds = List.of(1L, 2L, 3L);
+        Set<Long> idSet = new LinkedHashSet<>(documentIds);
+        when(documentRepository.findIdsByIdInAndUserId(idSet, 1L)).thenReturn(documentIds);
+        when(studyCollectionRepository.findById(1L)).thenReturn(Optional.of(testCollection));
+        when(documentRepository.findCollectionIdsByIdIn(idSet)).thenReturn(List.of(9L));
+        when(documentRepository.updateCollectionByIdIn(idSet, testCollection)).thenReturn(3);
+        when(quizRepository.findIdsByDocumentIdIn(idSet)).thenReturn(List.of(10L, 11L));
+        when(quizRepository.findCollectionIdsByDocumentIdIn(idSet)).thenReturn(List.of(9L));
+        when(quizRepository.updateCollectionByDocumentIdIn(idSet, testCollection)).thenReturn(2);
 
         // When
-        Document result = documentService.updateDocumentCollection(1L, null);
+        BulkCollectionUpdateResult result = documentService.moveDocumentsToCollection(documentIds, 1L, 1L);
 
         // Then
-        assertNotNull(result);
-        verify(documentRepository, times(1)).save(any(Document.class));
+        assertEquals(3, result.getDocumentsUpdated());
+        assertEquals(2, result.getQuizzesUpdated());
+        verify(documentRepository, never()).findById(anyLong());
+        verify(documentRepository, never()).save(any(Document.class));
+        verify(collectionSummaryCache, atLeastOnce()).evict(9L);
+        verify(collectionSummaryCache, atLeastOnce()).evict(1L);
+        verify(quizViewCache).evict(10L);
     }
 
     @Test
-    void updateDocumentCollection_WithUnauthorizedCollection_ShouldThrowException() {
+    void moveDocumentsToCollection_WithForeignDocument_ShouldChangeNothing() {
+        // Given
+        List<Long> documentIds = List.of(1L, 2L);
+        when(documentRepository.findIdsByIdInAndUserId(new LinkedHashSet<>(documentIds), 1L)).thenReturn(List.of(1L));
+        when(documentRepository.existsById(2L)).thenReturn(true);
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> documentService.moveDocumentsToCollection(documentIds, 1L, 1L));
+        assertTrue(exception.getMessage().startsWith("Access denied"));
+        verify(documentRepository, never()).updateCollectionByIdIn(any(), any());
+        verify(quizRepository, never()).updateCollectionByDocumentIdIn(any(), any());
+    }
+
+    @Test
+    void getDocumentsPageByUserId_WithInvalidCursor_ShouldThrowWithoutQuerying() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> documentService.getDocumentsPageByUserId(1L, "bm90LWEtY3Vyc29y", 20));
+        assertEquals("Invalid cursor", exception.getMessage());
+        verifyNoInteractions(documentRepository);
+    }
+
+    @Test
+    void moveDocumentsToCollection_WithForeignCollection_ShouldChangeNothing() {
         // Given
         User otherUser = new User();
         otherUser.setId(2L);
         testCollection.setUser(otherUser);
 
-        when(documentRepository.findById(1L)).thenReturn(Optional.of(testDocument));
+        when(documentRepository.findIdsByIdInAndUserId(new LinkedHashSet<>(List.of(1L)), 1L)).thenReturn(List.of(1L));
         when(studyCollectionRepository.findById(1L)).thenReturn(Optional.of(testCollection));
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class,
-                () -> documentService.updateDocumentCollection(1L, 1L));
+                () -> documentService.moveDocumentsToCollection(List.of(1L), 1L, 1L));
         assertEquals("Access denied: Collection does not belong to the document owner",
                 exception.getMessage());
+        verify(documentRepository, never()).updateCollectionByIdIn(any(), any());
     }
-
-    @Test
-    void removeDocumentFromCollection_ShouldRemoveCollectionReference() {
-        // Given
-        testDocument.setStudyCollection(testCollection);
-        when(documentRepository.findById(1L)).thenReturn(Optional.of(testDocument));
-        when(documentRepository.save(any(Document.class))).thenReturn(testDocument);
-        when(quizRepository.findByDocumentId(1L)).thenReturn(Arrays.asList());
-
-        // When
-        Document result = documentService.removeDocumentFromCollection(1L);
-
-        // Then
-        assertNotNull(result);
-        verify(documentRepository, times(1)).save(any(Document.class));
-        verify(quizRepository, times(1)).findByDocumentId(1L);
-    }
-}
\ No newline at end of file
+}
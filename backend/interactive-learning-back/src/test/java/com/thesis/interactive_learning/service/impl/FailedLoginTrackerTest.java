@@ -0,0 +1,150 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.repository.AuditLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FailedLoginTrackerTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    private MutableClock clock;
+    private FailedLoginTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T10:00:00Z"));
+        tracker = new FailedLoginTracker(auditLogRepository, clock);
+    }
+
+    @Test
+    void recordFailure_ShouldCountByIpAndUsernameSeparately() {
+        // Given
+        tracker.recordFailure("10.0.0.1", "alice");
+        tracker.recordFailure("10.0.0.1", "bob");
+        tracker.recordFailure("10.0.0.2", "alice");
+
+        // When & Then
+        assertEquals(2, tracker.countByIp("10.0.0.1"));
+        assertEquals(1, tracker.countByIp("10.0.0.2"));
+        assertEquals(2, tracker.countByUsername("alice"));
+        assertEquals(0, tracker.countByUsername("carol"));
+        assertEquals(0, tracker.countByIp(null));
+    }
+
+    @Test
+    void countByIp_ShouldForgetFailuresOutsideTheWindow() {
+        // Given
+        tracker.recordFailure("10.0.0.1", "alice");
+        clock.advance(Duration.ofMinutes(30));
+        tracker.recordFailure("10.0.0.1", "alice");
+
+        // When
+        clock.advance(Duration.ofMinutes(40));
+
+        // Then
+        assertEquals(1, tracker.countByIp("10.0.0.1"));
+
+        // When
+        clock.advance(Duration.ofMinutes(40));
+
+        // Then
+        assertEquals(0, tracker.countByIp("10.0.0.1"));
+        tracker.evictExpired();
+        assertEquals(0, tracker.countByUsername("alice"));
+    }
+
+    @Test
+    void run_ShouldRebuildWindowsFromRecentAuditEntries() {
+        // Given
+        LocalDateTime now = LocalDateTime.now(clock);
+        when(auditLogRepository.findFailedLoginsSince(now.minusHours(1))).thenReturn(List.of(
+                new Object[]{now.minusMinutes(50), "10.0.0.1", "alice"},
+                new Object[]{now.minusMinutes(5), "10.0.0.1", null}));
+
+        // When
+        tracker.run(null);
+
+        // Then
+        assertEquals(2, tracker.countByIp("10.0.0.1"));
+        assertEquals(1, tracker.countByUsername("alice"));
+    }
+
+    @Test
+    void recordFailure_WhenFull_ShouldNotTrackNewKeysUntilSweep() {
+        // Given
+        tracker = new FailedLoginTracker(auditLogRepository, clock, 2);
+        tracker.recordFailure("10.0.0.1", null);
+        tracker.recordFailure("10.0.0.2", null);
+
+        // When
+        tracker.recordFailure("10.0.0.3", null);
+        tracker.recordFailure("10.0.0.1", null);
+
+        // Then
+        assertEquals(0, tracker.countByIp("10.0.0.3"));
+        assertEquals(2, tracker.countByIp("10.0.0.1"));
+    }
+
+    @Test
+    void evictExpired_WhenFull_ShouldShedLeastRecentWindowsBelowThreshold() {
+        // Given
+        tracker = new FailedLoginTracker(auditLogRepository, clock, 10);
+        for (int i = 0; i < FailedLoginTracker.LOCK_THRESHOLD; i++) {
+            tracker.recordFailure("10.0.0.99", null);
+        }
+        for (int i = 1; i <= 9; i++) {
+            clock.advance(Duration.ofSeconds(1));
+            tracker.recordFailure("10.0.0." + i, null);
+        }
+
+        // When
+        tracker.evictExpired();
+        tracker.recordFailure("10.0.0.100", null);
+
+        // Then
+        assertEquals(FailedLoginTracker.LOCK_THRESHOLD, tracker.countByIp("10.0.0.99"));
+        assertEquals(0, tracker.countByIp("10.0.0.1"));
+        assertEquals(1, tracker.countByIp("10.0.0.2"));
+        assertEquals(1, tracker.countByIp("10.0.0.100"));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -86,10 +86,10 @@ class QuestionGenerationServiceImplTest {
         when(documentRepository.findById(1L)).thenReturn(Optional.of(testDocument));
         when(studyCollectionRepository.findById(1L)).thenReturn(Optional.of(testCollection));
         when(documentService.extractStructuredTextFromPdf(1L)).thenReturn(structuredText);
-        when(aiQuizService.generateAIQuestions(anyString(), eq(5), eq("MULTIPLE_CHOICE"), eq(2), eq(true)))
+        when(aiQuizService.generateAIQuestions(anyString(), eq(5), eq("MULTIPLE_CHOICE"), eq(2), eq(true), eq("en")))
                 .thenReturn(Arrays.asList(testQuestion));
         when(quizRepository.save(any(Quiz.class))).thenReturn(testQuiz);
-        when(questionRepository.save(any(Question.class))).thenReturn(testQuestion);
+        when(questionRepository.insertAllInBatch(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         Quiz result = questionGenerationService.generateQuizFromDocument(
@@ -100,9 +100,9 @@ class QuestionGenerationServiceImplTest {
         verify(documentRepository, times(1)).findById(1L);
         verify(studyCollectionRepository, times(1)).findById(1L);
         verify(documentService, times(1)).extractStructuredTextFromPdf(1L);
-        verify(aiQuizService, times(1)).generateAIQuestions(anyString(), eq(5), eq("MULTIPLE_CHOICE"), eq(2), eq(true));
+        verify(aiQuizService, times(1)).generateAIQuestions(anyString(), eq(5), eq("MULTIPLE_CHOICE"), eq(2), eq(true), eq("en"));
         verify(quizRepository, times(1)).save(any(Quiz.class));
-        verify(questionRepository, times(1)).save(any(Question.class));
+        verify(questionRepository, times(1)).insertAllInBatch(anyList());
     }
 
     @Test
@@ -115,14 +115,14 @@ class QuestionGenerationServiceImplTest {
                 "It helps solve complex problems.",
                 "AI is the future of technology."
         ));
-        when(textAnalysisService.extractKeyTerms(anyString(), anyInt())).thenReturn(Map.of(
+        when(textAnalysisService.extractKeyTerms(anyString(), anyInt(), anyString())).thenReturn(Map.of(
                 "machine", 0.1,
                 "learning", 0.1,
                 "artificial", 0.08,
                 "intelligence", 0.08
         ));
         when(quizRepository.save(any(Quiz.class))).thenReturn(testQuiz);
-        when(questionRepository.save(any(Question.class))).thenReturn(testQuestion);
+        when(questionRepository.insertAllInBatch(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         Quiz result = questionGenerationService.generateQuizFromDocument(
@@ -132,8 +132,8 @@ class QuestionGenerationServiceImplTest {
         assertNotNull(result);
         verify(documentService, times(1)).extractStructuredTextFromPdf(1L);
         verify(textAnalysisService, times(1)).extractSentences(anyString());
-        verify(textAnalysisService, times(1)).extractKeyTerms(anyString(), anyInt());
-        verify(aiQuizService, never()).generateAIQuestions(anyString(), anyInt(), anyString(), anyInt(), anyBoolean());
+        verify(textAnalysisService, times(1)).extractKeyTerms(anyString(), anyInt(), anyString());
+        verify(aiQuizService, never()).generateAIQuestions(anyString(), anyInt(), anyString(), anyInt(), anyBoolean(), anyString());
     }
 
     @Test
@@ -165,7 +165,7 @@ class QuestionGenerationServiceImplTest {
     void generateQuestionsFromText_WithAI_ShouldReturnAIQuestions() {
         // Given
         String text = "Machine learning is a subset of artificial intelligence.";
-        when(aiQuizService.generateAIQuestions(text, 3, "TRUE_FALSE", 1, false))
+        when(aiQuizService.generateAIQuestions(text, 3, "TRUE_FALSE", 1, false, "en"))
                 .thenReturn(Arrays.asList(testQuestion));
 
         // When
@@ -175,19 +175,19 @@ class QuestionGenerationServiceImplTest {
         // Then
         assertEquals(1, result.size());
         assertEquals(testQuestion.getId(), result.get(0).getId());
-        verify(aiQuizService, times(1)).generateAIQuestions(text, 3, "TRUE_FALSE", 1, false);
+        verify(aiQuizService, times(1)).generateAIQuestions(text, 3, "TRUE_FALSE", 1, false, "en");
     }
 
     @Test
     void generateQuestionsFromText_WhenAIFails_ShouldFallbackToBasic() {
         // Given
         String text = "Machine learning is important for modern applications.";
-        when(aiQuizService.generateAIQuestions(anyString(), anyInt(), anyString(), anyInt(), anyBoolean()))
+        when(aiQuizService.generateAIQuestions(anyString(), anyInt(), anyString(), anyInt(), anyBoolean(), anyString()))
                 .thenThrow(new RuntimeException("AI service error"));
         when(textAnalysisService.extractSentences(text)).thenReturn(Arrays.asList(
                 "Machine learning is important for modern applications."
         ));
-        when(textAnalysisService.extractKeyTerms(text, 30)).thenReturn(Map.of(
+        when(textAnalysisService.extractKeyTerms(text, 30, "en")).thenReturn(Map.of(
                 "machine", 0.1,
                 "learning", 0.1
         ));
@@ -198,9 +198,9 @@ class QuestionGenerationServiceImplTest {
 
         // Then
         // Should fallback to basic generation
-        verify(aiQuizService, times(1)).generateAIQuestions(anyString(), anyInt(), anyString(), anyInt(), anyBoolean());
+        verify(aiQuizService, times(1)).generateAIQuestions(anyString(), anyInt(), anyString(), anyInt(), anyBoolean(), anyString());
         verify(textAnalysisService, times(1)).extractSentences(text);
-        verify(textAnalysisService, times(1)).extractKeyTerms(text, 30);
+        verify(textAnalysisService, times(1)).extractKeyTerms(text, 30, "en");
     }
 
     @Test
@@ -212,7 +212,7 @@ class QuestionGenerationServiceImplTest {
                 "Machine learning helps solve problems.",
                 "Deep learning uses neural networks."
         ));
-        when(textAnalysisService.extractKeyTerms(text, 30)).thenReturn(Map.of(
+        when(textAnalysisService.extractKeyTerms(text, 30, "en")).thenReturn(Map.of(
                 "artificial", 0.15,
                 "intelligence", 0.12,
                 "machine", 0.10,
@@ -226,8 +226,8 @@ class QuestionGenerationServiceImplTest {
         // Then
         assertNotNull(result);
         verify(textAnalysisService, times(1)).extractSentences(text);
-        verify(textAnalysisService, times(1)).extractKeyTerms(text, 30);
-        verify(aiQuizService, never()).generateAIQuestions(anyString(), anyInt(), anyString(), anyInt(), anyBoolean());
+        verify(textAnalysisService, times(1)).extractKeyTerms(text, 30, "en");
+        verify(aiQuizService, never()).generateAIQuestions(anyString(), anyInt(), anyString(), anyInt(), anyBoolean(), anyString());
     }
 
     @Test
@@ -239,7 +239,7 @@ class QuestionGenerationServiceImplTest {
                 "Innovation drives progress.",
                 "Digital transformation is key."
         ));
-        when(textAnalysisService.extractKeyTerms(text, 30)).thenReturn(Map.of(
+        when(textAnalysisService.extractKeyTerms(text, 30, "en")).thenReturn(Map.of(
                 "technology", 0.15,
                 "innovation", 0.12,
                 "digital", 0.10
@@ -255,7 +255,7 @@ class QuestionGenerationServiceImplTest {
         // Then
         assertNotNull(result);
         verify(textAnalysisService, times(1)).extractSentences(text);
-        verify(textAnalysisService, times(1)).extractKeyTerms(text, 30);
+        verify(textAnalysisService, times(1)).extractKeyTerms(text, 30, "en");
         verify(textAnalysisService, times(1)).extractDefinitions(text);
     }
 
@@ -267,7 +267,7 @@ class QuestionGenerationServiceImplTest {
         when(textAnalysisService.extractSentences(anyString())).thenReturn(Arrays.asList(
                 "Legacy method test sentence."
         ));
-        when(textAnalysisService.extractKeyTerms(anyString(), anyInt())).thenReturn(Map.of(
+        when(textAnalysisService.extractKeyTerms(anyString(), anyInt(), anyString())).thenReturn(Map.of(
                 "legacy", 0.1,
                 "method", 0.1
         ));
@@ -281,7 +281,7 @@ class QuestionGenerationServiceImplTest {
         assertNotNull(result);
         verify(documentService, times(1)).extractStructuredTextFromPdf(1L);
         // Should use basic generation (useAI = false by default in legacy method)
-        verify(aiQuizService, never()).generateAIQuestions(anyString(), anyInt(), anyString(), anyInt(), anyBoolean());
+        verify(aiQuizService, never()).generateAIQuestions(anyString(), anyInt(), anyString(), anyInt(), anyBoolean(), anyString());
     }
 
     @Test
@@ -291,7 +291,7 @@ class QuestionGenerationServiceImplTest {
         when(textAnalysisService.extractSentences(text)).thenReturn(Arrays.asList(
                 "Legacy text for testing."
         ));
-        when(textAnalysisService.extractKeyTerms(text, 30)).thenReturn(Map.of(
+        when(textAnalysisService.extractKeyTerms(text, 30, "en")).thenReturn(Map.of(
                 "legacy", 0.1,
                 "text", 0.1
         ));
@@ -302,7 +302,7 @@ class QuestionGenerationServiceImplTest {
         // Then
         assertNotNull(result);
         verify(textAnalysisService, times(1)).extractSentences(text);
-        verify(textAnalysisService, times(1)).extractKeyTerms(text, 30);
-        verify(aiQuizService, never()).generateAIQuestions(anyString(), anyInt(), anyString(), anyInt(), anyBoolean());
+        verify(textAnalysisService, times(1)).extractKeyTerms(text, 30, "en");
+        verify(aiQuizService, never()).generateAIQuestions(anyString(), anyInt(), anyString(), anyInt(), anyBoolean(), anyString());
     }
 }
\ No newline at end of file
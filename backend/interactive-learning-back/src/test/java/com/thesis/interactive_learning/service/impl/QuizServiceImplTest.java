@@ -0,0 +1,110 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.dto.KeysetCursor;
+import com.thesis.interactive_learning.dto.KeysetPage;
+import com.thesis.interactive_learning.model.Quiz;
+import com.thesis.interactive_learning.repository.DocumentRepository;
+import com.thesis.interactive_learning.repository.QuizRepository;
+import com.thesis.interactive_learning.repository.StudyCollectionRepository;
+import com.thesis.interactive_learning.repository.UserProgressRepository;
+import com.thesis.interactive_learning.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuizServiceImplTest {
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private UserProgressRepository userProgressRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private StudyCollectionRepository studyCollectionRepository;
+
+    @Mock
+    private QuizViewCache quizViewCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private QuizServiceImpl quizService;
+
+    @Test
+    void getQuizzesPageByUserId_ShouldReturnCursorWhenMoreRowsExist() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 14, 12, 0);
+        Quiz newest = quiz(3L, createdAt);
+        Quiz tied = quiz(2L, createdAt);
+        Quiz extra = quiz(1L, createdAt.minusHours(1));
+        when(quizRepository.findPageByDocumentUserId(1L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(newest, tied, extra));
+
+        // When
+        KeysetPage<Quiz> page = quizService.getQuizzesPageByUserId(1L, null, 2);
+
+        // Then
+        assertEquals(List.of(newest, tied), page.getItems());
+        assertTrue(page.isHasMore());
+        KeysetCursor cursor = KeysetCursor.decode(page.getNextCursor());
+        assertEquals(2L, cursor.getId());
+        assertEquals(createdAt, cursor.getTimestamp());
+    }
+
+    @Test
+    void getQuizzesPageByUserId_WithCursor_ShouldSeekPastIt() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 14, 12, 0);
+        String cursor = new KeysetCursor(createdAt, 2L).encode();
+        Quiz last = quiz(1L, createdAt.minusHours(1));
+        when(quizRepository.findPageByDocumentUserIdBefore(1L, createdAt, 2L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(last));
+
+        // When
+        KeysetPage<Quiz> page = quizService.getQuizzesPageByUserId(1L, cursor, 2);
+
+        // Then
+        assertEquals(List.of(last), page.getItems());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+        verify(quizRepository, never()).findPageByDocumentUserId(anyLong(), any());
+    }
+
+    @Test
+    void getQuizzesPageByUserId_WithInvalidCursor_ShouldThrowWithoutQuerying() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> quizService.getQuizzesPageByUserId(1L, "not-a-cursor", 2));
+        assertEquals("Invalid cursor", exception.getMessage());
+        verifyNoInteractions(quizRepository);
+    }
+
+    private static Quiz quiz(Long id, LocalDateTime createdAt) {
+        Quiz quiz = new Quiz();
+        quiz.setId(id);
+        quiz.setTitle("Quiz " + id);
+        quiz.setCreatedAt(createdAt);
+        return quiz;
+    }
+}
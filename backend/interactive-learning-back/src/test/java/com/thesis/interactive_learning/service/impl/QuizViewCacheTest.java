@@ -0,0 +1,156 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.dto.QuizView;
+import com.thesis.interactive_learning.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuizViewCacheTest {
+
+    private MutableClock clock;
+    private QuizViewCache cache;
+    private Quiz quiz;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T10:00:00Z"));
+        cache = new QuizViewCache(null, Duration.ofMinutes(10), clock);
+
+        User owner = new User();
+        owner.setId(7L);
+
+        Document document = new Document();
+        document.setId(3L);
+        document.setTitle("Biology");
+        document.setUser(owner);
+
+        quiz = new Quiz();
+        quiz.setId(1L);
+        quiz.setTitle("Cells");
+        quiz.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0));
+        quiz.setDocument(document);
+        quiz.getQuestions().add(question(12L, "What is a ribosome?"));
+        quiz.getQuestions().add(question(5L, "What is a cell?"));
+    }
+
+    @Test
+    void from_ShouldOrderQuestionsAndResolveOwner() {
+        // When
+        QuizView view = QuizView.from(quiz);
+
+        // Then
+        assertEquals(7L, view.getOwnerUserId());
+        assertEquals(3L, view.getDocumentId());
+        assertEquals(5L, view.getQuestions().get(0).getId());
+        assertEquals(12L, view.getQuestions().get(1).getId());
+        assertNotEquals(view.getEtag(), view.getQuestionsEtag());
+    }
+
+    @Test
+    void from_ShouldChangeEtagOnlyWhenContentChanges() {
+        // Given
+        String etag = QuizView.from(quiz).getEtag();
+
+        // When
+        String unchanged = QuizView.from(quiz).getEtag();
+        quiz.getQuestions().iterator().next().setExplanation("Edited");
+        String changed = QuizView.from(quiz).getEtag();
+
+        // Then
+        assertEquals(etag, unchanged);
+        assertNotEquals(etag, changed);
+    }
+
+    @Test
+    void get_ShouldExpireEntriesAfterTtl() {
+        // Given
+        QuizView view = QuizView.from(quiz);
+        cache.put(1L, view);
+
+        // When & Then
+        assertSame(view, cache.get(1L));
+        clock.advance(Duration.ofMinutes(11));
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void evict_ShouldRemoveEntry() {
+        // Given
+        cache.put(1L, QuizView.from(quiz));
+
+        // When
+        cache.evict(1L);
+
+        // Then
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void evictFor_WhenCollectionIsRenamed_ShouldEvictOnlyQuizzesShowingIt() {
+        // Given
+        StudyCollection collection = new StudyCollection();
+        collection.setId(4L);
+        collection.setName("Semester 1");
+        quiz.setStudyCollection(collection);
+        QuizView view = QuizView.from(quiz);
+        cache.put(1L, view);
+
+        Quiz other = new Quiz();
+        other.setId(2L);
+        other.setTitle("Genetics");
+        QuizView otherView = QuizView.from(other);
+        cache.put(2L, otherView);
+
+        // When
+        collection.setName("Semester 2");
+        cache.evictFor(collection);
+
+        // Then
+        assertNull(cache.get(1L));
+        assertSame(otherView, cache.get(2L));
+        assertNotEquals(view.getEtag(), QuizView.from(quiz).getEtag());
+    }
+
+    private Question question(Long id, String text) {
+        Question question = new Question();
+        question.setId(id);
+        question.setQuestionText(text);
+        question.setOptions(Arrays.asList("A", "B", "C", "D"));
+        question.setCorrectOptionIndex(0);
+        question.setQuestionType("MULTIPLE_CHOICE");
+        return question;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
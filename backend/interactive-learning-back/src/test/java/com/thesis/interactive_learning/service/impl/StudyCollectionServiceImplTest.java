@@ -1,5 +1,6 @@
 package com.thesis.interactive_learning.service.impl;
 
+import com.thesis.interactive_learning.dto.CollectionSummary;
 import com.thesis.interactive_learning.model.Document;
 import com.thesis.interactive_learning.model.Quiz;
 import com.thesis.interactive_learning.model.StudyCollection;
@@ -7,13 +8,18 @@ import com.thesis.interactive_learning.model.User;
 import com.thesis.interactive_learning.repository.DocumentRepository;
 import com.thesis.interactive_learning.repository.QuizRepository;
 import com.thesis.interactive_learning.repository.StudyCollectionRepository;
+import com.thesis.interactive_learning.repository.UserProgressRepository;
 import com.thesis.interactive_learning.repository.UserRepository;
+import com.thesis.interactive_learning.service.UserProgressChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
@@ -22,6 +28,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -40,6 +47,18 @@ class StudyCollectionServiceImplTest {
     @Mock
     private QuizRepository quizRepository;
 
+    @Spy
+    private CollectionSummaryCache collectionSummaryCache = new CollectionSummaryCache(null);
+
+    @Mock
+    private QuizViewCache quizViewCache;
+
+    @Mock
+    private UserProgressRepository userProgressRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private StudyCollectionServiceImpl studyCollectionService;
 
@@ -180,8 +199,9 @@ class StudyCollectionServiceImplTest {
     @Test
     void getCollectionsByUserId_ShouldReturnUserCollections() {
         // Given
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(studyCollectionRepository.findByUser(testUser)).thenReturn(Arrays.asList(testCollection));
+        when(studyCollectionRepository.findByUserId(1L)).thenReturn(Arrays.asList(testCollection));
+        when(studyCollectionRepository.summarizeByIds(List.of(1L)))
+                .thenReturn(List.of(new CollectionSummary(1L, 2L, 3L, 2048L, 10L)));
 
         // When
         List<StudyCollection> result = studyCollectionService.getCollectionsByUserId(1L);
@@ -189,14 +209,41 @@ class StudyCollectionServiceImplTest {
         // Then
         assertEquals(1, result.size());
         assertEquals(testCollection.getId(), result.get(0).getId());
-        verify(userRepository, times(1)).findById(1L);
-        verify(studyCollectionRepository, times(1)).findByUser(testUser);
+        assertEquals(1L, result.get(0).getUserId());
+        assertEquals(2, result.get(0).getDocumentCount());
+        assertEquals(3, result.get(0).getQuizCount());
+        verify(studyCollectionRepository, times(1)).findByUserId(1L);
+        verify(userRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void getCollectionsByUserId_ShouldServeRepeatedListingsFromSummaryCache() {
+        // Given
+        StudyCollection collection2 = new StudyCollection();
+        collection2.setId(2L);
+        collection2.setUser(testUser);
+
+        when(studyCollectionRepository.findByUserId(1L)).thenReturn(Arrays.asList(testCollection, collection2));
+        when(studyCollectionRepository.summarizeByIds(anyCollection()))
+                .thenReturn(List.of(new CollectionSummary(1L, 1L, 0L, 0L, 0L)));
+
+        // When
+        studyCollectionService.getCollectionsByUserId(1L);
+        List<StudyCollection> result = studyCollectionService.getCollectionsByUserId(1L);
+
+        // Then
+        assertEquals(1, result.get(0).getDocumentCount());
+        assertEquals(0, result.get(1).getDocumentCount());
+        verify(studyCollectionRepository, times(1)).summarizeByIds(List.of(1L, 2L));
+        verify(studyCollectionRepository, times(1)).summarizeByIds(List.of(2L));
+        verify(documentRepository, never()).findByStudyCollectionId(anyLong());
     }
 
     @Test
     void getCollectionsByUserId_WhenUserNotExists_ShouldThrowException() {
         // Given
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(studyCollectionRepository.findByUserId(anyLong())).thenReturn(List.of());
+        when(userRepository.existsById(anyLong())).thenReturn(false);
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class,
@@ -208,23 +255,28 @@ class StudyCollectionServiceImplTest {
     void deleteCollection_ShouldRemoveReferencesAndDelete() {
         // Given
         when(studyCollectionRepository.findById(1L)).thenReturn(Optional.of(testCollection));
-        when(documentRepository.findByStudyCollectionId(1L)).thenReturn(Arrays.asList(testDocument));
-        when(quizRepository.findByStudyCollectionId(1L)).thenReturn(Arrays.asList(testQuiz));
+        when(quizRepository.findIdsByStudyCollectionId(1L)).thenReturn(List.of(testQuiz.getId()));
+        when(documentRepository.clearCollection(1L)).thenReturn(1);
+        when(quizRepository.clearCollection(1L)).thenReturn(1);
+        when(userProgressRepository.findUserIdsByQuizIds(List.of(testQuiz.getId()))).thenReturn(List.of(4L));
 
         // When
         studyCollectionService.deleteCollection(1L);
 
         // Then
         verify(studyCollectionRepository, times(1)).findById(1L);
-        verify(documentRepository, times(1)).findByStudyCollectionId(1L);
-        verify(quizRepository, times(1)).findByStudyCollectionId(1L);
-        verify(documentRepository, times(1)).save(testDocument);
-        verify(quizRepository, times(1)).save(testQuiz);
+        verify(documentRepository, times(1)).clearCollection(1L);
+        verify(quizRepository, times(1)).clearCollection(1L);
+        verify(documentRepository, never()).save(any());
+        verify(quizRepository, never()).save(any());
         verify(studyCollectionRepository, times(1)).deleteById(1L);
 
-        // Verify references were removed
-        assertNull(testDocument.getStudyCollection());
-        assertNull(testQuiz.getStudyCollection());
+        // Quiz views still naming the deleted collection are evicted
+        verify(quizViewCache, times(1)).evict(testQuiz.getId());
+
+        ArgumentCaptor<UserProgressChangedEvent> event = ArgumentCaptor.forClass(UserProgressChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(4L, event.getValue().getUserId());
     }
 
     @Test
@@ -242,8 +294,8 @@ class StudyCollectionServiceImplTest {
     void getCollectionStats_ShouldReturnComprehensiveStats() {
         // Given
         when(studyCollectionRepository.findById(1L)).thenReturn(Optional.of(testCollection));
-        when(documentRepository.findByStudyCollectionId(1L)).thenReturn(Arrays.asList(testDocument));
-        when(quizRepository.findByStudyCollectionId(1L)).thenReturn(Arrays.asList(testQuiz));
+        when(studyCollectionRepository.summarizeByIds(List.of(1L)))
+                .thenReturn(List.of(new CollectionSummary(1L, 1L, 1L, 1024L, 5L)));
 
         // When
         Map<String, Object> stats = studyCollectionService.getCollectionStats(1L);
@@ -262,8 +314,9 @@ class StudyCollectionServiceImplTest {
         assertEquals(5.0, stats.get("averagePagesPerDocument"));
 
         verify(studyCollectionRepository, times(1)).findById(1L);
-        verify(documentRepository, times(2)).findByStudyCollectionId(1L); // Called twice
-        verify(quizRepository, times(1)).findByStudyCollectionId(1L);
+        verify(studyCollectionRepository, times(1)).summarizeByIds(List.of(1L));
+        verify(documentRepository, never()).findByStudyCollectionId(anyLong());
+        verify(quizRepository, never()).findByStudyCollectionId(anyLong());
     }
 
     @Test
@@ -281,8 +334,7 @@ class StudyCollectionServiceImplTest {
     void getCollectionStats_WithNoDocuments_ShouldReturnZeroStats() {
         // Given
         when(studyCollectionRepository.findById(1L)).thenReturn(Optional.of(testCollection));
-        when(documentRepository.findByStudyCollectionId(1L)).thenReturn(Arrays.asList());
-        when(quizRepository.findByStudyCollectionId(1L)).thenReturn(Arrays.asList());
+        when(studyCollectionRepository.summarizeByIds(List.of(1L))).thenReturn(List.of());
 
         // When
         Map<String, Object> stats = studyCollectionService.getCollectionStats(1L);
@@ -1,5 +1,6 @@
 package com.thesis.interactive_learning.service.impl;
 
+import com.thesis.interactive_learning.dto.TextAnalysisResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -149,6 +150,86 @@ class TextAnalysisServiceImplTest {
         assertTrue(definitions.isEmpty());
     }
 
+    @Test
+    void extractDefinitions_ShouldStripArticlesAndHandleMultiWordKeywords() {
+        // Given
+        String text = "The Golgi apparatus is defined as the organelle that packages proteins. " +
+                "Cell theory refers to the principle that all living things are made of cells. " +
+                "It is a very important idea.";
+
+        // When
+        Map<String, String> definitions = textAnalysisService.extractDefinitions(text);
+
+        // Then
+        assertEquals(2, definitions.size());
+        assertEquals("the organelle that packages proteins", definitions.get("Golgi apparatus"));
+        assertEquals("the principle that all living things are made of cells", definitions.get("Cell theory"));
+    }
+
+    @Test
+    void extractDefinitions_ShouldRequireOnlyTheFirstSubjectWordToBeCapitalised() {
+        // Given
+        String text = "Active membrane transport is the movement of molecules against a gradient. " +
+                "cell division is how cells multiply.";
+
+        // When
+        Map<String, String> definitions = textAnalysisService.extractDefinitions(text);
+
+        // Then
+        assertEquals(Map.of("Active membrane transport", "the movement of molecules against a gradient"),
+                definitions);
+    }
+
+    @Test
+    void extractDefinitions_WithConsumer_ShouldEmitDefinitionsInOrder() {
+        // Given
+        String text = "Osmosis is the diffusion of water. Mitosis means division of a nucleus. Trailing text is";
+        List<String> terms = new java.util.ArrayList<>();
+
+        // When
+        textAnalysisService.extractDefinitions(text, (term, definition) -> terms.add(term));
+
+        // Then
+        assertEquals(List.of("Osmosis", "Mitosis"), terms);
+    }
+
+    @Test
+    void extractDefinitions_WithLongUnpunctuatedText_ShouldSkipOversizedSentences() {
+        // Given
+        StringBuilder scanned = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            scanned.append("Cell Biology is the study of cells and their parts ");
+        }
+        scanned.append(". Enzymes are biological catalysts.");
+
+        // When
+        Map<String, String> definitions = assertTimeoutPreemptively(java.time.Duration.ofSeconds(2),
+                () -> textAnalysisService.extractDefinitions(scanned.toString()));
+
+        // Then
+        assertEquals(Map.of("Enzymes", "biological catalysts"), definitions);
+    }
+
+    @Test
+    void analyzePages_ShouldMatchWholeTextAnalysisAcrossPageBreaks() {
+        // Given - sentences and words cut at page boundaries
+        List<String> pages = List.of(
+                "Machine learning is a subset of artificial intelli",
+                "gence. It involves algorithms that can learn from data. Deep learning is a type ",
+                "of machine learning that uses neural networks. Natural language processing is another important field in AI.");
+        String fullText = String.join("", pages);
+
+        // When
+        TextAnalysisResult result = textAnalysisService.analyzePages(pages.iterator(), 10, "en");
+
+        // Then
+        assertEquals(3, result.getPageCount());
+        assertEquals(textAnalysisService.extractSentences(fullText), result.getSentences());
+        assertEquals(textAnalysisService.calculateWordFrequency(fullText), result.getWordFrequency());
+        assertEquals(textAnalysisService.extractKeyTerms(fullText, 10), result.getKeyTerms());
+        assertEquals(textAnalysisService.extractDefinitions(fullText), result.getDefinitions());
+    }
+
     @Test
     void calculateWordFrequency_ShouldCountWordsCorrectly() {
         // Given
@@ -239,4 +320,33 @@ class TextAnalysisServiceImplTest {
         assertTrue(sentences.get(2).contains("Machine learning"));
         assertTrue(sentences.get(3).contains("Deep learning"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void detectLanguage_ShouldDistinguishEnglishAndAlbanian() {
+        // Given
+        String english = "Photosynthesis is the process by which green plants use sunlight to produce " +
+                "glucose from carbon dioxide and water. The energy is stored in chemical bonds.";
+        String albanian = "Fotosinteza është procesi me të cilin bimët e gjelbra përdorin dritën e diellit " +
+                "për të prodhuar glukozë nga dioksidi i karbonit dhe uji. Energjia ruhet në lidhjet kimike.";
+
+        // When & Then
+        assertEquals("en", textAnalysisService.detectLanguage(english));
+        assertEquals("sq", textAnalysisService.detectLanguage(albanian));
+        assertEquals("en", textAnalysisService.detectLanguage("Too short"));
+    }
+
+    @Test
+    void extractKeyTerms_WithAlbanianText_ShouldKeepDiacriticsAndSkipAlbanianStopWords() {
+        // Given
+        String albanian = "Qeliza është njësia bazë e jetës. Qeliza ka bërthamë dhe bërthamë e qelizës " +
+                "ruan informacionin gjenetik.";
+
+        // When
+        Map<String, Double> keyTerms = textAnalysisService.extractKeyTerms(albanian, 10, "sq");
+
+        // Then
+        assertTrue(keyTerms.containsKey("bërthamë"));
+        assertTrue(keyTerms.containsKey("qeliza"));
+        assertFalse(keyTerms.containsKey("është"));
+    }
+}
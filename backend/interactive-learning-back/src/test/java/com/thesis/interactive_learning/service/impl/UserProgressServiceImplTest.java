@@ -1,19 +1,32 @@
 package com.thesis.interactive_learning.service.impl;
 
+import com.thesis.interactive_learning.dto.KeysetCursor;
+import com.thesis.interactive_learning.dto.KeysetPage;
+import com.thesis.interactive_learning.dto.ProgressBucket;
+import com.thesis.interactive_learning.dto.QuizPerformanceSummary;
+import com.thesis.interactive_learning.dto.UserProgressSummary;
 import com.thesis.interactive_learning.model.Quiz;
 import com.thesis.interactive_learning.model.User;
 import com.thesis.interactive_learning.model.UserProgress;
 import com.thesis.interactive_learning.repository.QuizRepository;
 import com.thesis.interactive_learning.repository.UserProgressRepository;
 import com.thesis.interactive_learning.repository.UserRepository;
+import com.thesis.interactive_learning.service.UserProgressChangedEvent;
+import com.thesis.interactive_learning.service.UserStatsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +35,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +50,12 @@ class UserProgressServiceImplTest {
     @Mock
     private QuizRepository quizRepository;
 
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserProgressServiceImpl userProgressService;
 
@@ -87,6 +107,46 @@ class UserProgressServiceImplTest {
         verify(userProgressRepository, times(1)).save(newProgress);
     }
 
+    @Test
+    void saveUserProgress_ForNewAttempt_ShouldPublishAttemptForStatsRollup() {
+        // Given
+        UserProgress newProgress = new UserProgress();
+        newProgress.setUser(testUser);
+        newProgress.setQuiz(testQuiz);
+        newProgress.setTotalQuestions(5);
+        newProgress.setCorrectAnswers(4);
+
+        when(userProgressRepository.save(any(UserProgress.class))).thenAnswer(invocation -> {
+            UserProgress saved = invocation.getArgument(0);
+            saved.setId(2L);
+            return saved;
+        });
+
+        // When
+        userProgressService.saveUserProgress(newProgress);
+
+        // Then
+        ArgumentCaptor<UserProgressChangedEvent> event = ArgumentCaptor.forClass(UserProgressChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertEquals(1L, event.getValue().getUserId());
+        assertSame(newProgress, event.getValue().getNewAttempt());
+    }
+
+    @Test
+    void deleteUserProgress_ShouldRequestStatsRebuild() {
+        // Given
+        when(userProgressRepository.findById(1L)).thenReturn(Optional.of(testProgress));
+
+        // When
+        userProgressService.deleteUserProgress(1L);
+
+        // Then
+        ArgumentCaptor<UserProgressChangedEvent> event = ArgumentCaptor.forClass(UserProgressChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertEquals(1L, event.getValue().getUserId());
+        assertNull(event.getValue().getNewAttempt());
+    }
+
     @Test
     void saveUserProgress_WithZeroQuestions_ShouldNotCalculateAccuracy() {
         // Given
@@ -209,8 +269,11 @@ class UserProgressServiceImplTest {
     void getUserDashboard_ShouldReturnComprehensiveDashboard() {
         // Given
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(userProgressRepository.findByUserId(1L)).thenReturn(Arrays.asList(testProgress));
-        when(quizRepository.findByDocumentUserId(1L)).thenReturn(Arrays.asList(testQuiz));
+        when(userStatsService.getSummary(eq(1L), any(LocalDateTime.class))).thenReturn(
+                new UserProgressSummary(1L, 80.0, 80.0, 80.0, 10L, 8L, 120.0, 120L, 120L, 0L, 1L, 0L, 0L, 1L, 1L));
+        when(userStatsService.getDailyActivity(eq(1L), any(LocalDate.class))).thenReturn(
+                List.of(new ProgressBucket(LocalDate.now(), 1L, 80.0)));
+        when(quizRepository.countByDocumentUserId(1L)).thenReturn(1L);
 
         // When
         Map<String, Object> dashboard = userProgressService.getUserDashboard(1L);
@@ -227,10 +290,12 @@ class UserProgressServiceImplTest {
         assertEquals(120L, dashboard.get("averageCompletionTime"));
         assertEquals(1, dashboard.get("uniqueQuizzesCompleted"));
         assertEquals(1, dashboard.get("totalAvailableQuizzes"));
+        assertEquals(Map.of(LocalDate.now().toString(), 1L), dashboard.get("weeklyActivity"));
 
         verify(userRepository, times(1)).findById(1L);
-        verify(userProgressRepository, times(1)).findByUserId(1L);
-        verify(quizRepository, times(1)).findByDocumentUserId(1L);
+        verify(userStatsService, times(1)).getSummary(eq(1L), any(LocalDateTime.class));
+        verify(userProgressRepository, never()).findByUserId(anyLong());
+        verify(quizRepository, times(1)).countByDocumentUserId(1L);
     }
 
     @Test
@@ -248,8 +313,8 @@ class UserProgressServiceImplTest {
     void getUserDashboard_WithNoProgress_ShouldReturnDefaultValues() {
         // Given
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(userProgressRepository.findByUserId(1L)).thenReturn(Arrays.asList());
-        when(quizRepository.findByDocumentUserId(1L)).thenReturn(Arrays.asList());
+        when(userStatsService.getSummary(eq(1L), any(LocalDateTime.class))).thenReturn(emptySummary());
+        when(quizRepository.countByDocumentUserId(1L)).thenReturn(0L);
 
         // When
         Map<String, Object> dashboard = userProgressService.getUserDashboard(1L);
@@ -266,13 +331,15 @@ class UserProgressServiceImplTest {
     @Test
     void getUserStats_ShouldReturnDetailedStatistics() {
         // Given
-        UserProgress progress2 = new UserProgress();
-        progress2.setAccuracyPercentage(90.0);
-        progress2.setCompletionTimeSeconds(100L);
-        progress2.setQuiz(testQuiz);
+        String currentMonth = LocalDate.now().toString().substring(0, 7);
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(userProgressRepository.findByUserId(1L)).thenReturn(Arrays.asList(testProgress, progress2));
+        when(userStatsService.getSummary(eq(1L), any(LocalDateTime.class))).thenReturn(
+                new UserProgressSummary(2L, 85.0, 80.0, 90.0, 20L, 17L, 110.0, 100L, 120L, 1L, 1L, 0L, 0L, 2L, 1L));
+        when(userStatsService.getQuizPerformance(1L)).thenReturn(
+                List.of(new QuizPerformanceSummary("Test Quiz", 2L, 90.0, 85.0)));
+        when(userStatsService.getMonthlyProgress(eq(1L), any(YearMonth.class))).thenReturn(
+                List.of(new ProgressBucket(currentMonth, 2L, 85.0)));
 
         // When
         Map<String, Object> stats = userProgressService.getUserStats(1L);
@@ -292,13 +359,18 @@ class UserProgressServiceImplTest {
         Map<String, Object> quizPerformance = (Map<String, Object>) stats.get("quizPerformance");
         assertNotNull(quizPerformance);
         assertTrue(quizPerformance.containsKey("Test Quiz"));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> monthlyProgress = (Map<String, Object>) stats.get("monthlyProgress");
+        assertEquals(6, monthlyProgress.size());
+        assertEquals(Map.of("attempts", 2, "averageAccuracy", 85.0), monthlyProgress.get(currentMonth));
     }
 
     @Test
     void getUserStats_WithNoProgress_ShouldReturnNoDataFlag() {
         // Given
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(userProgressRepository.findByUserId(1L)).thenReturn(Arrays.asList());
+        when(userStatsService.getSummary(eq(1L), any(LocalDateTime.class))).thenReturn(emptySummary());
 
         // When
         Map<String, Object> stats = userProgressService.getUserStats(1L);
@@ -316,7 +388,7 @@ class UserProgressServiceImplTest {
         progress2.setCompletedAt(LocalDateTime.now().minusDays(1));
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(userProgressRepository.findByUserIdOrderByCompletedAtDesc(1L))
+        when(userProgressRepository.findPageByUserId(1L, PageRequest.of(0, 5)))
                 .thenReturn(Arrays.asList(testProgress, progress2));
 
         // When
@@ -327,7 +399,57 @@ class UserProgressServiceImplTest {
         assertEquals(testProgress.getId(), result.get(0).getId());
         assertEquals(progress2.getId(), result.get(1).getId());
         verify(userRepository, times(1)).findById(1L);
-        verify(userProgressRepository, times(1)).findByUserIdOrderByCompletedAtDesc(1L);
+        verify(userProgressRepository, times(1)).findPageByUserId(1L, PageRequest.of(0, 5));
+    }
+
+    @Test
+    void getUserProgressPage_ShouldReturnCursorWhenMoreRowsExist() {
+        // Given
+        UserProgress progress2 = new UserProgress();
+        progress2.setId(2L);
+        progress2.setCompletedAt(LocalDateTime.of(2024, 3, 1, 10, 0));
+        UserProgress progress3 = new UserProgress();
+        progress3.setId(3L);
+        progress3.setCompletedAt(LocalDateTime.of(2024, 2, 1, 10, 0));
+
+        when(userProgressRepository.findPageByUserId(1L, PageRequest.of(0, 3)))
+                .thenReturn(Arrays.asList(testProgress, progress2, progress3));
+
+        // When
+        KeysetPage<UserProgress> page = userProgressService.getUserProgressPage(1L, null, 2);
+
+        // Then
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasMore());
+        KeysetCursor cursor = KeysetCursor.decode(page.getNextCursor());
+        assertEquals(progress2.getId(), cursor.getId());
+        assertEquals(progress2.getCompletedAt(), cursor.getTimestamp());
+    }
+
+    @Test
+    void getUserProgressPage_WithCursor_ShouldSeekPastIt() {
+        // Given
+        LocalDateTime completedAt = LocalDateTime.of(2024, 3, 1, 10, 0);
+        String cursor = new KeysetCursor(completedAt, 2L).encode();
+        when(userProgressRepository.findPageByUserIdBefore(1L, completedAt, 2L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(testProgress));
+
+        // When
+        KeysetPage<UserProgress> page = userProgressService.getUserProgressPage(1L, cursor, 2);
+
+        // Then
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+        verify(userProgressRepository, never()).findPageByUserId(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void getUserProgressPage_WithInvalidCursor_ShouldThrowIllegalArgument() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> userProgressService.getUserProgressPage(1L, "not-a-cursor", 10));
+        verifyNoInteractions(userProgressRepository);
     }
 
     @Test
@@ -340,4 +462,9 @@ class UserProgressServiceImplTest {
                 () -> userProgressService.getRecentProgressByUserId(999L, 5));
         assertEquals("User not found", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    private UserProgressSummary emptySummary() {
+        return new UserProgressSummary(0L, null, null, null, null, null, null, null, null,
+                0L, 0L, 0L, 0L, 0L, 0L);
+    }
+}
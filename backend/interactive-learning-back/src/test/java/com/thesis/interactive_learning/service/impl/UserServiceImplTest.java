@@ -1,13 +1,18 @@
 package com.thesis.interactive_learning.service.impl;
 
+import com.thesis.interactive_learning.dto.UserStatusVersion;
 import com.thesis.interactive_learning.model.User;
 import com.thesis.interactive_learning.repository.UserRepository;
+import com.thesis.interactive_learning.security.UserStatusCache;
+import com.thesis.interactive_learning.service.UserProgressChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -26,6 +31,12 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserStatusCache userStatusCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -59,6 +70,44 @@ class UserServiceImplTest {
         verify(userRepository, times(1)).save(testUser);
     }
 
+    @Test
+    void saveUser_WhenAdminIsDemoted_ShouldRejectTheOldToken() {
+        // Given
+        UserStatusCache statusCache = new UserStatusCache(userRepository, 30_000);
+        userService = new UserServiceImpl(userRepository, statusCache, eventPublisher);
+        when(userRepository.findStatusVersionById(1L)).thenReturn(
+                Optional.of(new UserStatusVersion(1L, User.UserStatus.ENABLED, User.Role.ADMIN, 2L)),
+                Optional.of(new UserStatusVersion(1L, User.UserStatus.ENABLED, User.Role.ADMIN, 2L)),
+                Optional.of(new UserStatusVersion(1L, User.UserStatus.ENABLED, User.Role.USER, 3L)));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        assertTrue(statusCache.isTokenCurrent(1L, 2L));
+
+        // When
+        User result = userService.saveUser(testUser);
+
+        // Then
+        assertEquals(3L, result.getStatusVersionOrZero());
+        assertFalse(statusCache.isTokenCurrent(1L, 2L));
+    }
+
+    @Test
+    void saveUser_WhenOnlyProfileChanges_ShouldKeepStoredStatusVersion() {
+        // Given
+        testUser.setStatusVersion(0L);
+        testUser.setEmail("new@example.com");
+        when(userRepository.findStatusVersionById(1L)).thenReturn(
+                Optional.of(new UserStatusVersion(1L, User.UserStatus.ENABLED, User.Role.USER, 4L)));
+        when(userRepository.findPasswordById(1L)).thenReturn(Optional.of("password123"));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        User result = userService.saveUser(testUser);
+
+        // Then
+        assertEquals(4L, result.getStatusVersionOrZero());
+        verify(userStatusCache, never()).invalidate(anyLong());
+    }
+
     @Test
     void getUserById_WhenUserExists_ShouldReturnUser() {
         // Given
@@ -158,6 +207,11 @@ class UserServiceImplTest {
 
         // Then
         verify(userRepository, times(1)).deleteById(userId);
+        verify(userStatusCache, times(1)).invalidate(userId);
+
+        ArgumentCaptor<UserProgressChangedEvent> event = ArgumentCaptor.forClass(UserProgressChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(userId, event.getValue().getUserId());
     }
 
     @Test
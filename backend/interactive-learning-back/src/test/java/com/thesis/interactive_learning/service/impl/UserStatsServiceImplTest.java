@@ -0,0 +1,275 @@
+package com.thesis.interactive_learning.service.impl;
+
+import com.thesis.interactive_learning.dto.ProgressBucket;
+import com.thesis.interactive_learning.dto.UserProgressSummary;
+import com.thesis.interactive_learning.model.Quiz;
+import com.thesis.interactive_learning.model.User;
+import com.thesis.interactive_learning.model.UserProgress;
+import com.thesis.interactive_learning.model.UserQuizStats;
+import com.thesis.interactive_learning.model.UserStats;
+import com.thesis.interactive_learning.model.UserStatsBucket;
+import com.thesis.interactive_learning.repository.UserProgressRepository;
+import com.thesis.interactive_learning.repository.UserQuizStatsRepository;
+import com.thesis.interactive_learning.repository.UserRepository;
+import com.thesis.interactive_learning.repository.UserStatsBucketRepository;
+import com.thesis.interactive_learning.repository.UserStatsRepository;
+import com.thesis.interactive_learning.service.UserProgressChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserStatsServiceImplTest {
+
+    @Mock
+    private UserStatsRepository userStatsRepository;
+
+    @Mock
+    private UserStatsBucketRepository userStatsBucketRepository;
+
+    @Mock
+    private UserQuizStatsRepository userQuizStatsRepository;
+
+    @Mock
+    private UserProgressRepository userProgressRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserStatsServiceImpl userStatsService;
+    private UserProgress attempt;
+
+    @BeforeEach
+    void setUp() {
+        userStatsService = new UserStatsServiceImpl(userStatsRepository, userStatsBucketRepository,
+                userQuizStatsRepository, userProgressRepository, userRepository, transactionManager, true);
+
+        User user = new User();
+        user.setId(1L);
+        Quiz quiz = new Quiz();
+        quiz.setId(7L);
+
+        attempt = new UserProgress();
+        attempt.setUser(user);
+        attempt.setQuiz(quiz);
+        attempt.setTotalQuestions(10);
+        attempt.setCorrectAnswers(9);
+        attempt.setAccuracyPercentage(90.0);
+        attempt.setCompletionTimeSeconds(120L);
+        attempt.setCompletedAt(LocalDateTime.of(2025, 3, 14, 10, 0));
+    }
+
+    @Test
+    void recordAttempt_WithExistingRollup_ShouldIncrementStatsBucketsAndQuizStats() {
+        // Given
+        UserStats stats = new UserStats(1L);
+        UserStatsBucket day = new UserStatsBucket(1L, UserStatsBucket.Granularity.DAY, "2025-03-14");
+        day.setAttempts(1);
+        day.setSumAccuracy(50.0);
+
+        when(userStatsRepository.findByUserIdForUpdate(1L)).thenReturn(Optional.of(stats));
+        when(userStatsBucketRepository.findByUserIdAndGranularityAndPeriod(1L, UserStatsBucket.Granularity.DAY, "2025-03-14"))
+                .thenReturn(Optional.of(day));
+        when(userStatsBucketRepository.findByUserIdAndGranularityAndPeriod(1L, UserStatsBucket.Granularity.MONTH, "2025-03"))
+                .thenReturn(Optional.empty());
+        when(userQuizStatsRepository.findByUserIdAndQuizId(1L, 7L)).thenReturn(Optional.empty());
+
+        // When
+        userStatsService.recordAttempt(attempt);
+
+        // Then
+        assertEquals(1, stats.getTotalAttempts());
+        assertEquals(9, stats.getTotalCorrect());
+        assertEquals(1, stats.getExcellentScores());
+        assertEquals(120L, stats.getMaxCompletionTime());
+        verify(userStatsRepository).save(stats);
+
+        assertEquals(2, day.getAttempts());
+        assertEquals(140.0, day.getSumAccuracy(), 0.001);
+
+        ArgumentCaptor<UserQuizStats> quizStats = ArgumentCaptor.forClass(UserQuizStats.class);
+        verify(userQuizStatsRepository).save(quizStats.capture());
+        assertEquals(7L, quizStats.getValue().getQuizId());
+        assertEquals(1, quizStats.getValue().getAttempts());
+        assertEquals(90.0, quizStats.getValue().getBestScore(), 0.001);
+        verify(userStatsRepository, never()).computeFromHistory(any());
+    }
+
+    @Test
+    void recordAttempt_WithoutRollup_ShouldRebuildFromHistory() {
+        // Given
+        when(userStatsRepository.findByUserIdForUpdate(1L)).thenReturn(Optional.empty());
+        when(userStatsRepository.computeFromHistory(1L)).thenReturn(Optional.of(new UserStats(1L)));
+        stubRebuild(1L);
+
+        // When
+        userStatsService.recordAttempt(attempt);
+
+        // Then
+        verify(userStatsRepository, times(1)).computeFromHistory(1L);
+        verify(userStatsBucketRepository, times(1)).deleteByUserId(1L);
+        verify(userQuizStatsRepository, times(1)).deleteByUserId(1L);
+        verify(userStatsBucketRepository, times(1)).saveAll(anyList());
+        verify(userQuizStatsRepository, never()).findByUserIdAndQuizId(any(), any());
+    }
+
+    @Test
+    void onUserProgressChanged_WhenFirstRollupRaces_ShouldRetryAsRebuild() {
+        // Given
+        when(userStatsRepository.findByUserIdForUpdate(1L)).thenReturn(Optional.empty());
+        when(userStatsRepository.computeFromHistory(1L)).thenReturn(Optional.of(new UserStats(1L)));
+        when(userStatsRepository.saveAndFlush(any(UserStats.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry for key PRIMARY"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(userStatsBucketRepository.computeDailyFromHistory(eq(1L), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
+        when(userStatsBucketRepository.computeMonthlyFromHistory(1L)).thenReturn(Collections.emptyList());
+        when(userQuizStatsRepository.computeFromHistory(1L)).thenReturn(Collections.emptyList());
+
+        // When
+        userStatsService.onUserProgressChanged(UserProgressChangedEvent.attemptAdded(attempt));
+
+        // Then
+        verify(userStatsRepository, times(2)).saveAndFlush(any(UserStats.class));
+        verify(userStatsBucketRepository, times(1)).saveAll(anyList());
+        verify(userQuizStatsRepository, never()).save(any());
+    }
+
+    @Test
+    void onUserProgressChanged_WhenUserDeleted_ShouldDropRollups() {
+        // Given
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        // When
+        userStatsService.onUserProgressChanged(UserProgressChangedEvent.historyChanged(1L));
+
+        // Then
+        verify(userStatsRepository).deleteByUserId(1L);
+        verify(userStatsBucketRepository).deleteByUserId(1L);
+        verify(userQuizStatsRepository).deleteByUserId(1L);
+        verify(userStatsRepository, never()).computeFromHistory(any());
+    }
+
+    @Test
+    void rebuildAll_ShouldRebuildExistingUsersAndDropOrphans() {
+        // Given
+        when(userStatsRepository.findUserIdsWithProgress()).thenReturn(List.of(1L));
+        when(userStatsRepository.findUserIdsOfExistingUsers()).thenReturn(List.of(1L, 2L));
+        when(userStatsRepository.deleteOrphans()).thenReturn(3);
+        stubRebuild(1L);
+        stubRebuild(2L);
+
+        // When
+        userStatsService.rebuildAll();
+
+        // Then
+        verify(userStatsRepository).computeFromHistory(1L);
+        verify(userStatsRepository).computeFromHistory(2L);
+        verify(userStatsRepository, never()).findAll();
+        verify(userStatsRepository).deleteOrphans();
+        verify(userStatsBucketRepository).deleteOrphans();
+        verify(userQuizStatsRepository).deleteOrphans();
+    }
+
+    @Test
+    void getSummary_WithoutRollup_ShouldUseAggregateQueryWithoutWriting() {
+        // Given
+        UserProgressSummary live = new UserProgressSummary(2L, 75.0, 60.0, 90.0, 20L, 15L, 100.0, 80L, 120L,
+                1L, 0L, 0L, 1L, 1L, 1L);
+        when(userStatsRepository.findById(1L)).thenReturn(Optional.empty());
+        when(userProgressRepository.summarizeByUserId(eq(1L), any(LocalDateTime.class))).thenReturn(live);
+
+        // When
+        UserProgressSummary summary = userStatsService.getSummary(1L, LocalDateTime.now().minusDays(7));
+
+        // Then
+        assertSame(live, summary);
+        verify(userStatsRepository, never()).saveAndFlush(any());
+        verify(userStatsRepository, never()).save(any());
+        verifyNoInteractions(userStatsBucketRepository);
+    }
+
+    @Test
+    void getSummary_ShouldCombineRollupWithRecentDayBuckets() {
+        // Given
+        UserStats stats = new UserStats(1L);
+        stats.apply(attempt);
+        UserStatsBucket recent = new UserStatsBucket(1L, LocalDate.now(), 3L, 210.0);
+
+        when(userStatsRepository.findById(1L)).thenReturn(Optional.of(stats));
+        when(userStatsBucketRepository.findRecent(eq(1L), eq(UserStatsBucket.Granularity.DAY), any(String.class)))
+                .thenReturn(List.of(recent));
+        when(userQuizStatsRepository.countQuizzesByUserId(1L)).thenReturn(1L);
+
+        // When
+        UserProgressSummary summary = userStatsService.getSummary(1L, LocalDateTime.now().minusDays(7));
+
+        // Then
+        assertEquals(1L, summary.getAttempts());
+        assertEquals(90.0, summary.getAverageAccuracy(), 0.001);
+        assertEquals(3L, summary.getRecentAttempts());
+        assertEquals(1L, summary.getUniqueQuizzes());
+        verify(userProgressRepository, never()).summarizeByUserId(any(), any());
+    }
+
+    private void stubRebuild(Long userId) {
+        when(userStatsRepository.computeFromHistory(userId)).thenReturn(Optional.of(new UserStats(userId)));
+        when(userStatsRepository.saveAndFlush(argThat(stats -> stats != null && userId.equals(stats.getUserId()))))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(userStatsBucketRepository.computeDailyFromHistory(eq(userId), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
+        when(userStatsBucketRepository.computeMonthlyFromHistory(userId)).thenReturn(Collections.emptyList());
+        when(userQuizStatsRepository.computeFromHistory(userId)).thenReturn(Collections.emptyList());
+    }
+
+    @Test
+    void getMonthlyProgress_WhenRollupDisabled_ShouldUseAggregateQuery() {
+        // Given
+        UserStatsServiceImpl fallbackService = new UserStatsServiceImpl(userStatsRepository, userStatsBucketRepository,
+                userQuizStatsRepository, userProgressRepository, userRepository, transactionManager, false);
+        when(userProgressRepository.summarizeMonthlyProgress(eq(1L), any(LocalDateTime.class)))
+                .thenReturn(List.of(new ProgressBucket("2025-03", 2L, 75.0)));
+
+        // When
+        List<ProgressBucket> months = fallbackService.getMonthlyProgress(1L, YearMonth.of(2025, 1));
+
+        // Then
+        assertEquals(1, months.size());
+        verify(userProgressRepository).summarizeMonthlyProgress(1L, LocalDateTime.of(2025, 1, 1, 0, 0));
+        verifyNoInteractions(userStatsBucketRepository);
+    }
+
+    @Test
+    void getPlatformAverageAccuracy_ShouldReadRollupsNotHistory() {
+        // Given
+        when(userStatsRepository.getPlatformAverageAccuracy()).thenReturn(81.5);
+
+        // When
+        Double average = userStatsService.getPlatformAverageAccuracy();
+
+        // Then
+        assertEquals(81.5, average);
+        verify(userProgressRepository, never()).getPlatformAverageAccuracy();
+    }
+}